@@ -54,6 +54,7 @@ import org.jooq.meta.jaxb.Configuration;
 import org.jooq.meta.jaxb.Target;
 import org.jooq.util.jaxb.tools.MiniJAXB;
 
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -226,6 +227,14 @@ public class Plugin extends AbstractMojo {
         }
 
         project.addCompileSourceRoot(generator.getTarget().getDirectory());
+
+        if (generator.getGenerate() != null
+                && Boolean.TRUE.equals(generator.getGenerate().isNativeImageSupport())
+                && generator.getTarget().getResourceDirectory() != null) {
+            Resource resource = new Resource();
+            resource.setDirectory(generator.getTarget().getResourceDirectory());
+            project.addResource(resource);
+        }
     }
 
     private void read(String file) {
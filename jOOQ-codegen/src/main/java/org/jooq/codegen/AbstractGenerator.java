@@ -98,6 +98,7 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generatePojosAsKotlinDataClasses                 = true;
     boolean                            generatePojosEqualsAndHashCode                   = false;
     boolean                            generatePojosToString                            = true;
+    boolean                            generatePojosRecordMappers                       = false;
     boolean                            generateImmutablePojos                           = false;
     boolean                            generateSerializablePojos                        = true;
     boolean                            generateInterfaces                               = false;
@@ -127,6 +128,8 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateGlobalLinkReferences                     = true;
     boolean                            generateGlobalKeyReferences                      = true;
     boolean                            generateGlobalIndexReferences                    = true;
+    boolean                            generateLazyReferences;
+    boolean                            generateNativeImageSupport;
     boolean                            generateJavadoc                                  = true;
     boolean                            generateComments                                 = true;
     boolean                            generateCommentsOnAttributes                     = true;
@@ -156,9 +159,13 @@ abstract class AbstractGenerator implements Generator {
     String                             generateNewline                                  = "\n";
     String                             generateIndentation;
     int                                generatePrintMarginForBlockComment               = 80;
+    int                                generateConcurrency                              = 1;
+    boolean                            generateIncremental;
+    String                             configurationFingerprint;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                                   = "UTF-8";
+    protected String                   targetResourceDirectory                          = GenerationTool.DEFAULT_TARGET_RESOURCES;
     protected boolean                  targetClean                                      = true;
     final Language                     languageConfigured;
     Language                           language;
@@ -828,6 +835,26 @@ abstract class AbstractGenerator implements Generator {
         this.generateGlobalIndexReferences = globalIndexReferences;
     }
 
+    @Override
+    public boolean generateLazyReferences() {
+        return generateLazyReferences;
+    }
+
+    @Override
+    public void setGenerateLazyReferences(boolean lazyReferences) {
+        this.generateLazyReferences = lazyReferences;
+    }
+
+    @Override
+    public boolean generateNativeImageSupport() {
+        return generateNativeImageSupport;
+    }
+
+    @Override
+    public void setGenerateNativeImageSupport(boolean nativeImageSupport) {
+        this.generateNativeImageSupport = nativeImageSupport;
+    }
+
     @Override
     public boolean generateQueues() {
         return generateQueues;
@@ -1100,6 +1127,16 @@ abstract class AbstractGenerator implements Generator {
         this.generatePojosToString = generatePojosToString;
     }
 
+    @Override
+    public boolean generatePojosRecordMappers() {
+        return generatePojosRecordMappers;
+    }
+
+    @Override
+    public void setGeneratePojosRecordMappers(boolean generatePojosRecordMappers) {
+        this.generatePojosRecordMappers = generatePojosRecordMappers;
+    }
+
     @Override
     @Deprecated
     public String fullyQualifiedTypes() {
@@ -1184,6 +1221,36 @@ abstract class AbstractGenerator implements Generator {
         this.generatePrintMarginForBlockComment = printMarginForBlockComment;
     }
 
+    @Override
+    public int generateConcurrency() {
+        return generateConcurrency;
+    }
+
+    @Override
+    public void setGenerateConcurrency(int concurrency) {
+        this.generateConcurrency = concurrency;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean incremental) {
+        this.generateIncremental = incremental;
+    }
+
+    @Override
+    public String getConfigurationFingerprint() {
+        return configurationFingerprint;
+    }
+
+    @Override
+    public void setConfigurationFingerprint(String configurationFingerprint) {
+        this.configurationFingerprint = configurationFingerprint;
+    }
+
     // ----
 
     @Override
@@ -1196,6 +1263,16 @@ abstract class AbstractGenerator implements Generator {
         return strategy.getTargetDirectory();
     }
 
+    @Override
+    public void setTargetResourceDirectory(String directory) {
+        this.targetResourceDirectory = directory;
+    }
+
+    @Override
+    public String getTargetResourceDirectory() {
+        return targetResourceDirectory;
+    }
+
     @Override
     public void setTargetPackage(String packageName) {
         strategy.setTargetPackage(packageName);
@@ -0,0 +1,230 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Log;
+
+/**
+ * A {@link Log} that buffers its output while a concurrent generation unit is
+ * running on the current thread, so the output can be replayed in a
+ * deterministic order, once all units have finished.
+ *
+ * @author Lukas Eder
+ */
+final class BufferedLog implements Log {
+
+    private static final ThreadLocal<List<Runnable>> BUFFER = new ThreadLocal<>();
+    private final Log                                delegate;
+
+    BufferedLog(Log delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Run a task and return all the actions that were deferred by it.
+     */
+    static final List<Runnable> buffer(Runnable task) {
+        List<Runnable> result = new ArrayList<>();
+        BUFFER.set(result);
+
+        try {
+            task.run();
+        }
+        finally {
+            BUFFER.remove();
+        }
+
+        return result;
+    }
+
+    /**
+     * Defer an action if the current thread is buffering, or run it
+     * immediately otherwise.
+     */
+    static final void defer(Runnable action) {
+        List<Runnable> buffer = BUFFER.get();
+
+        if (buffer != null)
+            buffer.add(action);
+        else
+            action.run();
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return delegate.isTraceEnabled();
+    }
+
+    @Override
+    public void trace(Object message) {
+        defer(() -> delegate.trace(message));
+    }
+
+    @Override
+    public void trace(Object message, Object details) {
+        defer(() -> delegate.trace(message, details));
+    }
+
+    @Override
+    public void trace(Object message, Throwable throwable) {
+        defer(() -> delegate.trace(message, throwable));
+    }
+
+    @Override
+    public void trace(Object message, Object details, Throwable throwable) {
+        defer(() -> delegate.trace(message, details, throwable));
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(Object message) {
+        defer(() -> delegate.debug(message));
+    }
+
+    @Override
+    public void debug(Object message, Object details) {
+        defer(() -> delegate.debug(message, details));
+    }
+
+    @Override
+    public void debug(Object message, Throwable throwable) {
+        defer(() -> delegate.debug(message, throwable));
+    }
+
+    @Override
+    public void debug(Object message, Object details, Throwable throwable) {
+        defer(() -> delegate.debug(message, details, throwable));
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public void info(Object message) {
+        defer(() -> delegate.info(message));
+    }
+
+    @Override
+    public void info(Object message, Object details) {
+        defer(() -> delegate.info(message, details));
+    }
+
+    @Override
+    public void info(Object message, Throwable throwable) {
+        defer(() -> delegate.info(message, throwable));
+    }
+
+    @Override
+    public void info(Object message, Object details, Throwable throwable) {
+        defer(() -> delegate.info(message, details, throwable));
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(Object message) {
+        defer(() -> delegate.warn(message));
+    }
+
+    @Override
+    public void warn(Object message, Object details) {
+        defer(() -> delegate.warn(message, details));
+    }
+
+    @Override
+    public void warn(Object message, Throwable throwable) {
+        defer(() -> delegate.warn(message, throwable));
+    }
+
+    @Override
+    public void warn(Object message, Object details, Throwable throwable) {
+        defer(() -> delegate.warn(message, details, throwable));
+    }
+
+    @Override
+    public void error(Object message) {
+        defer(() -> delegate.error(message));
+    }
+
+    @Override
+    public void error(Object message, Object details) {
+        defer(() -> delegate.error(message, details));
+    }
+
+    @Override
+    public void error(Object message, Throwable throwable) {
+        defer(() -> delegate.error(message, throwable));
+    }
+
+    @Override
+    public void error(Object message, Object details, Throwable throwable) {
+        defer(() -> delegate.error(message, details, throwable));
+    }
+
+    @Override
+    public void log(Level level, Object message) {
+        defer(() -> delegate.log(level, message));
+    }
+
+    @Override
+    public void log(Level level, Object message, Object details) {
+        defer(() -> delegate.log(level, message, details));
+    }
+
+    @Override
+    public void log(Level level, Object message, Throwable throwable) {
+        defer(() -> delegate.log(level, message, throwable));
+    }
+
+    @Override
+    public void log(Level level, Object message, Object details, Throwable throwable) {
+        defer(() -> delegate.log(level, message, details, throwable));
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.Constants;
+import org.jooq.meta.ArrayDefinition;
+import org.jooq.meta.AttributeDefinition;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Definition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IdentityDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.TypedElementDefinition;
+import org.jooq.meta.UDTDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * The fingerprints of definitions generated by a previous and by the current
+ * code generation run.
+ * <p>
+ * A fingerprint is a hash over the meta data of a definition and over the
+ * code generation configuration. If a definition's fingerprint hasn't changed
+ * since the previous run, and all of its previously generated files still
+ * exist, the definition doesn't need to be generated again.
+ *
+ * @author Lukas Eder
+ */
+final class Fingerprints {
+
+    private static final JooqLogger  log = JooqLogger.getLogger(Fingerprints.class);
+
+    private final File               file;
+    private final String             configuration;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current;
+
+    Fingerprints(File directory, String configuration) {
+        this.file = new File(directory, ".jooq-fingerprints");
+        this.configuration = Constants.VERSION + "\n" + configuration;
+        this.previous = new TreeMap<>();
+        this.current = new ConcurrentHashMap<>();
+
+        if (file.exists()) {
+            try (BufferedReader reader = java.nio.file.Files.newBufferedReader(file.toPath(), UTF_8)) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty() || line.startsWith("#"))
+                        continue;
+
+                    String[] split = line.split("\t");
+                    Entry entry = new Entry(split[1], false);
+
+                    for (int i = 2; i < split.length; i++)
+                        entry.files.add(new File(directory, split[i]));
+
+                    previous.put(split[0], entry);
+                }
+            }
+            catch (IOException | RuntimeException e) {
+                log.warn("Cannot read fingerprints from " + file + ". Regenerating all definitions.", e);
+                previous.clear();
+            }
+        }
+    }
+
+    /**
+     * Whether a definition is unchanged since the previous run.
+     * <p>
+     * The first call for a given id decides whether the definition is
+     * regenerated in this run, subsequent calls return the same result.
+     */
+    final boolean unchanged(String id, Definition definition) {
+        return current.computeIfAbsent(id, i -> {
+            String fingerprint = fingerprint(definition);
+            Entry p = previous.get(i);
+
+            if (p != null && p.fingerprint.equals(fingerprint) && p.files.stream().allMatch(File::exists)) {
+                Entry result = new Entry(fingerprint, true);
+                result.files.addAll(p.files);
+                return result;
+            }
+
+            return new Entry(fingerprint, false);
+        }).unchanged;
+    }
+
+    /**
+     * Record a file that was generated for a definition in this run.
+     */
+    final void file(String id, File f) {
+        Entry entry = current.get(id);
+
+        if (entry != null)
+            entry.files.add(f);
+    }
+
+    /**
+     * Make sure a definition is regenerated in the next run, e.g. because its
+     * generation failed.
+     */
+    final void invalidate(String id) {
+        Entry entry = current.get(id);
+
+        if (entry != null)
+            entry.invalid = true;
+    }
+
+    /**
+     * The files of all unchanged definitions, which were not generated again.
+     */
+    final Set<File> unchangedFiles() {
+        Set<File> result = new TreeSet<>();
+
+        for (Entry entry : current.values())
+            if (entry.unchanged)
+                result.addAll(entry.files);
+
+        return result;
+    }
+
+    /**
+     * The number of unchanged definitions.
+     */
+    final int unchangedCount() {
+        return (int) current.values().stream().filter(e -> e.unchanged).count();
+    }
+
+    /**
+     * Store the fingerprints of this run for the next run.
+     */
+    final void store() {
+        File directory = file.getParentFile();
+        directory.mkdirs();
+
+        try (PrintWriter writer = new PrintWriter(java.nio.file.Files.newBufferedWriter(file.toPath(), UTF_8))) {
+            writer.print("# jOOQ code generation fingerprints. Do not edit.\n");
+
+            for (Map.Entry<String, Entry> e : new TreeMap<>(current).entrySet()) {
+                if (e.getValue().invalid)
+                    continue;
+
+                writer.print(e.getKey());
+                writer.print('\t');
+                writer.print(e.getValue().fingerprint);
+
+                for (File f : new TreeSet<>(e.getValue().files)) {
+                    writer.print('\t');
+                    writer.print(directory.toPath().relativize(f.toPath()).toString().replace(File.separatorChar, '/'));
+                }
+
+                writer.print('\n');
+            }
+        }
+        catch (IOException e) {
+            log.warn("Cannot write fingerprints to " + file, e);
+        }
+    }
+
+    private final String fingerprint(Definition definition) {
+        StringBuilder sb = new StringBuilder(configuration);
+
+        sb.append('\n').append(definition.getDatabase().getDialect());
+
+        definition(sb, definition);
+
+        if (definition instanceof TableDefinition) {
+            TableDefinition t = (TableDefinition) definition;
+
+            sb.append("\ntable ")
+              .append(t.isView()).append(' ')
+              .append(t.isMaterializedView()).append(' ')
+              .append(t.isTemporary()).append(' ')
+              .append(t.isTableValuedFunction()).append(' ')
+              .append(t.isSynthetic());
+            typed(sb, t.getColumns());
+
+            if (t.isTableValuedFunction())
+                typed(sb, t.getParameters());
+
+            for (ColumnDefinition column : t.getColumns())
+                sb.append("\nreadonly ").append(column.isReadonly());
+
+            for (UniqueKeyDefinition key : t.getKeys()) {
+                definition(sb, key);
+                sb.append(' ').append(key.isPrimaryKey());
+                names(sb, key.getKeyColumns());
+
+                // Inbound references may produce navigation methods
+                for (ForeignKeyDefinition fk : key.getForeignKeys())
+                    definition(sb, fk);
+            }
+
+            for (ForeignKeyDefinition fk : t.getForeignKeys()) {
+                definition(sb, fk);
+                names(sb, fk.getKeyColumns());
+                definition(sb, fk.getReferencedTable());
+                definition(sb, fk.getReferencedKey());
+                names(sb, fk.getReferencedColumns());
+            }
+
+            for (IndexDefinition index : t.getIndexes()) {
+                definition(sb, index);
+                sb.append(' ').append(index.isUnique());
+
+                for (IndexColumnDefinition column : index.getIndexColumns())
+                    sb.append(' ').append(column.getOutputName()).append(' ').append(column.getSortOrder());
+            }
+
+            for (CheckConstraintDefinition check : t.getCheckConstraints()) {
+                definition(sb, check);
+                sb.append(' ').append(check.getCheckClause());
+            }
+
+            IdentityDefinition identity = t.getIdentity();
+            if (identity != null)
+                definition(sb, identity.getColumn());
+
+            for (EmbeddableDefinition embeddable : t.getReferencedEmbeddables()) {
+                definition(sb, embeddable);
+                sb.append(' ').append(embeddable.getReferencingOutputName()).append(' ').append(embeddable.replacesFields());
+                typed(sb, embeddable.getColumns());
+            }
+        }
+        else if (definition instanceof UDTDefinition) {
+            UDTDefinition u = (UDTDefinition) definition;
+
+            sb.append("\nudt ").append(u.isSynthetic());
+            typed(sb, u.getAttributes());
+
+            for (RoutineDefinition routine : u.getRoutines())
+                routine(sb, routine);
+        }
+        else if (definition instanceof RoutineDefinition) {
+            routine(sb, (RoutineDefinition) definition);
+        }
+        else if (definition instanceof ArrayDefinition) {
+            ArrayDefinition a = (ArrayDefinition) definition;
+
+            sb.append("\narray");
+            type(sb, a.getElementType());
+            type(sb, a.getIndexType());
+        }
+
+        return sha256(sb.toString());
+    }
+
+    private static final void routine(StringBuilder sb, RoutineDefinition routine) {
+        definition(sb, routine);
+        sb.append(' ').append(routine.isSQLUsable()).append(' ').append(routine.isAggregate());
+
+        if (routine.getReturnValue() != null)
+            typed(sb, routine.getReturnValue());
+
+        for (ParameterDefinition parameter : routine.getAllParameters()) {
+            typed(sb, parameter);
+            sb.append(' ').append(routine.getInParameters().contains(parameter))
+              .append(' ').append(routine.getOutParameters().contains(parameter))
+              .append(' ').append(parameter.isDefaulted())
+              .append(' ').append(parameter.isUnnamed());
+        }
+    }
+
+    private static final void definition(StringBuilder sb, Definition definition) {
+        if (definition == null)
+            sb.append("\nnull");
+        else
+            sb.append('\n')
+              .append(definition.getClass().getName()).append(' ')
+              .append(definition.getQualifiedInputName()).append(' ')
+              .append(definition.getQualifiedOutputName()).append(' ')
+              .append(definition.getOverload()).append(' ')
+              .append(definition.getComment());
+    }
+
+    private static final void names(StringBuilder sb, List<? extends Definition> definitions) {
+        for (Definition definition : definitions)
+            sb.append(' ').append(definition.getOutputName());
+    }
+
+    private static final void typed(StringBuilder sb, List<? extends TypedElementDefinition<?>> elements) {
+        for (TypedElementDefinition<?> element : elements)
+            typed(sb, element);
+    }
+
+    private static final void typed(StringBuilder sb, TypedElementDefinition<?> element) {
+        definition(sb, element);
+        type(sb, element.getType());
+        type(sb, element.getDefinedType());
+        definition(sb, element.getDomain());
+    }
+
+    private static final void type(StringBuilder sb, DataTypeDefinition type) {
+        if (type == null)
+            sb.append("\nnull");
+        else
+            sb.append('\n')
+              .append(type.getType()).append(' ')
+              .append(type.getLength()).append(' ')
+              .append(type.getPrecision()).append(' ')
+              .append(type.getScale()).append(' ')
+              .append(type.getUserType()).append(' ')
+              .append(type.getQualifiedUserType()).append(' ')
+              .append(type.getJavaType()).append(' ')
+              .append(type.getConverter()).append(' ')
+              .append(type.getBinding()).append(' ')
+              .append(type.isNullable()).append(' ')
+              .append(type.isReadonly()).append(' ')
+              .append(type.isComputed()).append(' ')
+              .append(type.getGeneratedAlwaysAs()).append(' ')
+              .append(type.getGenerationOption()).append(' ')
+              .append(type.isIdentity()).append(' ')
+              .append(type.isDefaulted()).append(' ')
+              .append(type.getDefaultValue());
+    }
+
+    private static final String sha256(String string) {
+        try {
+            StringBuilder sb = new StringBuilder();
+
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(string.getBytes(UTF_8)))
+                sb.append(String.format("%02x", b));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Entry {
+        final String    fingerprint;
+        final boolean   unchanged;
+        final Set<File> files;
+        volatile boolean invalid;
+
+        Entry(String fingerprint, boolean unchanged) {
+            this.fingerprint = fingerprint;
+            this.unchanged = unchanged;
+            this.files = ConcurrentHashMap.newKeySet();
+        }
+    }
+}
@@ -66,10 +66,13 @@ import java.util.Properties;
 
 import javax.sql.DataSource;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
 import org.jooq.DSLContext;
 import org.jooq.Log.Level;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.meta.CatalogVersionProvider;
 import org.jooq.meta.Database;
 import org.jooq.meta.Databases;
@@ -109,6 +112,7 @@ public class GenerationTool {
 
     public static final String      DEFAULT_TARGET_ENCODING    = "UTF-8";
     public static final String      DEFAULT_TARGET_DIRECTORY   = "target/generated-sources/jooq";
+    public static final String      DEFAULT_TARGET_RESOURCES   = "target/generated-resources/jooq";
     public static final String      DEFAULT_TARGET_PACKAGENAME = "org.jooq.generated";
 
     private static final JooqLogger log                        = JooqLogger.getLogger(GenerationTool.class);
@@ -313,6 +317,7 @@ public class GenerationTool {
             locale = Locale.forLanguageTag(g.getTarget().getLocale());
 
         Database database = null;
+        ConnectionProvider connectionProvider = null;
 
         try {
 
@@ -323,6 +328,7 @@ public class GenerationTool {
 
                 if (dataSource != null) {
                     setConnection(dataSource.getConnection());
+                    connectionProvider = new DataSourceConnectionProvider(dataSource);
                 }
                 else {
                     String url = System.getProperty("jooq.codegen.jdbc.url");
@@ -360,6 +366,7 @@ public class GenerationTool {
                                 properties.put("password", defaultString(j.getPassword()));
 
                             setConnection(driver.newInstance().connect(defaultString(j.getUrl()), properties));
+                            connectionProvider = new DriverConnectionProvider(driver, defaultString(j.getUrl()), properties, j.isAutoCommit());
                         }
                         catch (Exception e) {
                             if (databaseName != null)
@@ -581,6 +588,8 @@ public class GenerationTool {
             database.setReadonlyNonUpdatableColumns(!FALSE.equals(d.isReadonlyNonUpdatableColumns()));
             database.setLogSlowQueriesAfterSeconds(defaultIfNull(d.getLogSlowQueriesAfterSeconds(), 5));
             database.setLogSlowResultsAfterSeconds(defaultIfNull(d.getLogSlowResultsAfterSeconds(), 5));
+            database.setFetchConcurrency(defaultIfNull(d.getFetchConcurrency(), 1));
+            database.setConnectionProvider(connectionProvider);
 
             if (d.getRegexFlags() != null) {
                 database.setRegexFlags(d.getRegexFlags());
@@ -667,15 +676,20 @@ public class GenerationTool {
                 g.getTarget().setPackageName(DEFAULT_TARGET_PACKAGENAME);
             if (isBlank(g.getTarget().getDirectory()))
                 g.getTarget().setDirectory(DEFAULT_TARGET_DIRECTORY);
+            if (isBlank(g.getTarget().getResourceDirectory()))
+                g.getTarget().setResourceDirectory(DEFAULT_TARGET_RESOURCES);
             if (isBlank(g.getTarget().getEncoding()))
                 g.getTarget().setEncoding(DEFAULT_TARGET_ENCODING);
 
             // [#2887] [#9727] Patch relative paths to take plugin execution basedir into account
             if (!new File(g.getTarget().getDirectory()).isAbsolute())
                 g.getTarget().setDirectory(new File(configuration.getBasedir(), g.getTarget().getDirectory()).getCanonicalPath());
+            if (!new File(g.getTarget().getResourceDirectory()).isAbsolute())
+                g.getTarget().setResourceDirectory(new File(configuration.getBasedir(), g.getTarget().getResourceDirectory()).getCanonicalPath());
 
             generator.setTargetPackage(g.getTarget().getPackageName());
             generator.setTargetDirectory(g.getTarget().getDirectory());
+            generator.setTargetResourceDirectory(g.getTarget().getResourceDirectory());
             generator.setTargetEncoding(g.getTarget().getEncoding());
 
             if (g.getTarget().isClean() != null)
@@ -800,6 +814,10 @@ public class GenerationTool {
                 generator.setGenerateGlobalKeyReferences(g.getGenerate().isGlobalKeyReferences());
             if (g.getGenerate().isGlobalIndexReferences() != null)
                 generator.setGenerateGlobalIndexReferences(g.getGenerate().isGlobalIndexReferences());
+            if (g.getGenerate().isLazyReferences() != null)
+                generator.setGenerateLazyReferences(g.getGenerate().isLazyReferences());
+            if (g.getGenerate().isNativeImageSupport() != null)
+                generator.setGenerateNativeImageSupport(g.getGenerate().isNativeImageSupport());
             if (g.getGenerate().isJavadoc() != null)
                 generator.setGenerateJavadoc(g.getGenerate().isJavadoc());
             if (g.getGenerate().isComments() != null)
@@ -846,6 +864,8 @@ public class GenerationTool {
                 generator.setGeneratePojosEqualsAndHashCode(g.getGenerate().isPojosEqualsAndHashCode());
             if (g.getGenerate().isPojosToString() != null)
                 generator.setGeneratePojosToString(g.getGenerate().isPojosToString());
+            if (g.getGenerate().isPojosRecordMappers() != null)
+                generator.setGeneratePojosRecordMappers(g.getGenerate().isPojosRecordMappers());
             if (g.getGenerate().getFullyQualifiedTypes() != null)
                 generator.setGenerateFullyQualifiedTypes(g.getGenerate().getFullyQualifiedTypes());
             if (g.getGenerate().isJavaTimeTypes() != null)
@@ -860,6 +880,10 @@ public class GenerationTool {
                 generator.setGenerateIndentation(g.getGenerate().getIndentation());
             if (g.getGenerate().getPrintMarginForBlockComment() != null)
                 generator.setGeneratePrintMarginForBlockComment(g.getGenerate().getPrintMarginForBlockComment());
+            if (g.getGenerate().getConcurrency() != null)
+                generator.setGenerateConcurrency(g.getGenerate().getConcurrency());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
 
 
             if (!isBlank(d.getSchemaVersionProvider()))
@@ -884,6 +908,18 @@ public class GenerationTool {
             strategy.setJavaBeansGettersAndSetters(generator.generateJavaBeansGettersAndSetters());
 
             verifyVersions();
+
+            // Any change in the configuration invalidates incrementally generated code
+            if (generator.generateIncremental())
+                generator.setConfigurationFingerprint(g.toString());
+
+            if (database.getFetchConcurrency() > 1) {
+                if (database.getConnectionProvider() == null)
+                    log.info("Concurrent meta data fetching requires a <jdbc/> configuration or a DataSource. Fetching meta data on a single connection instead.");
+
+                database.prefetch();
+            }
+
             generator.generate(database);
 
             logUnused("forced type", "forced types", database.getUnusedForcedTypes());
@@ -921,6 +957,45 @@ public class GenerationTool {
         }
     }
 
+    /**
+     * A {@link ConnectionProvider} that connects to the database with the
+     * <code>&lt;jdbc/&gt;</code> configuration, for concurrent meta data
+     * fetching.
+     */
+    private static final class DriverConnectionProvider implements ConnectionProvider {
+        private final Class<? extends Driver> driver;
+        private final String                  url;
+        private final Properties              properties;
+        private final Boolean                 autoCommit;
+
+        DriverConnectionProvider(Class<? extends Driver> driver, String url, Properties properties, Boolean autoCommit) {
+            this.driver = driver;
+            this.url = url;
+            this.properties = properties;
+            this.autoCommit = autoCommit;
+        }
+
+        @Override
+        public Connection acquire() {
+            try {
+                Connection c = driver.newInstance().connect(url, properties);
+
+                if (autoCommit != null)
+                    c.setAutoCommit(autoCommit);
+
+                return c;
+            }
+            catch (Exception e) {
+                throw new DataAccessException("Error while connecting to " + url, e);
+            }
+        }
+
+        @Override
+        public void release(Connection c) {
+            JDBCUtils.safeClose(c);
+        }
+    }
+
     private void verifyVersions() {
 
         // [#12488] Check if all of jOOQ, jOOQ-meta, jOOQ-codegen are using the same versions and editions
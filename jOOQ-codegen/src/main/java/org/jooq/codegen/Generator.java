@@ -704,6 +704,32 @@ public interface Generator {
      */
     void setGenerateGlobalIndexReferences(boolean globalIndexReferences);
 
+    /**
+     * Whether schema, catalog, and key references should be initialised
+     * lazily.
+     */
+    boolean generateLazyReferences();
+
+    /**
+     * Whether schema, catalog, and key references should be initialised
+     * lazily.
+     */
+    void setGenerateLazyReferences(boolean lazyReferences);
+
+    /**
+     * Whether GraalVM native image configuration should be generated, and
+     * whether generated records should be registered with jOOQ for reflection
+     * free construction.
+     */
+    boolean generateNativeImageSupport();
+
+    /**
+     * Whether GraalVM native image configuration should be generated, and
+     * whether generated records should be registered with jOOQ for reflection
+     * free construction.
+     */
+    void setGenerateNativeImageSupport(boolean nativeImageSupport);
+
     /**
      * Whether any Javadoc should be generated.
      */
@@ -982,6 +1008,20 @@ public interface Generator {
      */
     void setGeneratePojosToString(boolean generatePojosToString);
 
+    /**
+     * Whether reflection free {@link org.jooq.RecordMapper} and
+     * {@link org.jooq.RecordUnmapper} implementations should be generated for
+     * POJOs
+     */
+    boolean generatePojosRecordMappers();
+
+    /**
+     * Whether reflection free {@link org.jooq.RecordMapper} and
+     * {@link org.jooq.RecordUnmapper} implementations should be generated for
+     * POJOs
+     */
+    void setGeneratePojosRecordMappers(boolean generatePojosRecordMappers);
+
     /**
      * A regular expression matching all the types in generated code that should
      * be fully qualified.
@@ -1079,6 +1119,40 @@ public interface Generator {
      */
     void setGeneratePrintMarginForBlockComment(int printMarginForBlockComment);
 
+    /**
+     * The number of threads used to generate files concurrently.
+     */
+    int generateConcurrency();
+
+    /**
+     * The number of threads used to generate files concurrently.
+     */
+    void setGenerateConcurrency(int concurrency);
+
+    /**
+     * Whether to skip generating definitions whose fingerprint has not
+     * changed since the previous run.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether to skip generating definitions whose fingerprint has not
+     * changed since the previous run.
+     */
+    void setGenerateIncremental(boolean incremental);
+
+    /**
+     * A fingerprint of the code generation configuration, which invalidates
+     * all definition fingerprints when it changes.
+     */
+    String getConfigurationFingerprint();
+
+    /**
+     * A fingerprint of the code generation configuration, which invalidates
+     * all definition fingerprints when it changes.
+     */
+    void setConfigurationFingerprint(String configurationFingerprint);
+
     /**
      * The target directory
      */
@@ -1089,6 +1163,16 @@ public interface Generator {
      */
     void setTargetDirectory(String directory);
 
+    /**
+     * The target directory for generated resources
+     */
+    String getTargetResourceDirectory();
+
+    /**
+     * Initialise the target directory for generated resources
+     */
+    void setTargetResourceDirectory(String directory);
+
     /**
      * The target encoding
      */
@@ -82,7 +82,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -102,6 +108,7 @@ import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.Index;
+import org.jooq.Log;
 // ...
 import org.jooq.Name;
 import org.jooq.OrderField;
@@ -133,6 +140,7 @@ import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultDataType;
 import org.jooq.impl.EmbeddableRecordImpl;
 import org.jooq.impl.Internal;
+import org.jooq.impl.LazyCatalog;
 import org.jooq.impl.LazySchema;
 import org.jooq.impl.LazySupplier;
 import org.jooq.impl.PackageImpl;
@@ -183,6 +191,7 @@ import org.jooq.meta.postgres.PostgresRoutineDefinition;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StopWatch;
 import org.jooq.tools.StringUtils;
+import org.jooq.tools.json.JSONValue;
 import org.jooq.tools.reflect.Reflect;
 import org.jooq.tools.reflect.ReflectException;
 // ...
@@ -201,7 +210,10 @@ import org.jooq.tools.reflect.ReflectException;
  */
 public class JavaGenerator extends AbstractGenerator {
 
-    private static final JooqLogger               log                          = JooqLogger.getLogger(JavaGenerator.class);
+    /**
+     * The logger, whose output may be buffered by concurrent generation units.
+     */
+    private static final Log                      log                          = new BufferedLog(JooqLogger.getLogger(JavaGenerator.class));
 
     /**
      * Dialects that can reference tables in contexts where UDTs are expected.
@@ -296,6 +308,17 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private Set<File>                             directoriesNotForRemoval     = new LinkedHashSet<>();
 
+    /**
+     * The definition fingerprints for incremental code generation, if enabled.
+     */
+    private Fingerprints                          fingerprints;
+
+    /**
+     * The fingerprinted definition that is being generated by the current
+     * thread.
+     */
+    private final ThreadLocal<String>             fingerprintId                = new ThreadLocal<>();
+
     private boolean                               scala;
     private final boolean                         scalaConfigured;
     private boolean                               kotlin;
@@ -399,6 +422,12 @@ public class JavaGenerator extends AbstractGenerator {
         this.database.addFilter(new AvoidAmbiguousClassesFilter());
         this.database.setIncludeRelations(generateRelations());
         this.database.setTableValuedFunctions(generateTableValuedFunctions());
+        this.fingerprints = generateIncremental() ? new Fingerprints(getStrategy().getFileRoot(), getConfigurationFingerprint()) : null;
+
+        // The database's lazy meta data caches are not thread safe, so they're
+        // all populated before any concurrent generation unit runs
+        if (generateConcurrency() > 1)
+            prepare(db);
 
         logDatabaseParameters(db);
         log.info("");
@@ -438,6 +467,7 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  global references (sequences)", generateGlobalSequenceReferences());
         log.info("  global references (tables)", generateGlobalTableReferences());
         log.info("  global references (udts)", generateGlobalUDTReferences());
+        log.info("  incremental", generateIncremental());
         log.info("  indexes", generateIndexes());
         log.info("  instance fields", generateInstanceFields());
         log.info("  interfaces", generateInterfaces()
@@ -445,11 +475,14 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  interfaces (immutable)", generateInterfaces());
         log.info("  javadoc", generateJavadoc());
         log.info("  keys", generateKeys());
+        log.info("  lazy references", generateLazyReferences());
         log.info("  links", generateLinks());
+        log.info("  native image support", generateNativeImageSupport());
         log.info("  pojos", generatePojos()
               + ((!generatePojos && generateDaos) ? " (forced to true because of <daos/>)" :
                 ((!generatePojos && generateImmutablePojos) ? " (forced to true because of <immutablePojos/>)" : "")));
         log.info("  pojos (immutable)", generateImmutablePojos());
+        log.info("  pojos (record mappers)", generatePojosRecordMappers());
         log.info("  queues", generateQueues());
         log.info("  records", generateRecords()
               + ((!generateRecords && generateDaos) ? " (forced to true because of <daos/>)" : ""));
@@ -497,6 +530,9 @@ public class JavaGenerator extends AbstractGenerator {
             }
         }
 
+        if (generateNativeImageSupport())
+            generateNativeImageConfiguration();
+
         long time = w.split();
 
         // [#10648] Log modified files
@@ -517,11 +553,149 @@ public class JavaGenerator extends AbstractGenerator {
               + "- Use gradle tasks and inputs: https://github.com/etiennestuder/gradle-jooq-plugin/blob/master/README.md");
         }
 
+        // Files of unchanged definitions were not generated again, but they're still needed
+        if (fingerprints != null) {
+            log.info("Unchanged definitions: " + fingerprints.unchangedCount());
+            affectedFiles.addAll(fingerprints.unchangedFiles());
+        }
+
         // [#5556] Clean up common parent directory
         log.info("Removing excess files");
         empty(getStrategy().getFileRoot(), (scala ? ".scala" : kotlin ? ".kt" : ".java"), affectedFiles, directoriesNotForRemoval);
         directoriesNotForRemoval.clear();
         affectedFiles.clear();
+
+        if (fingerprints != null) {
+            fingerprints.store();
+            fingerprints = null;
+        }
+    }
+
+    /**
+     * Generate a GraalVM native image <code>reflect-config.json</code> file for
+     * all generated types that jOOQ may access reflectively.
+     */
+    protected void generateNativeImageConfiguration() {
+        File file = new File(getTargetResourceDirectory(), "META-INF/native-image/" + getStrategy().getTargetPackage() + "/reflect-config.json");
+        log.info("Generating native image configuration", file.getPath());
+
+        List<String> records = new ArrayList<>();
+        List<String> pojos = new ArrayList<>();
+        List<String> interfaces = new ArrayList<>();
+        List<String> enums = new ArrayList<>();
+
+        for (CatalogDefinition catalog : database.getCatalogs()) {
+            if (!generateCatalogIfEmpty(catalog))
+                continue;
+
+            for (SchemaDefinition schema : catalog.getSchemata()) {
+                if (!generateSchemaIfEmpty(schema))
+                    continue;
+
+                for (TableDefinition table : database.getTables(schema)) {
+                    if (generateRecords())
+                        records.add(getStrategy().getFullJavaClassName(table, Mode.RECORD));
+                    if (generatePojos())
+                        pojos.add(getStrategy().getFullJavaClassName(table, Mode.POJO));
+                    if (generateInterfaces())
+                        interfaces.add(getStrategy().getFullJavaClassName(table, Mode.INTERFACE));
+                }
+
+                if (generateEmbeddables()) {
+                    for (EmbeddableDefinition embeddable : database.getEmbeddables(schema)) {
+                        records.add(getStrategy().getFullJavaClassName(embeddable, Mode.RECORD));
+
+                        if (generatePojos())
+                            pojos.add(getStrategy().getFullJavaClassName(embeddable, Mode.POJO));
+                        if (generateInterfaces())
+                            interfaces.add(getStrategy().getFullJavaClassName(embeddable, Mode.INTERFACE));
+                    }
+                }
+
+                if (generateUDTs()) {
+                    for (UDTDefinition udt : database.getUDTs(schema)) {
+                        records.add(getStrategy().getFullJavaClassName(udt, Mode.RECORD));
+
+                        if (generatePojos())
+                            pojos.add(getStrategy().getFullJavaClassName(udt, Mode.POJO));
+                        if (generateInterfaces())
+                            interfaces.add(getStrategy().getFullJavaClassName(udt, Mode.INTERFACE));
+                    }
+
+                    for (ArrayDefinition array : database.getArrays(schema))
+                        records.add(getStrategy().getFullJavaClassName(array, Mode.RECORD));
+
+                    for (EnumDefinition e : database.getEnums(schema))
+                        enums.add(getStrategy().getFullJavaClassName(e, Mode.ENUM));
+                }
+            }
+        }
+
+        // Records are constructed reflectively, unless they have been registered with jOOQ.
+        // POJOs, interfaces, and enums are mapped reflectively by the DefaultRecordMapper,
+        // DefaultRecordUnmapper, and DefaultConverterProvider.
+        List<Runnable> entries = new ArrayList<>();
+        JsonWriter out = newJsonWriter(file);
+
+        for (String type : records)
+            entries.add(() -> {
+                out.println("\"name\": %s,", JSONValue.toJSONString(type));
+                out.println("\"methods\": [");
+                out.println("{");
+                out.println("\"name\": \"<init>\",");
+                out.println("\"parameterTypes\": []");
+                out.println("}");
+                out.println("]");
+            });
+
+        for (String type : pojos)
+            entries.add(() -> {
+                out.println("\"name\": %s,", JSONValue.toJSONString(type));
+                out.println("\"allDeclaredConstructors\": true,");
+                out.println("\"allDeclaredFields\": true,");
+                out.println("\"allDeclaredMethods\": true,");
+                out.println("\"allPublicMethods\": true");
+            });
+
+        for (String type : interfaces)
+            entries.add(() -> {
+                out.println("\"name\": %s,", JSONValue.toJSONString(type));
+                out.println("\"allPublicMethods\": true");
+            });
+
+        for (String type : enums)
+            entries.add(() -> {
+                out.println("\"name\": %s,", JSONValue.toJSONString(type));
+                out.println("\"allDeclaredFields\": true,");
+                out.println("\"allPublicMethods\": true");
+            });
+
+        out.println("[");
+
+        for (int i = 0; i < entries.size(); i++) {
+            out.println("{");
+            entries.get(i).run();
+            out.println(i < entries.size() - 1 ? "}," : "}");
+        }
+
+        out.println("]");
+
+        CloseResult result = out.close();
+        if (result.affected)
+            affectedFiles.add(file);
+        if (result.modified)
+            modifiedFiles.add(file);
+    }
+
+    protected JsonWriter newJsonWriter(File file) {
+        JsonWriter result = new JsonWriter(file, targetEncoding);
+
+        if (generateIndentation != null)
+            result.tabString(generateIndentation);
+        if (generateNewline != null)
+            result.newlineString(generateNewline);
+
+        return result;
     }
 
     private boolean generateCatalogIfEmpty(CatalogDefinition catalog) {
@@ -973,6 +1147,9 @@ public class JavaGenerator extends AbstractGenerator {
             }
         }
 
+        if (lazyKeyReferences())
+            printKeyHolders(out, allUniqueKeys, allForeignKeys);
+
         generateRelationsClassFooter(schema, out);
 
         if (!kotlin)
@@ -987,6 +1164,93 @@ public class JavaGenerator extends AbstractGenerator {
         }
     }
 
+    /**
+     * Print one nested holder class per table, containing the table's keys,
+     * such that referencing a table's keys initialises only the keys of that
+     * table, and the tables those keys reference.
+     */
+    private void printKeyHolders(JavaWriter out, List<UniqueKeyDefinition> uniqueKeys, List<ForeignKeyDefinition> foreignKeys) {
+        Map<TableDefinition, List<ConstraintDefinition>> keysByTable = new LinkedHashMap<>();
+
+        for (UniqueKeyDefinition uniqueKey : uniqueKeys)
+            keysByTable.computeIfAbsent(uniqueKey.getTable(), t -> new ArrayList<>()).add(uniqueKey);
+        for (ForeignKeyDefinition foreignKey : foreignKeys)
+            keysByTable.computeIfAbsent(foreignKey.getTable(), t -> new ArrayList<>()).add(foreignKey);
+
+        if (keysByTable.isEmpty())
+            return;
+
+        out.header("Lazily initialised key holders, per table");
+
+        keysByTable.forEach((table, keys) -> {
+            out.println();
+            out.println("%sstatic class %s {", visibility(), keyHolderClassName(table));
+
+            for (ConstraintDefinition key : keys) {
+                if (key instanceof UniqueKeyDefinition) {
+                    UniqueKeyDefinition uniqueKey = (UniqueKeyDefinition) key;
+
+                    out.print("%sstatic final %s<%s> %s = ",
+                        visibility(),
+                        UniqueKey.class,
+                        out.ref(getStrategy().getFullJavaClassName(uniqueKey.getTable(), Mode.RECORD)),
+                        getStrategy().getJavaIdentifier(uniqueKey));
+                    printCreateUniqueKey(out, uniqueKey);
+                }
+                else {
+                    ForeignKeyDefinition foreignKey = (ForeignKeyDefinition) key;
+
+                    out.print("%sstatic final %s<%s, %s> %s = ",
+                        visibility(),
+                        ForeignKey.class,
+                        out.ref(getStrategy().getFullJavaClassName(foreignKey.getKeyTable(), Mode.RECORD)),
+                        out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable(), Mode.RECORD)),
+                        getStrategy().getJavaIdentifier(foreignKey));
+                    printCreateNonEmbeddableForeignKey(out, foreignKey);
+                }
+
+                out.println(";");
+            }
+
+            out.println("}");
+        });
+    }
+
+    /**
+     * Whether key references are generated in lazily initialised holder
+     * classes, which is currently supported in Java only.
+     */
+    private boolean lazyKeyReferences() {
+        return generateLazyReferences() && generateGlobalKeyReferences() && !scala && !kotlin;
+    }
+
+    private String keyHolderClassName(TableDefinition table) {
+        return getStrategy().getJavaClassName(table) + "Keys";
+    }
+
+    /**
+     * A reference to a global key, possibly via its lazy holder class.
+     */
+    private String keyRef(JavaWriter out, ConstraintDefinition key) {
+        String id = getStrategy().getFullJavaIdentifier(key);
+
+        if (lazyKeyReferences()) {
+            int i = id.lastIndexOf('.');
+            return out.ref(id.substring(0, i + 1) + keyHolderClassName(key.getTable()) + id.substring(i), 3);
+        }
+        else
+            return out.ref(id, 2);
+    }
+
+    private List<String> keyRefs(JavaWriter out, List<? extends ConstraintDefinition> keys) {
+        List<String> result = new ArrayList<>(keys.size());
+
+        for (ConstraintDefinition key : keys)
+            result.add(keyRef(out, key));
+
+        return result;
+    }
+
     /**
      * Subclasses may override this method to provide relations references class footer code.
      */
@@ -1200,7 +1464,10 @@ public class JavaGenerator extends AbstractGenerator {
                 out.ref(getStrategy().getFullJavaClassName(uniqueKey.getTable(), Mode.RECORD)),
                 getStrategy().getJavaIdentifier(uniqueKey));
 
-        printCreateUniqueKey(out, uniqueKey);
+        if (lazyKeyReferences())
+            out.print("%s", keyRef(out, uniqueKey));
+        else
+            printCreateUniqueKey(out, uniqueKey);
 
         out.println("%s", semicolon);
     }
@@ -1335,7 +1602,10 @@ public class JavaGenerator extends AbstractGenerator {
 
 
 
-        printCreateNonEmbeddableForeignKey(out, foreignKey);
+        if (lazyKeyReferences())
+            out.print("%s", keyRef(out, foreignKey));
+        else
+            printCreateNonEmbeddableForeignKey(out, foreignKey);
 
         out.println("%s", semicolon);
     }
@@ -1375,7 +1645,7 @@ public class JavaGenerator extends AbstractGenerator {
                 escapeString(foreignKey.getOutputName()),
                 TableField.class,
                 out.ref(getStrategy().getFullJavaIdentifiers(foreignKey.getKeyColumns()), colRefSegments(null)),
-                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getReferencedKey()), 2),
+                keyRef(out, foreignKey.getReferencedKey()),
                 TableField.class,
                 out.ref(getStrategy().getFullJavaIdentifiers(foreignKey.getReferencedColumns()), colRefSegments(null)),
                 foreignKey.enforced()
@@ -1408,18 +1678,40 @@ public class JavaGenerator extends AbstractGenerator {
 
 
 
+
+    /**
+     * A lazy reference to a table's schema, which is shared by all instances
+     * of the table.
+     */
+    private void printLazySchema(JavaWriter out, SchemaDefinition schema) {
+        final String schemaId = out.ref(getStrategy().getFullJavaIdentifier(schema), 2);
+        final String catalogId = out.ref(getStrategy().getFullJavaIdentifier(schema.getCatalog()), 2);
+        final String schemaName = escapeString(schema.getOutputName());
+        final String catalogName = escapeString(schema.getCatalog().getOutputName());
+
+        out.println();
+
+        if (scala)
+            out.println("private val lazySchema: %s = new %s(%s.name(\"%s\"), %s.comment(\"\"), () => %s, new %s(%s.name(\"%s\"), () => %s))",
+                Schema.class,
+                LazySchema.class, DSL.class, schemaName, DSL.class, schemaId,
+                LazyCatalog.class, DSL.class, catalogName, catalogId);
+        else if (kotlin)
+            out.println("private val lazySchema: %s = %s(%s.name(\"%s\"), %s.comment(\"\"), %s { %s }, %s(%s.name(\"%s\"), %s { %s }))",
+                Schema.class,
+                LazySchema.class, DSL.class, schemaName, DSL.class, LazySupplier.class, schemaId,
+                LazyCatalog.class, DSL.class, catalogName, LazySupplier.class, catalogId);
+        else
+            out.println("private static final %s lazySchema = new %s(%s.name(\"%s\"), %s.comment(\"\"), () -> %s, new %s(%s.name(\"%s\"), () -> %s));",
+                Schema.class,
+                LazySchema.class, DSL.class, schemaName, DSL.class, schemaId,
+                LazyCatalog.class, DSL.class, catalogName, catalogId);
+    }
 
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateRecord(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table record " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), "Error while generating table record ", table -> generateRecord(table));
 
         watch.splitInfo("Table records generated");
     }
@@ -2714,14 +3006,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateInterface(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table interface " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), "Error while generating table interface ", table -> generateInterface(table));
 
         watch.splitInfo("Table interfaces generated");
     }
@@ -2987,14 +3272,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTs(SchemaDefinition schema) {
         log.info("Generating UDTs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDT(schema, udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating udt " + udt, e);
-            }
-        }
+        generateEach(database.getUDTs(schema), "Error while generating udt ", udt -> generateUDT(schema, udt));
 
         watch.splitInfo("UDTs generated");
     }
@@ -3065,6 +3343,7 @@ public class JavaGenerator extends AbstractGenerator {
             out.println("%sclass %s extends %s<%s>[[before= implements ][%s]] {", visibility(), className, UDTImpl.class, recordType, interfaces);
             out.printSerial();
             printSingletonInstance(out, udt);
+            printRecordFactory(out, udt);
         }
 
         printRecordTypeMethod(out, udt);
@@ -3164,14 +3443,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTPojos(SchemaDefinition schema) {
         log.info("Generating UDT POJOs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTPojo(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT POJO " + udt, e);
-            }
-        }
+        generateEach(database.getUDTs(schema), "Error while generating UDT POJO ", udt -> generateUDTPojo(udt));
 
         watch.splitInfo("UDT POJOs generated");
     }
@@ -3195,14 +3467,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTInterfaces(SchemaDefinition schema) {
         log.info("Generating UDT interfaces");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTInterface(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT interface " + udt, e);
-            }
-        }
+        generateEach(database.getUDTs(schema), "Error while generating UDT interface ", udt -> generateUDTInterface(udt));
 
         watch.splitInfo("UDT interfaces generated");
     }
@@ -3229,14 +3494,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTRecords(SchemaDefinition schema) {
         log.info("Generating UDT records");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTRecord(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT record " + udt, e);
-            }
-        }
+        generateEach(database.getUDTs(schema), "Error while generating UDT record ", udt -> generateUDTRecord(udt));
 
         watch.splitInfo("UDT records generated");
     }
@@ -3454,14 +3712,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateArrays(SchemaDefinition schema) {
         log.info("Generating ARRAYs");
 
-        for (ArrayDefinition array : database.getArrays(schema)) {
-            try {
-                generateArray(schema, array);
-            }
-            catch (Exception e) {
-                log.error("Error while generating ARRAY record " + array, e);
-            }
-        }
+        generateEach(database.getArrays(schema), "Error while generating ARRAY record ", array -> generateArray(schema, array));
 
         watch.splitInfo("ARRAYs generated");
     }
@@ -3877,14 +4128,7 @@ public class JavaGenerator extends AbstractGenerator {
             closeJavaWriter(out);
         }
 
-        for (RoutineDefinition routine : database.getRoutines(schema)) {
-            try {
-                generateRoutine(schema, routine);
-            }
-            catch (Exception e) {
-                log.error("Error while generating routine " + routine, e);
-            }
-        }
+        generateEach(database.getRoutines(schema), "Error while generating routine ", routine -> generateRoutine(schema, routine));
 
         watch.splitInfo("Routines generated");
     }
@@ -4132,14 +4376,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateDao(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table DAO " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), "Error while generating table DAO ", table -> generateDao(table));
 
         watch.splitInfo("Table DAOs generated");
     }
@@ -4451,14 +4688,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generatePojo(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table POJO " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), "Error while generating table POJO ", table -> generatePojo(table));
 
         watch.splitInfo("Table POJOs generated");
     }
@@ -5328,14 +5558,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateTables(SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateTable(schema, table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), "Error while generating table ", table -> generateTable(schema, table));
 
         watch.splitInfo("Tables generated");
     }
@@ -5386,6 +5609,10 @@ public class JavaGenerator extends AbstractGenerator {
 
         if (scala) {
             out.println("object %s {", className);
+
+            if (generateLazyReferences())
+                printLazySchema(out, schema);
+
             printSingletonInstance(out, table);
             out.println("}");
             out.println();
@@ -5446,13 +5673,24 @@ public class JavaGenerator extends AbstractGenerator {
             out.println(")[[before=, ][%s]] {", interfaces);
 
             out.println("%scompanion object {", visibility());
+
+            if (generateLazyReferences())
+                printLazySchema(out, schema);
+
             printSingletonInstance(out, table);
             out.println("}");
         }
         else {
             out.println("%sclass %s extends %s<%s>[[before= implements ][%s]] {", visibility(), className, TableImpl.class, recordType, interfaces);
             out.printSerial();
+
+            // The lazy schema must be initialised before the singleton instance
+            if (generateLazyReferences())
+                printLazySchema(out, schema);
+
             printSingletonInstance(out, table);
+            printRecordFactory(out, table);
+            printPojoMappers(out, table);
         }
 
         printRecordTypeMethod(out, table);
@@ -5683,18 +5921,26 @@ public class JavaGenerator extends AbstractGenerator {
             }
         }
 
+        // Lazy schema references avoid initialising the schema, and thus all
+        // of its tables, when this table is rendered
+        final String schemaRef = !generateLazyReferences()
+            ? schemaId
+            : scala
+            ? className + ".lazySchema"
+            : "lazySchema";
+
         if (scala) {
             out.println();
-            out.println("%soverride def getSchema: %s = if (aliased()) null else %s", visibilityPublic(), Schema.class, schemaId);
+            out.println("%soverride def getSchema: %s = if (aliased()) null else %s", visibilityPublic(), Schema.class, schemaRef);
         }
         else if (kotlin) {
-            out.println("%soverride fun getSchema(): %s? = if (aliased()) null else %s", visibilityPublic(), Schema.class, schemaId);
+            out.println("%soverride fun getSchema(): %s? = if (aliased()) null else %s", visibilityPublic(), Schema.class, schemaRef);
         }
         else {
             out.overrideInherit();
             printNonnullAnnotation(out);
             out.println("%s%s getSchema() {", visibilityPublic(), Schema.class);
-            out.println("return aliased() ? null : %s;", schemaId);
+            out.println("return aliased() ? null : %s;", schemaRef);
             out.println("}");
         }
 
@@ -5803,7 +6049,7 @@ public class JavaGenerator extends AbstractGenerator {
                 final String keyFullId = generateGlobalKeyReferences()
                     ? kotlin
                         ? out.ref(getStrategy().getFullJavaIdentifier(primaryKey))
-                        : out.ref(getStrategy().getFullJavaIdentifier(primaryKey), 2)
+                        : keyRef(out, primaryKey)
                     : null;
 
                 if (scala) {
@@ -5849,7 +6095,7 @@ public class JavaGenerator extends AbstractGenerator {
                 if (generateGlobalKeyReferences()) {
                     final List<String> keyFullIds = kotlin
                         ? out.ref(getStrategy().getFullJavaIdentifiers(uniqueKeys))
-                        : out.ref(getStrategy().getFullJavaIdentifiers(uniqueKeys), 2);
+                        : keyRefs(out, uniqueKeys);
 
                     if (scala) {
                         out.println();
@@ -5916,7 +6162,7 @@ public class JavaGenerator extends AbstractGenerator {
             if (foreignKeys.size() > 0 && generateGlobalKeyReferences()) {
                 final List<String> keyFullIds = kotlin
                     ? out.ref(getStrategy().getFullJavaIdentifiers(foreignKeys))
-                    : out.ref(getStrategy().getFullJavaIdentifiers(foreignKeys), 2);
+                    : keyRefs(out, foreignKeys);
 
                 if (scala) {
                     out.println();
@@ -5957,7 +6203,7 @@ public class JavaGenerator extends AbstractGenerator {
                     for (ForeignKeyDefinition foreignKey : foreignKeys) {
                         final String keyFullId = kotlin
                             ? out.ref(getStrategy().getFullJavaIdentifier(foreignKey))
-                            : out.ref(getStrategy().getFullJavaIdentifier(foreignKey), 2);
+                            : keyRef(out, foreignKey);
                         final String referencedTableClassName = out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable()));
                         final String keyMethodName = out.ref(getStrategy().getJavaMethodName(foreignKey));
 
@@ -8227,6 +8473,98 @@ public class JavaGenerator extends AbstractGenerator {
             out.println("%sstatic final %s %s = new %s();", visibility(), className, identifier, className);
     }
 
+    /**
+     * Whether reflection free POJO mappers can be generated for a table.
+     */
+    private final boolean pojoMappers(JavaWriter out, TableDefinition table) {
+        if (!generatePojosRecordMappers() || !generatePojos() || !generateRecords() || scala || kotlin)
+            return false;
+
+        // Embeddables and UDTs have different types in records and in POJOs
+        if (!table.getReferencedEmbeddables().isEmpty())
+            return false;
+
+        List<ColumnDefinition> columns = table.getColumns();
+        for (ColumnDefinition column : columns)
+            if (column.getType(resolver(out)).isUDT() || column.getType(resolver(out)).isUDTArray())
+                return false;
+
+        // [#3176] Immutable POJOs don't have a constructor for tables with more than 255 columns
+        return columns.size() > 0 && (
+               !generateImmutablePojos()
+            || generatePojosAsJavaRecordClasses()
+            || columns.size() < 256
+        );
+    }
+
+    /**
+     * Register a reflection free {@link org.jooq.RecordMapper} and
+     * {@link org.jooq.RecordUnmapper} for the table's POJO with the table.
+     */
+    protected void printPojoMappers(JavaWriter out, TableDefinition table) {
+        if (!pojoMappers(out, table))
+            return;
+
+        final String identifier = getStrategy().getJavaIdentifier(table);
+        final String recordType = out.ref(getStrategy().getFullJavaClassName(table, Mode.RECORD));
+        final String pojoType = out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO));
+        final List<ColumnDefinition> columns = table.getColumns();
+        final boolean constructor = generateImmutablePojos() || generatePojosAsJavaRecordClasses();
+
+        out.println();
+        out.println("static {");
+        out.println("%s.registerPojoMappers(", Internal.class);
+        out.println("%s,", identifier);
+        out.println("%s.class,", pojoType);
+
+        if (constructor) {
+            out.println("r -> new %s(", pojoType);
+
+            for (int i = 0; i < columns.size(); i++)
+                out.println("(%s) r.get(%s)%s",
+                    out.ref(getJavaType(columns.get(i).getType(resolver(out, Mode.POJO)), out, Mode.POJO)),
+                    i,
+                    i < columns.size() - 1 ? "," : "");
+
+            out.println("),");
+        }
+        else {
+            out.println("r -> {");
+            out.println("%s pojo = new %s();", pojoType, pojoType);
+
+            for (int i = 0; i < columns.size(); i++)
+                out.println("pojo.%s((%s) r.get(%s));",
+                    getStrategy().getJavaSetterName(columns.get(i), Mode.POJO),
+                    out.ref(getJavaType(columns.get(i).getType(resolver(out, Mode.POJO)), out, Mode.POJO)),
+                    i);
+
+            out.println("return pojo;");
+            out.println("},");
+        }
+
+        out.println("%s::new", recordType);
+        out.println(");");
+        out.println("}");
+    }
+
+    /**
+     * Register a reflection free constructor reference for the record of a
+     * table or UDT.
+     */
+    protected void printRecordFactory(JavaWriter out, Definition tableOrUDT) {
+        if (!generateNativeImageSupport() || scala || kotlin)
+            return;
+        if (tableOrUDT instanceof TableDefinition && !generateRecords())
+            return;
+
+        final String recordType = out.ref(getStrategy().getFullJavaClassName(tableOrUDT, Mode.RECORD));
+
+        out.println();
+        out.println("static {");
+        out.println("%s.registerRecordFactory(%s.class, %s::new);", Internal.class, recordType, recordType);
+        out.println("}");
+    }
+
     protected final String escapeEntities(String comment) {
 
         if (comment == null)
@@ -9069,14 +9407,171 @@ public class JavaGenerator extends AbstractGenerator {
              : string;
     }
 
+    /**
+     * Run a generation unit for each definition, concurrently if
+     * {@link #generateConcurrency()} allows for it.
+     * <p>
+     * Each unit writes its own files. The log output and the affected files of
+     * each unit are buffered and replayed in the order of the definitions, so
+     * the outcome is the same as that of sequential generation.
+     * <p>
+     * With {@link #generateIncremental()}, definitions whose fingerprint has
+     * not changed since the previous run are skipped.
+     */
+    private <D extends Definition> void generateEach(List<D> definitions, String error, Consumer<? super D> unit) {
+        List<D> changed = new ArrayList<>();
+
+        for (D definition : definitions)
+            if (fingerprints == null || !fingerprints.unchanged(getStrategy().getFullJavaClassName(definition), definition))
+                changed.add(definition);
+
+        Consumer<D> u = definition -> {
+            String id = fingerprints == null ? null : getStrategy().getFullJavaClassName(definition);
+            fingerprintId.set(id);
+
+            try {
+                unit.accept(definition);
+            }
+            catch (Exception e) {
+                log.error(error + definition, e);
+
+                if (id != null)
+                    fingerprints.invalidate(id);
+            }
+            finally {
+                fingerprintId.remove();
+            }
+        };
+
+        int concurrency = Math.min(generateConcurrency(), changed.size());
+
+        if (concurrency <= 1) {
+            changed.forEach(u);
+            return;
+        }
+
+        // Lazy meta data caches are not thread safe, so they're populated on
+        // the calling thread, before generating anything
+        for (D definition : changed)
+            prepare(definition);
+
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "jooq-codegen-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<List<Runnable>>> futures = new ArrayList<>();
+
+            for (D definition : changed)
+                futures.add(executor.submit(() -> BufferedLog.buffer(() -> u.accept(definition))));
+
+            for (Future<List<Runnable>> future : futures) {
+                try {
+                    future.get().forEach(Runnable::run);
+                }
+                catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) e.getCause();
+                    else if (e.getCause() instanceof Error)
+                        throw (Error) e.getCause();
+                    else
+                        throw new GeneratorException("Error while generating code", e.getCause());
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new GeneratorException("Interrupted while generating code", e);
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void prepare(Database db) {
+        db.prefetch();
+        db.getUDTs();
+        db.getEmbeddables();
+        db.getUniqueKeys();
+        db.getPrimaryKeys();
+        db.getKeys();
+        db.getForeignKeys();
+
+        for (SchemaDefinition schema : db.getSchemata()) {
+            db.getIdentities(schema);
+            db.getUniqueKeys(schema);
+            db.getPrimaryKeys(schema);
+            db.getKeys(schema);
+            db.getForeignKeys(schema);
+            db.getCheckConstraints(schema);
+            db.getEmbeddables(schema);
+
+            for (PackageDefinition pkg : db.getPackages(schema))
+                db.getUDTs(pkg);
+        }
+    }
+
+    private void prepare(Definition definition) {
+        if (definition instanceof TableDefinition) {
+            TableDefinition table = (TableDefinition) definition;
+
+            table.getPrimaryKey();
+            table.getUniqueKeys();
+            table.getKeys();
+            table.getForeignKeys();
+            table.getCheckConstraints();
+            table.getIndexes();
+            table.getIdentity();
+            table.getEmbeddables();
+            table.getReferencedEmbeddables();
+            table.getChildTables();
+
+            for (ColumnDefinition column : table.getColumns()) {
+                column.getType();
+                column.getUniqueKeys();
+                column.getForeignKeys();
+            }
+
+            if (table.isTableValuedFunction())
+                for (ParameterDefinition parameter : table.getParameters())
+                    parameter.getType();
+        }
+        else if (definition instanceof UDTDefinition) {
+            UDTDefinition udt = (UDTDefinition) definition;
+
+            for (AttributeDefinition attribute : udt.getAttributes())
+                attribute.getType();
+
+            for (RoutineDefinition routine : udt.getRoutines())
+                prepare(routine);
+        }
+        else if (definition instanceof RoutineDefinition) {
+            for (ParameterDefinition parameter : ((RoutineDefinition) definition).getAllParameters())
+                parameter.getType();
+        }
+        else if (definition instanceof ArrayDefinition) {
+            ((ArrayDefinition) definition).getElementType();
+        }
+    }
+
     // [#4626] Users may need to call this method
     protected void closeJavaWriter(JavaWriter out) {
         CloseResult result = out.close();
+        String id = fingerprintId.get();
 
-        if (result.affected)
-            affectedFiles.add(out.file());
+        if (id != null && result.affected)
+            fingerprints.file(id, out.file());
 
-        if (result.modified)
-            modifiedFiles.add(out.file());
+        // Concurrent generation units record their files in a deterministic order
+        BufferedLog.defer(() -> {
+            if (result.affected)
+                affectedFiles.add(out.file());
+
+            if (result.modified)
+                modifiedFiles.add(out.file());
+        });
     }
 }
@@ -0,0 +1,273 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static org.jooq.impl.DSL.name;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.jooq.meta.ArrayDefinition;
+import org.jooq.meta.AttributeDefinition;
+import org.jooq.meta.AbstractUDTDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.DefaultArrayDefinition;
+import org.jooq.meta.DefaultAttributeDefinition;
+import org.jooq.meta.DefaultDataTypeDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.UDTDefinition;
+import org.jooq.meta.h2.H2Database;
+import org.jooq.meta.jaxb.Configuration;
+import org.jooq.meta.jaxb.Database;
+import org.jooq.meta.jaxb.Generate;
+import org.jooq.meta.jaxb.Generator;
+import org.jooq.meta.jaxb.Jdbc;
+import org.jooq.meta.jaxb.SchemaMappingType;
+import org.jooq.meta.jaxb.Target;
+import org.jooq.tools.json.JSONParser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class JavaGeneratorTest {
+
+    private static final String URL     = "jdbc:h2:mem:javaGeneratorTest;DB_CLOSE_DELAY=-1";
+    private static final int    SCHEMAS = 3;
+    private static final int    TYPES   = 10;
+
+    private Connection          connection;
+    private List<Path>          directories;
+
+    @Before
+    public void setup() throws Exception {
+        connection = DriverManager.getConnection(URL);
+        directories = new ArrayList<>();
+
+        try (Statement s = connection.createStatement()) {
+            for (int i = 1; i <= SCHEMAS; i++) {
+                s.execute("create schema s" + i);
+
+                for (int j = 1; j <= TYPES; j++) {
+                    s.execute("create table s" + i + ".t" + j + " (id int primary key, x varchar(10))");
+                    s.execute("create table s" + i + ".u" + j + " (id int primary key, t_id int references s" + i + ".t" + j + ")");
+                }
+            }
+        }
+    }
+
+    @After
+    public void teardown() throws Exception {
+        try (Statement s = connection.createStatement()) {
+            s.execute("drop all objects");
+        }
+
+        connection.close();
+
+        for (Path directory : directories)
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+    }
+
+    /**
+     * An H2 database with ARRAY and UDT types, which H2 doesn't support
+     * natively. Each UDT references an ARRAY of strings and an ARRAY of
+     * another UDT. ARRAYs are loaded slowly.
+     */
+    public static class UDTDatabase extends H2Database {
+
+        @Override
+        protected List<UDTDefinition> getUDTs0() {
+            List<UDTDefinition> result = new ArrayList<>();
+
+            for (SchemaDefinition schema : getSchemata())
+                for (int j = 1; j <= TYPES; j++)
+                    result.add(new UDT(schema, "ADDRESS" + j, "ADDRESSES" + (j % TYPES + 1)));
+
+            return result;
+        }
+
+        @Override
+        protected List<ArrayDefinition> getArrays0() throws SQLException {
+            List<ArrayDefinition> result = new ArrayList<>();
+
+            // Simulate slow meta data queries, during which concurrent
+            // generation units might access partially initialised caches
+            try {
+                Thread.sleep(200);
+            }
+            catch (InterruptedException e) {
+                throw new SQLException(e);
+            }
+
+            for (SchemaDefinition schema : getSchemata()) {
+                result.add(new DefaultArrayDefinition(schema, "TAGS", type(schema, "VARCHAR", null)));
+
+                for (int j = 1; j <= TYPES; j++)
+                    result.add(new DefaultArrayDefinition(schema, "ADDRESSES" + j, type(schema, "ADDRESS" + j, "ADDRESS" + j)));
+            }
+
+            return result;
+        }
+
+        static DataTypeDefinition type(SchemaDefinition schema, String type, String userType) {
+            return new DefaultDataTypeDefinition(schema.getDatabase(), schema, type, null, null, null, true, (String) null, userType == null ? null : name(schema.getName(), userType));
+        }
+
+        static class UDT extends AbstractUDTDefinition {
+            final String history;
+
+            UDT(SchemaDefinition schema, String name, String history) {
+                super(schema, name, null);
+
+                this.history = history;
+            }
+
+            @Override
+            protected List<AttributeDefinition> getElements0() {
+                List<AttributeDefinition> result = new ArrayList<>();
+
+                result.add(new DefaultAttributeDefinition(this, "STREET", 1, type(getSchema(), "VARCHAR", null)));
+                result.add(new DefaultAttributeDefinition(this, "TAGS", 2, type(getSchema(), "TAGS", "TAGS")));
+                result.add(new DefaultAttributeDefinition(this, "HISTORY", 3, type(getSchema(), history, history)));
+
+                return result;
+            }
+
+            @Override
+            protected List<RoutineDefinition> getRoutines0() {
+                return new ArrayList<>();
+            }
+        }
+    }
+
+    private Map<String, String> generate(int concurrency) throws Exception {
+        return generate(new Generate()
+            .withConcurrency(concurrency)
+            .withPojos(true)
+            .withInterfaces(true)
+            .withDaos(true));
+    }
+
+    private Map<String, String> generate(Generate generate) throws Exception {
+        Path directory = Files.createTempDirectory("jooq-codegen-test");
+        directories.add(directory);
+
+        List<SchemaMappingType> schemata = new ArrayList<>();
+        for (int i = 1; i <= SCHEMAS; i++)
+            schemata.add(new SchemaMappingType().withInputSchema("S" + i));
+
+        GenerationTool.generate(new Configuration()
+            .withJdbc(new Jdbc()
+                .withDriver("org.h2.Driver")
+                .withUrl(URL))
+            .withGenerator(new Generator()
+                .withDatabase(new Database()
+                    .withName(UDTDatabase.class.getName())
+                    .withIncludes(".*")
+                    .withExcludes("")
+                    .withSchemata(schemata))
+                .withGenerate(generate)
+                .withTarget(new Target()
+                    .withPackageName("org.jooq.codegen.test")
+                    .withDirectory(directory.resolve("java").toString())
+                    .withResourceDirectory(directory.resolve("resources").toString()))));
+
+        Map<String, String> result = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator)
+                result.put(directory.relativize(path).toString(), read(path));
+        }
+
+        return result;
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testConcurrentGenerationWithArraysAndUDTs() throws Exception {
+        Map<String, String> sequential = generate(1);
+
+        String pojo = sequential.get("java/org/jooq/codegen/test/s1/udt/pojos/Address1.java");
+
+        assertTrue(sequential.containsKey("java/org/jooq/codegen/test/s1/udt/records/Address1Record.java"));
+        assertTrue(pojo.contains("List<String>   tags;"));
+        assertTrue(pojo.contains("List<Address2> history;"));
+
+        for (int i = 0; i < 3; i++)
+            assertEquals(sequential, generate(8));
+    }
+
+    @Test
+    public void testNativeImageConfiguration() throws Exception {
+        Map<String, String> files = generate(new Generate()
+            .withNativeImageSupport(true)
+            .withPojos(true));
+
+        List<?> config = (List<?>) new JSONParser().parse(files.get("resources/META-INF/native-image/org.jooq.codegen.test/reflect-config.json"));
+        List<Object> names = new ArrayList<>();
+
+        for (Object entry : config)
+            names.add(((Map<?, ?>) entry).get("name"));
+
+        assertTrue(names.contains("org.jooq.codegen.test.s1.tables.records.T1Record"));
+        assertTrue(names.contains("org.jooq.codegen.test.s1.tables.pojos.T1"));
+        assertTrue(names.contains("org.jooq.codegen.test.s1.udt.records.Address1Record"));
+    }
+}
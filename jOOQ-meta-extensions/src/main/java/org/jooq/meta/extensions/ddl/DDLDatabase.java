@@ -79,6 +79,9 @@ import org.h2.api.ErrorCode;
  * <p>
  * The SQL scripts are located in the <code>scripts</code> scripts property
  * available from {@link #getProperties()}.
+ * <p>
+ * See {@link DDLInterpreterDatabase} for an alternative that interprets the
+ * SQL scripts using jOOQ's own DDL interpreter, instead of H2.
  *
  * @author Lukas Eder
  */
@@ -0,0 +1,394 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.extensions.ddl;
+
+import static org.jooq.tools.StringUtils.isBlank;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Check;
+import org.jooq.Constants;
+import org.jooq.DSLContext;
+import org.jooq.ForeignKey;
+import org.jooq.Field;
+import org.jooq.FilePattern;
+import org.jooq.FilePattern.Sort;
+import org.jooq.Index;
+import org.jooq.Meta;
+import org.jooq.SQLDialect;
+import org.jooq.Schema;
+import org.jooq.SortField;
+import org.jooq.Source;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.conf.InterpreterSearchSchema;
+import org.jooq.conf.ParseNameCase;
+import org.jooq.conf.ParseUnknownFunctions;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.ParserException;
+import org.jooq.meta.AbstractIndexDefinition;
+import org.jooq.meta.AbstractMetaDatabase;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DefaultCheckConstraintDefinition;
+import org.jooq.meta.DefaultIndexColumnDefinition;
+import org.jooq.meta.DefaultRelations;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * The DDL database using jOOQ's DDL interpreter.
+ * <p>
+ * This meta data source parses a set of SQL scripts and interprets them using
+ * {@link DSLContext#meta(Source...)}, without translating them to the H2
+ * dialect and without running them on an in-memory H2 database, like the
+ * {@link DDLDatabase} does. This supports SQL that H2 does not support, and
+ * avoids the cost of starting and reverse engineering an H2 database.
+ * <p>
+ * The SQL scripts are located in the <code>scripts</code> scripts property
+ * available from {@link #getProperties()}. Other supported properties
+ * include:
+ * <ul>
+ * <li><code>encoding</code>, <code>sort</code>,
+ * <code>defaultNameCase</code>, <code>parseIgnoreComments</code>,
+ * <code>parseIgnoreCommentStart</code>, <code>parseIgnoreCommentStop</code>
+ * and <code>unqualifiedSchema</code>, which work the same way as in the
+ * {@link DDLDatabase}.</li>
+ * <li><code>cacheDirectory</code>: An optional directory (relative to the
+ * base directory) where the interpreted schema is cached as normalised DDL,
+ * keyed by a hash of the scripts and the above properties. Subsequent runs on
+ * unchanged scripts read the normalised DDL only, instead of the possibly
+ * long history of migration scripts.</li>
+ * </ul>
+ *
+ * @author Lukas Eder
+ */
+public class DDLInterpreterDatabase extends AbstractMetaDatabase {
+
+    private static final JooqLogger log = JooqLogger.getLogger(DDLInterpreterDatabase.class);
+
+    private Meta                    meta;
+    private boolean                 publicIsDefault;
+
+    @Override
+    protected DSLContext create0() {
+        return DSL.using(SQLDialect.DEFAULT);
+    }
+
+    @Override
+    protected Meta getMeta0() {
+        if (meta == null) {
+            try {
+                meta = load();
+            }
+            catch (ParserException e) {
+                log.error("An exception occurred while parsing script source : " + getProperties().getProperty("scripts") + ". Please report this error to https://github.com/jOOQ/jOOQ/issues/new", e);
+                throw e;
+            }
+            catch (IOException e) {
+                throw new DataAccessException("Error while interpreting schema", e);
+            }
+        }
+
+        return meta;
+    }
+
+    private Meta load() throws IOException {
+        Settings defaultSettings = new Settings();
+        String scripts = getProperties().getProperty("scripts");
+        String encoding = getProperties().getProperty("encoding", "UTF-8");
+        String sort = getProperties().getProperty("sort", "semantic").toLowerCase();
+        String defaultNameCase = getProperties().getProperty("defaultNameCase", "as_is").toUpperCase();
+        boolean parseIgnoreComments = !"false".equalsIgnoreCase(getProperties().getProperty("parseIgnoreComments"));
+        String parseIgnoreCommentStart = getProperties().getProperty("parseIgnoreCommentStart", defaultSettings.getParseIgnoreCommentStart());
+        String parseIgnoreCommentStop = getProperties().getProperty("parseIgnoreCommentStop", defaultSettings.getParseIgnoreCommentStop());
+        String unqualifiedSchema = getProperties().getProperty("unqualifiedSchema", "none").toLowerCase();
+        String cacheDirectory = getProperties().getProperty("cacheDirectory");
+        publicIsDefault = "none".equals(unqualifiedSchema);
+
+        if (isBlank(scripts)) {
+            scripts = "";
+            log.warn("No scripts defined", "It is recommended that you provide an explicit script directory to scan");
+        }
+
+        DSLContext ctx = DSL.using(SQLDialect.DEFAULT, new Settings()
+            .withParseIgnoreComments(parseIgnoreComments)
+            .withParseIgnoreCommentStart(parseIgnoreCommentStart)
+            .withParseIgnoreCommentStop(parseIgnoreCommentStop)
+            .withParseUnknownFunctions(ParseUnknownFunctions.IGNORE)
+            .withParseNameCase(
+                  "UPPER".equals(defaultNameCase)
+                ? ParseNameCase.UPPER_IF_UNQUOTED
+                : "LOWER".equals(defaultNameCase)
+                ? ParseNameCase.LOWER_IF_UNQUOTED
+                : ParseNameCase.DEFAULT
+            )
+
+            // Unqualified objects are created in the PUBLIC schema, like in H2
+            .withInterpreterSearchPath(new InterpreterSearchSchema().withSchema(
+                "none".equals(unqualifiedSchema) ? "PUBLIC" : unqualifiedSchema.toUpperCase()
+            ))
+        );
+
+        // [#7771] [#8011] Ignore all parsed storage clauses when executing the statements
+        ctx.data("org.jooq.ddl.ignore-storage-clauses", true);
+
+        List<String> contents = new ArrayList<>();
+        new FilePattern()
+                .encoding(encoding)
+                .basedir(new File(getBasedir()))
+                .pattern(scripts)
+                .sort(Sort.of(sort))
+                .load(source -> contents.add(source.readString()));
+
+        File cache = null;
+        if (!isBlank(cacheDirectory)) {
+            File directory = new File(cacheDirectory);
+
+            if (!directory.isAbsolute())
+                directory = new File(getBasedir(), cacheDirectory);
+
+            cache = new File(directory, "ddl-" + hash(ctx, contents) + ".sql");
+
+            if (cache.isFile()) {
+                log.info("Reading cached schema", cache);
+                return ctx.meta(Source.of(cache, StandardCharsets.UTF_8));
+            }
+        }
+
+        Source[] sources = new Source[contents.size()];
+        for (int i = 0; i < sources.length; i++)
+            sources[i] = Source.of(contents.get(i));
+
+        Meta result = ctx.meta(sources);
+
+        if (cache != null) {
+            log.info("Writing cached schema", cache);
+
+            cache.getParentFile().mkdirs();
+            File tmp = new File(cache.getParentFile(), cache.getName() + ".tmp");
+            Files.write(tmp.toPath(), result.ddl().toString().getBytes(StandardCharsets.UTF_8));
+
+            if (!tmp.renameTo(cache))
+                tmp.delete();
+        }
+
+        return result;
+    }
+
+    private static String hash(DSLContext ctx, List<String> contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            digest.update(Constants.VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(ctx.settings().toString().getBytes(StandardCharsets.UTF_8));
+
+            for (String content : contents) {
+                digest.update((byte) 0);
+                digest.update(content.getBytes(StandardCharsets.UTF_8));
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest())
+                sb.append(String.format("%02x", b));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new DataAccessException("SHA-256 not supported", e);
+        }
+    }
+
+    /**
+     * The actual name of a primary key, unless it is unnamed, so foreign keys
+     * can resolve the primary keys they reference.
+     */
+    @Override
+    protected String primaryKeyName(UniqueKey<?> key) {
+        return isBlank(key.getName()) ? super.primaryKeyName(key) : key.getName();
+    }
+
+    @Override
+    protected String referencedKeyName(UniqueKey<?> key) {
+        return key.isPrimary() ? primaryKeyName(key) : uniqueKeyName(key);
+    }
+
+    /**
+     * The actual name of a unique key, or a name generated from its table and
+     * columns, if it is unnamed, so unnamed keys are not merged.
+     */
+    private String uniqueKeyName(UniqueKey<?> key) {
+        return isBlank(key.getName()) ? generatedName("UK", key.getTable(), key.getFields()) : key.getName();
+    }
+
+    @Override
+    protected String foreignKeyName(ForeignKey<?, ?> key) {
+        return isBlank(key.getName()) ? generatedName("FK", key.getTable(), key.getFields()) : key.getName();
+    }
+
+    private static String generatedName(String prefix, Table<?> table, List<? extends Field<?>> fields) {
+        StringBuilder sb = new StringBuilder(prefix).append('_').append(table.getName());
+
+        for (Field<?> field : fields)
+            sb.append('_').append(field.getName());
+
+        return sb.toString();
+    }
+
+    @Override
+    protected void loadUniqueKeys(DefaultRelations relations) throws SQLException {
+        super.loadUniqueKeys(relations);
+
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null)
+                        for (UniqueKey<?> key : table.getUniqueKeys())
+                            for (TableField<?, ?> field : key.getFields())
+                                relations.addUniqueKey(uniqueKeyName(key), t, t.getColumn(field.getName()), key.enforced());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void loadCheckConstraints(DefaultRelations relations) throws SQLException {
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null) {
+                        List<? extends Check<?>> checks = table.getChecks();
+
+                        // Unnamed checks are named after their position in the table
+                        for (int i = 0; i < checks.size(); i++)
+                            relations.addCheckConstraint(t, new DefaultCheckConstraintDefinition(
+                                s,
+                                t,
+                                isBlank(checks.get(i).getName()) ? "CK_" + table.getName() + "_" + (i + 1) : checks.get(i).getName(),
+                                create().renderInlined(checks.get(i).condition()),
+                                checks.get(i).enforced()
+                            ));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected List<IndexDefinition> getIndexes0() throws SQLException {
+        List<IndexDefinition> result = new ArrayList<>();
+
+        for (Schema schema : getMeta0().getSchemas()) {
+            SchemaDefinition s = getSchema(schema.getName());
+
+            if (s != null) {
+                for (Table<?> table : schema.getTables()) {
+                    TableDefinition t = getTable(s, table.getName());
+
+                    if (t != null) {
+                        for (Index index : table.getIndexes()) {
+                            result.add(new AbstractIndexDefinition(s, index.getName(), t, index.getUnique()) {
+                                @Override
+                                protected List<IndexColumnDefinition> getIndexColumns0() {
+                                    List<IndexColumnDefinition> columns = new ArrayList<>();
+                                    List<SortField<?>> fields = index.getFields();
+
+                                    for (int i = 0; i < fields.size(); i++) {
+                                        ColumnDefinition column = t.getColumn(fields.get(i).getName());
+
+                                        if (column != null)
+                                            columns.add(new DefaultIndexColumnDefinition(this, column, fields.get(i).getOrder(), i + 1));
+                                        else
+                                            log.error(String.format("Column %s not found in table %s.", fields.get(i).getName(), t));
+                                    }
+
+                                    return columns;
+                                }
+                            });
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    @Deprecated
+    public String getOutputSchema(String inputSchema) {
+        String outputSchema = super.getOutputSchema(inputSchema);
+
+        if (publicIsDefault && "PUBLIC".equals(outputSchema))
+            return "";
+
+        return outputSchema;
+    }
+
+    @Override
+    public String getOutputSchema(String inputCatalog, String inputSchema) {
+        String outputSchema = super.getOutputSchema(inputCatalog, inputSchema);
+
+        if (publicIsDefault && "PUBLIC".equals(outputSchema))
+            return "";
+
+        return outputSchema;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.extensions.ddl;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.Definition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.meta.jaxb.CatalogMappingType;
+import org.jooq.meta.jaxb.SchemaMappingType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class DDLInterpreterDatabaseTest {
+
+    private File                   script;
+    private DDLInterpreterDatabase database;
+
+    @Before
+    public void setup() throws IOException {
+        script = File.createTempFile("ddl-interpreter-database-test", ".sql");
+        Files.write(script.toPath(), (
+            "create table p (id int primary key, a int, b int, c int, unique (a), unique (b, c), check (a > 0), check (b > 0));\n" +
+            "create table c (id int primary key, pa int, pb int, pc int, pid int, check (pa > 0), check (pb > 0), " +
+            "foreign key (pa) references p (a), foreign key (pb, pc) references p (b, c), foreign key (pid) references p);\n"
+        ).getBytes(StandardCharsets.UTF_8));
+
+        Properties properties = new Properties();
+        properties.setProperty("scripts", script.getAbsolutePath());
+
+        database = new DDLInterpreterDatabase();
+        database.setProperties(properties);
+        database.setBasedir(script.getParent());
+        database.setConfiguredCatalogs(Arrays.asList(new CatalogMappingType().withInputCatalog("").withSchemata(new SchemaMappingType().withInputSchema(""))));
+        database.setIncludes(new String[] { ".*" });
+        database.setExcludes(new String[] { "" });
+        database.setIncludeTables(true);
+        database.setIncludePrimaryKeys(true);
+        database.setIncludeUniqueKeys(true);
+        database.setIncludeForeignKeys(true);
+        database.setIncludeCheckConstraints(true);
+    }
+
+    @After
+    public void teardown() {
+        database.close();
+        script.delete();
+    }
+
+    private TableDefinition table(String name) {
+        return database.getTable(database.getSchema("PUBLIC"), name);
+    }
+
+    private static List<String> names(List<? extends Definition> definitions) {
+        return definitions.stream().map(Definition::getName).sorted().collect(toList());
+    }
+
+    private static List<String> columns(List<ColumnDefinition> columns) {
+        return columns.stream().map(Definition::getName).collect(toList());
+    }
+
+    @Test
+    public void testUnnamedUniqueKeys() {
+        List<UniqueKeyDefinition> keys = table("P").getUniqueKeys();
+
+        assertEquals(Arrays.asList("UK_P_A", "UK_P_B_C"), names(keys));
+        assertEquals(Arrays.asList("A"), columns(table("P").getUniqueKey("UK_P_A").getKeyColumns()));
+        assertEquals(Arrays.asList("B", "C"), columns(table("P").getUniqueKey("UK_P_B_C").getKeyColumns()));
+    }
+
+    @Test
+    public void testUnnamedChecks() {
+        List<CheckConstraintDefinition> checks = table("P").getCheckConstraints();
+
+        assertEquals(Arrays.asList("CK_P_1", "CK_P_2"), names(checks));
+        assertEquals(Arrays.asList("CK_C_1", "CK_C_2"), names(table("C").getCheckConstraints()));
+    }
+
+    @Test
+    public void testUnnamedForeignKeys() {
+        List<ForeignKeyDefinition> keys = table("C").getForeignKeys();
+
+        assertEquals(Arrays.asList("FK_C_PA", "FK_C_PB_PC", "FK_C_PID"), names(keys));
+
+        for (ForeignKeyDefinition key : keys) {
+            String referenced = key.getReferencedKey().getName();
+
+            switch (key.getName()) {
+                case "FK_C_PA":
+                    assertEquals("UK_P_A", referenced);
+                    break;
+                case "FK_C_PB_PC":
+                    assertEquals("UK_P_B_C", referenced);
+                    assertEquals(Arrays.asList("PB", "PC"), columns(key.getKeyColumns()));
+                    break;
+                case "FK_C_PID":
+                    assertEquals("PK_P", referenced);
+                    break;
+            }
+        }
+    }
+}
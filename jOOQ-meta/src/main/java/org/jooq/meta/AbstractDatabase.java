@@ -65,14 +65,19 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -81,6 +86,7 @@ import java.util.stream.Stream;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -151,6 +157,8 @@ public abstract class AbstractDatabase implements Database {
     private String                                                           basedir;
     private SQLDialect                                                       dialect;
     private Connection                                                       connection;
+    private ConnectionProvider                                               connectionProvider;
+    private final ThreadLocal<Connection>                                    prefetchConnection                   = new ThreadLocal<>();
     private boolean                                                          regexMatchesPartialQualification;
     private boolean                                                          sqlMatchesPartialQualification;
     private OnError                                                          onError                              = OnError.FAIL;
@@ -200,25 +208,25 @@ public abstract class AbstractDatabase implements Database {
     private List<CustomType>                                                 configuredCustomTypes                = new ArrayList<>();
     private List<EnumType>                                                   configuredEnumTypes                  = new ArrayList<>();
     private List<ForcedType>                                                 configuredForcedTypes;
-    private Set<ForcedType>                                                  unusedForcedTypes                    = new HashSet<>();
+    private Set<ForcedType>                                                  unusedForcedTypes                    = ConcurrentHashMap.newKeySet();
     private List<EmbeddableDefinitionType>                                   configuredEmbeddables                = new ArrayList<>();
-    private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                    = new HashSet<>();
+    private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                    = ConcurrentHashMap.newKeySet();
     private List<CommentType>                                                configuredComments                   = new ArrayList<>();
-    private Set<CommentType>                                                 unusedComments                       = new HashSet<>();
+    private Set<CommentType>                                                 unusedComments                       = ConcurrentHashMap.newKeySet();
     private List<SyntheticReadonlyColumnType>                                configuredSyntheticReadonlyColumns   = new ArrayList<>();
-    private Set<SyntheticReadonlyColumnType>                                 unusedSyntheticReadonlyColumns       = new HashSet<>();
+    private Set<SyntheticReadonlyColumnType>                                 unusedSyntheticReadonlyColumns       = ConcurrentHashMap.newKeySet();
     private List<SyntheticReadonlyRowidType>                                 configuredSyntheticReadonlyRowids    = new ArrayList<>();
-    private Set<SyntheticReadonlyRowidType>                                  unusedSyntheticReadonlyRowids        = new HashSet<>();
+    private Set<SyntheticReadonlyRowidType>                                  unusedSyntheticReadonlyRowids        = ConcurrentHashMap.newKeySet();
     private List<SyntheticIdentityType>                                      configuredSyntheticIdentities        = new ArrayList<>();
-    private Set<SyntheticIdentityType>                                       unusedSyntheticIdentities            = new HashSet<>();
+    private Set<SyntheticIdentityType>                                       unusedSyntheticIdentities            = ConcurrentHashMap.newKeySet();
     private List<SyntheticPrimaryKeyType>                                    configuredSyntheticPrimaryKeys       = new ArrayList<>();
-    private Set<SyntheticPrimaryKeyType>                                     unusedSyntheticPrimaryKeys           = new HashSet<>();
+    private Set<SyntheticPrimaryKeyType>                                     unusedSyntheticPrimaryKeys           = ConcurrentHashMap.newKeySet();
     private List<SyntheticUniqueKeyType>                                     configuredSyntheticUniqueKeys        = new ArrayList<>();
-    private Set<SyntheticUniqueKeyType>                                      unusedSyntheticUniqueKeys            = new HashSet<>();
+    private Set<SyntheticUniqueKeyType>                                      unusedSyntheticUniqueKeys            = ConcurrentHashMap.newKeySet();
     private List<SyntheticForeignKeyType>                                    configuredSyntheticForeignKeys       = new ArrayList<>();
-    private Set<SyntheticForeignKeyType>                                     unusedSyntheticForeignKeys           = new HashSet<>();
+    private Set<SyntheticForeignKeyType>                                     unusedSyntheticForeignKeys           = ConcurrentHashMap.newKeySet();
     private List<SyntheticViewType>                                          configuredSyntheticViews             = new ArrayList<>();
-    private Set<SyntheticViewType>                                           unusedSyntheticViews                 = new HashSet<>();
+    private Set<SyntheticViewType>                                           unusedSyntheticViews                 = ConcurrentHashMap.newKeySet();
     private SchemaVersionProvider                                            schemaVersionProvider;
     private CatalogVersionProvider                                           catalogVersionProvider;
     private Comparator<Definition>                                           orderProvider;
@@ -226,6 +234,7 @@ public abstract class AbstractDatabase implements Database {
     private boolean                                                          tableValuedFunctions                 = true;
     private int                                                              logSlowQueriesAfterSeconds;
     private int                                                              logSlowResultsAfterSeconds;
+    private int                                                              fetchConcurrency                     = 1;
 
     // -------------------------------------------------------------------------
     // Loaded definitions
@@ -255,26 +264,26 @@ public abstract class AbstractDatabase implements Database {
     private List<PackageDefinition>                                          packages;
     private Relations                                                        relations;
 
-    private transient Map<SchemaDefinition, List<SequenceDefinition>>        sequencesBySchema;
-    private transient Map<SchemaDefinition, List<IdentityDefinition>>        identitiesBySchema;
-    private transient Map<SchemaDefinition, List<IndexDefinition>>           indexesBySchema;
-    private transient Map<TableDefinition, List<IndexDefinition>>            indexesByTable;
-    private transient Map<SchemaDefinition, List<UniqueKeyDefinition>>       primaryKeysBySchema;
-    private transient Map<SchemaDefinition, List<UniqueKeyDefinition>>       uniqueKeysBySchema;
-    private transient Map<SchemaDefinition, List<UniqueKeyDefinition>>       keysBySchema;
-    private transient Map<SchemaDefinition, List<ForeignKeyDefinition>>      foreignKeysBySchema;
-    private transient Map<SchemaDefinition, List<CheckConstraintDefinition>> checkConstraintsBySchema;
-    private transient Map<SchemaDefinition, List<TableDefinition>>           tablesBySchema;
-    private transient Map<SchemaDefinition, List<EmbeddableDefinition>>      embeddablesByDefiningSchema;
-    private transient Map<TableDefinition, List<EmbeddableDefinition>>       embeddablesByDefiningTable;
-    private transient Map<TableDefinition, List<EmbeddableDefinition>>       embeddablesByReferencingTable;
-    private transient Map<SchemaDefinition, List<EnumDefinition>>            enumsBySchema;
-    private transient Map<SchemaDefinition, List<DomainDefinition>>          domainsBySchema;
-    private transient Map<SchemaDefinition, List<UDTDefinition>>             udtsBySchema;
-    private transient Map<PackageDefinition, List<UDTDefinition>>            udtsByPackage;
-    private transient Map<SchemaDefinition, List<ArrayDefinition>>           arraysBySchema;
-    private transient Map<SchemaDefinition, List<RoutineDefinition>>         routinesBySchema;
-    private transient Map<SchemaDefinition, List<PackageDefinition>>         packagesBySchema;
+    private final Map<SchemaDefinition, List<SequenceDefinition>>            sequencesBySchema;
+    private final Map<SchemaDefinition, List<IdentityDefinition>>            identitiesBySchema;
+    private final Map<SchemaDefinition, List<IndexDefinition>>               indexesBySchema;
+    private final Map<TableDefinition, List<IndexDefinition>>                indexesByTable;
+    private final Map<SchemaDefinition, List<UniqueKeyDefinition>>           primaryKeysBySchema;
+    private final Map<SchemaDefinition, List<UniqueKeyDefinition>>           uniqueKeysBySchema;
+    private final Map<SchemaDefinition, List<UniqueKeyDefinition>>           keysBySchema;
+    private final Map<SchemaDefinition, List<ForeignKeyDefinition>>          foreignKeysBySchema;
+    private final Map<SchemaDefinition, List<CheckConstraintDefinition>>     checkConstraintsBySchema;
+    private final Map<SchemaDefinition, List<TableDefinition>>               tablesBySchema;
+    private final Map<SchemaDefinition, List<EmbeddableDefinition>>          embeddablesByDefiningSchema;
+    private final Map<TableDefinition, List<EmbeddableDefinition>>           embeddablesByDefiningTable;
+    private final Map<TableDefinition, List<EmbeddableDefinition>>           embeddablesByReferencingTable;
+    private final Map<SchemaDefinition, List<EnumDefinition>>                enumsBySchema;
+    private final Map<SchemaDefinition, List<DomainDefinition>>              domainsBySchema;
+    private final Map<SchemaDefinition, List<UDTDefinition>>                 udtsBySchema;
+    private final Map<PackageDefinition, List<UDTDefinition>>                udtsByPackage;
+    private final Map<SchemaDefinition, List<ArrayDefinition>>               arraysBySchema;
+    private final Map<SchemaDefinition, List<RoutineDefinition>>             routinesBySchema;
+    private final Map<SchemaDefinition, List<PackageDefinition>>             packagesBySchema;
     private transient boolean                                                initialised;
 
     // Other caches
@@ -296,6 +305,28 @@ public abstract class AbstractDatabase implements Database {
         included = new ArrayList<>();
         excluded = new ArrayList<>();
         orderProvider = new DefaultOrderProvider();
+
+        // Meta data categories may be fetched concurrently by prefetch()
+        sequencesBySchema = new LinkedHashMap<>();
+        identitiesBySchema = new LinkedHashMap<>();
+        indexesBySchema = new LinkedHashMap<>();
+        indexesByTable = new HashMap<>();
+        primaryKeysBySchema = new LinkedHashMap<>();
+        uniqueKeysBySchema = new LinkedHashMap<>();
+        keysBySchema = new LinkedHashMap<>();
+        foreignKeysBySchema = new LinkedHashMap<>();
+        checkConstraintsBySchema = new LinkedHashMap<>();
+        tablesBySchema = new LinkedHashMap<>();
+        embeddablesByDefiningSchema = new LinkedHashMap<>();
+        embeddablesByDefiningTable = new LinkedHashMap<>();
+        embeddablesByReferencingTable = new LinkedHashMap<>();
+        enumsBySchema = new LinkedHashMap<>();
+        domainsBySchema = new LinkedHashMap<>();
+        udtsBySchema = new LinkedHashMap<>();
+        udtsByPackage = new LinkedHashMap<>();
+        arraysBySchema = new LinkedHashMap<>();
+        routinesBySchema = new LinkedHashMap<>();
+        packagesBySchema = new LinkedHashMap<>();
     }
 
     @Override
@@ -319,7 +350,20 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Connection getConnection() {
-        return connection;
+
+        // Concurrent prefetching threads work with their own connections
+        Connection c = prefetchConnection.get();
+        return c != null ? c : connection;
+    }
+
+    @Override
+    public final void setConnectionProvider(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public final ConnectionProvider getConnectionProvider() {
+        return connectionProvider;
     }
 
     @Override
@@ -491,7 +535,9 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final boolean exists(TableField<?, ?> field) {
-        return existFields.computeIfAbsent(field, this::exists0);
+        synchronized (existFields) {
+            return existFields.computeIfAbsent(field, this::exists0);
+        }
     }
 
     /**
@@ -552,7 +598,9 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final boolean exists(Table<?> table) {
-        return existTables.computeIfAbsent(table, this::exists0);
+        synchronized (existTables) {
+            return existTables.computeIfAbsent(table, this::exists0);
+        }
     }
 
     /**
@@ -1492,6 +1540,102 @@ public abstract class AbstractDatabase implements Database {
         this.logSlowResultsAfterSeconds = logSlowResultsAfterSeconds;
     }
 
+    @Override
+    public final int getFetchConcurrency() {
+        return fetchConcurrency;
+    }
+
+    @Override
+    public final void setFetchConcurrency(int fetchConcurrency) {
+        this.fetchConcurrency = fetchConcurrency;
+    }
+
+    @Override
+    public final void prefetch() {
+
+        // Catalogs, schemata and tables are needed by other meta data
+        // categories (e.g. MySQL enums are looked up from their tables), so
+        // they're fetched first, on the calling thread. Each task populates
+        // only the lazy caches of its own meta data category, while the
+        // *BySchema caches may be populated concurrently.
+        getCatalogs();
+        List<SchemaDefinition> s = getSchemata();
+        s.forEach(this::getTables);
+
+        prefetch(
+            () -> s.forEach(this::getSequences),
+            () -> s.forEach(this::getEnums),
+            () -> s.forEach(this::getDomains),
+            () -> s.forEach(this::getUDTs),
+            () -> s.forEach(this::getArrays),
+            () -> s.forEach(this::getRoutines),
+            () -> s.forEach(this::getPackages)
+        );
+
+        // Keys and indexes look up the tables fetched previously, and index
+        // definitions may look up keys, so they're fetched last, in order
+        getRelations();
+        s.forEach(this::getIndexes);
+    }
+
+    private final void prefetch(Runnable... tasks) {
+        if (fetchConcurrency <= 1 || connectionProvider == null) {
+            for (Runnable task : tasks)
+                task.run();
+
+            return;
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(fetchConcurrency, tasks.length), r -> {
+            Thread thread = new Thread(r, "jooq-meta-prefetch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    Connection c = connectionProvider.acquire();
+                    prefetchConnection.set(c);
+
+                    try {
+                        task.run();
+                    }
+                    finally {
+                        prefetchConnection.remove();
+                        connectionProvider.release(c);
+                    }
+                }));
+            }
+
+            // Futures are awaited in submission order, to report the first
+            // error in a deterministic way
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                }
+                catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) e.getCause();
+                    else if (e.getCause() instanceof Error)
+                        throw (Error) e.getCause();
+                    else
+                        throw new RuntimeException(e.getCause());
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Override
     public final SchemaVersionProvider getSchemaVersionProvider() {
         return schemaVersionProvider;
@@ -1624,9 +1768,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<SequenceDefinition> getSequences(SchemaDefinition schema) {
-        if (sequencesBySchema == null)
-            sequencesBySchema = new LinkedHashMap<>();
-
         return filterSchema(getSequences(), schema, sequencesBySchema);
     }
 
@@ -1647,9 +1788,6 @@ public abstract class AbstractDatabase implements Database {
             sort(identities);
         }
 
-        if (identitiesBySchema == null)
-            identitiesBySchema = new LinkedHashMap<>();
-
         return filterSchema(identities, schema, identitiesBySchema);
     }
 
@@ -1671,9 +1809,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UniqueKeyDefinition> getPrimaryKeys(SchemaDefinition schema) {
-        if (primaryKeysBySchema == null)
-            primaryKeysBySchema = new LinkedHashMap<>();
-
         return filterSchema(getPrimaryKeys(), schema, primaryKeysBySchema);
     }
 
@@ -1696,9 +1831,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UniqueKeyDefinition> getUniqueKeys(SchemaDefinition schema) {
-        if (uniqueKeysBySchema == null)
-            uniqueKeysBySchema = new LinkedHashMap<>();
-
         return filterSchema(getUniqueKeys(), schema, uniqueKeysBySchema);
     }
 
@@ -1720,9 +1852,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UniqueKeyDefinition> getKeys(SchemaDefinition schema) {
-        if (keysBySchema == null)
-            keysBySchema = new LinkedHashMap<>();
-
         return filterSchema(getKeys(), schema, keysBySchema);
     }
 
@@ -1744,9 +1873,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<ForeignKeyDefinition> getForeignKeys(SchemaDefinition schema) {
-        if (foreignKeysBySchema == null)
-            foreignKeysBySchema = new LinkedHashMap<>();
-
         return filterSchema(getForeignKeys(), schema, foreignKeysBySchema);
     }
 
@@ -1763,9 +1889,6 @@ public abstract class AbstractDatabase implements Database {
             sort(checkConstraints);
         }
 
-        if (checkConstraintsBySchema == null)
-            checkConstraintsBySchema = new LinkedHashMap<>();
-
         return filterSchema(checkConstraints, schema, checkConstraintsBySchema);
     }
 
@@ -1791,9 +1914,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<TableDefinition> getTables(SchemaDefinition schema) {
-        if (tablesBySchema == null)
-            tablesBySchema = new LinkedHashMap<>();
-
         return filterSchema(getTables(), schema, tablesBySchema);
     }
 
@@ -1832,9 +1952,6 @@ public abstract class AbstractDatabase implements Database {
             });
         }
 
-        if (enumsBySchema == null)
-            enumsBySchema = new LinkedHashMap<>();
-
         return filterSchema(enums, schema, enumsBySchema);
     }
 
@@ -2054,25 +2171,16 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<EmbeddableDefinition> getEmbeddables(SchemaDefinition schema) {
-        if (embeddablesByDefiningSchema == null)
-            embeddablesByDefiningSchema = new LinkedHashMap<>();
-
         return filterSchema(getEmbeddables(), schema, embeddablesByDefiningSchema);
     }
 
     @Override
     public final List<EmbeddableDefinition> getEmbeddables(TableDefinition table) {
-        if (embeddablesByDefiningTable == null)
-            embeddablesByDefiningTable = new LinkedHashMap<>();
-
         return filterTable(getEmbeddables(table.getSchema()), table, embeddablesByDefiningTable);
     }
 
     @Override
     public final List<EmbeddableDefinition> getEmbeddablesByReferencingTable(TableDefinition table) {
-        if (embeddablesByReferencingTable == null)
-            embeddablesByReferencingTable = new LinkedHashMap<>();
-
         return filterReferencingTable(getEmbeddables(), table, embeddablesByReferencingTable);
     }
 
@@ -2297,9 +2405,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<DomainDefinition> getDomains(SchemaDefinition schema) {
-        if (domainsBySchema == null)
-            domainsBySchema = new LinkedHashMap<>();
-
         return filterSchema(getDomains(), schema, domainsBySchema);
     }
 
@@ -2340,9 +2445,6 @@ public abstract class AbstractDatabase implements Database {
                 log.info("ARRAYs excluded");
         }
 
-        if (arraysBySchema == null)
-            arraysBySchema = new LinkedHashMap<>();
-
         return filterSchema(arrays, schema, arraysBySchema);
     }
 
@@ -2388,9 +2490,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UDTDefinition> getUDTs(SchemaDefinition schema) {
-        if (udtsBySchema == null)
-            udtsBySchema = new LinkedHashMap<>();
-
         return filterSchema(getUDTs(), schema, udtsBySchema);
     }
 
@@ -2416,9 +2515,6 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UDTDefinition> getUDTs(PackageDefinition pkg) {
-        if (udtsByPackage == null)
-            udtsByPackage = new LinkedHashMap<>();
-
         return filterPackage(getUDTs(), pkg, udtsByPackage);
     }
 
@@ -2454,30 +2550,26 @@ public abstract class AbstractDatabase implements Database {
                 log.info("Indexes excluded");
         }
 
-        if (indexesBySchema == null)
-            indexesBySchema = new LinkedHashMap<>();
-
         return filterSchema(indexes, schema, indexesBySchema);
     }
 
     @Override
     public final List<IndexDefinition> getIndexes(TableDefinition table) {
-        if (indexesByTable == null)
-            indexesByTable = new HashMap<>();
+        synchronized (indexesByTable) {
+            List<IndexDefinition> list = indexesByTable.get(table);
+            if (list == null) {
+                indexesByTable.put(table, list = new ArrayList<>());
 
-        List<IndexDefinition> list = indexesByTable.get(table);
-        if (list == null) {
-            indexesByTable.put(table, list = new ArrayList<>());
+                for (TableDefinition otherTable : getTables(table.getSchema()))
+                    if (!indexesByTable.containsKey(otherTable))
+                        indexesByTable.put(otherTable, new ArrayList<>());
 
-            for (TableDefinition otherTable : getTables(table.getSchema()))
-                if (!indexesByTable.containsKey(otherTable))
-                    indexesByTable.put(otherTable, new ArrayList<>());
+                for (IndexDefinition index : getIndexes(table.getSchema()))
+                    indexesByTable.computeIfAbsent(index.getTable(), k -> new ArrayList<>()).add(index);
+            }
 
-            for (IndexDefinition index : getIndexes(table.getSchema()))
-                indexesByTable.computeIfAbsent(index.getTable(), k -> new ArrayList<>()).add(index);
+            return list;
         }
-
-        return list;
     }
 
     @Override
@@ -2497,9 +2589,6 @@ public abstract class AbstractDatabase implements Database {
                 log.info("Routines excluded");
         }
 
-        if (routinesBySchema == null)
-            routinesBySchema = new LinkedHashMap<>();
-
         return filterSchema(routines, schema, routinesBySchema);
     }
 
@@ -2520,9 +2609,6 @@ public abstract class AbstractDatabase implements Database {
                 log.info("Packages excluded");
         }
 
-        if (packagesBySchema == null)
-            packagesBySchema = new LinkedHashMap<>();
-
         return filterSchema(packages, schema, packagesBySchema);
     }
 
@@ -2562,7 +2648,9 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends Definition> List<T> filterSchema(List<T> definitions, SchemaDefinition schema, Map<SchemaDefinition, List<T>> cache) {
-        return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+        synchronized (cache) {
+            return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+        }
     }
 
     protected final <T extends Definition> List<T> filterSchema(List<T> definitions, SchemaDefinition schema) {
@@ -2579,7 +2667,9 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends Definition> List<T> filterPackage(List<T> definitions, PackageDefinition pkg, Map<PackageDefinition, List<T>> cache) {
-        return cache.computeIfAbsent(pkg, p -> filterPackage(definitions, p));
+        synchronized (cache) {
+            return cache.computeIfAbsent(pkg, p -> filterPackage(definitions, p));
+        }
     }
 
     protected final <T extends Definition> List<T> filterPackage(List<T> definitions, PackageDefinition pkg) {
@@ -2596,14 +2686,9 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends TableElementDefinition> List<T> filterTable(List<T> definitions, TableDefinition table, Map<TableDefinition, List<T>> cache) {
-        List<T> result = cache.get(table);
-
-        if (result == null) {
-            result = filterTable(definitions, table);
-            cache.put(table, result);
+        synchronized (cache) {
+            return cache.computeIfAbsent(table, t -> filterTable(definitions, t));
         }
-
-        return result;
     }
 
     protected final <T extends TableElementDefinition> List<T> filterTable(List<T> definitions, TableDefinition table) {
@@ -2620,14 +2705,9 @@ public abstract class AbstractDatabase implements Database {
     }
 
     private final <T extends EmbeddableDefinition> List<T> filterReferencingTable(List<T> definitions, TableDefinition table, Map<TableDefinition, List<T>> cache) {
-        List<T> result = cache.get(table);
-
-        if (result == null) {
-            result = filterReferencingTable(definitions, table);
-            cache.put(table, result);
+        synchronized (cache) {
+            return cache.computeIfAbsent(table, t -> filterReferencingTable(definitions, t));
         }
-
-        return result;
     }
 
     private final <T extends EmbeddableDefinition> List<T> filterReferencingTable(List<T> definitions, TableDefinition table) {
@@ -2647,10 +2727,13 @@ public abstract class AbstractDatabase implements Database {
     public final <T extends Definition> List<T> filterExcludeInclude(List<T> definitions) {
         List<T> result = filterExcludeInclude(definitions, excludes, includes, filters);
 
-        this.all.addAll(definitions);
-        this.included.addAll(result);
-        this.excluded.addAll(definitions);
-        this.excluded.removeAll(result);
+        // Meta data categories may be filtered concurrently by prefetch()
+        synchronized (all) {
+            this.all.addAll(definitions);
+            this.included.addAll(result);
+            this.excluded.addAll(definitions);
+            this.excluded.removeAll(result);
+        }
 
         return result;
     }
@@ -2665,17 +2748,23 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<Definition> getIncluded() {
-        return Collections.unmodifiableList(included);
+        synchronized (all) {
+            return Collections.unmodifiableList(new ArrayList<>(included));
+        }
     }
 
     @Override
     public final List<Definition> getExcluded() {
-        return Collections.unmodifiableList(excluded);
+        synchronized (all) {
+            return Collections.unmodifiableList(new ArrayList<>(excluded));
+        }
     }
 
     @Override
     public final List<Definition> getAll() {
-        return Collections.unmodifiableList(all);
+        synchronized (all) {
+            return Collections.unmodifiableList(new ArrayList<>(all));
+        }
     }
 
     protected final <T extends Definition> List<T> filter(List<T> definitions, String include) {
@@ -90,7 +90,7 @@ public abstract class AbstractMetaDatabase extends AbstractDatabase {
 
                         if (key != null)
                             for (Field<?> field : key.getFields())
-                                relations.addPrimaryKey("PK_" + key.getTable().getName(), t, t.getColumn(field.getName()));
+                                relations.addPrimaryKey(primaryKeyName(key), t, t.getColumn(field.getName()));
                     }
                 }
             }
@@ -130,10 +130,10 @@ public abstract class AbstractMetaDatabase extends AbstractDatabase {
 
                                         for (Field<?> fkField : fk.getFields())
                                             relations.addForeignKey(
-                                                fk.getName(),
+                                                foreignKeyName(fk),
                                                 referencingTD,
                                                 referencingTD.getColumn(fkField.getName()),
-                                                uk.getName(),
+                                                referencedKeyName(uk),
                                                 referencedTD
                                             );
                                     }
@@ -146,6 +146,27 @@ public abstract class AbstractMetaDatabase extends AbstractDatabase {
         }
     }
 
+    /**
+     * The name of a primary key.
+     */
+    protected String primaryKeyName(UniqueKey<?> key) {
+        return "PK_" + key.getTable().getName();
+    }
+
+    /**
+     * The name of a unique key referenced by a foreign key.
+     */
+    protected String referencedKeyName(UniqueKey<?> key) {
+        return key.getName();
+    }
+
+    /**
+     * The name of a foreign key.
+     */
+    protected String foreignKeyName(ForeignKey<?, ?> key) {
+        return key.getName();
+    }
+
     @Override
     protected void loadCheckConstraints(DefaultRelations r) throws SQLException {
     }
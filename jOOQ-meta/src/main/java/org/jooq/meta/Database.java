@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.DataType;
 import org.jooq.Name;
@@ -371,6 +372,17 @@ public interface Database extends AutoCloseable {
      */
     Connection getConnection();
 
+    /**
+     * Initialise a provider of additional connections to this database, which
+     * are used to fetch meta data concurrently.
+     */
+    void setConnectionProvider(ConnectionProvider connectionProvider);
+
+    /**
+     * The provider of additional connections to this database.
+     */
+    ConnectionProvider getConnectionProvider();
+
     /**
      * The input catalogs are the catalogs that jooq-meta is reading data from.
      */
@@ -949,6 +961,27 @@ public interface Database extends AutoCloseable {
      */
     void setLogSlowResultsAfterSeconds(int logSlowResultsAfterSeconds);
 
+    /**
+     * The number of threads used to fetch independent categories of meta data
+     * concurrently in {@link #prefetch()}.
+     */
+    int getFetchConcurrency();
+
+    /**
+     * The number of threads used to fetch independent categories of meta data
+     * concurrently in {@link #prefetch()}.
+     */
+    void setFetchConcurrency(int fetchConcurrency);
+
+    /**
+     * Eagerly fetch all meta data that is otherwise fetched lazily.
+     * <p>
+     * If {@link #getFetchConcurrency()} is greater than <code>1</code> and a
+     * {@link #getConnectionProvider()} is available, independent categories of
+     * meta data are fetched concurrently, each on its own connection.
+     */
+    void prefetch();
+
     /**
      * The database's schema version provider.
      */
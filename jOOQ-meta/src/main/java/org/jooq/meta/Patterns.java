@@ -38,9 +38,9 @@
 package org.jooq.meta;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.jooq.meta.jaxb.RegexFlag;
@@ -56,7 +56,7 @@ public final class Patterns {
     private List<RegexFlag>            regexFlags;
 
     public Patterns() {
-        patterns = new HashMap<>();
+        patterns = new ConcurrentHashMap<>();
     }
 
     public final Pattern pattern(String regex) {
@@ -163,6 +163,8 @@ public class Database implements Serializable, XMLAppendable
     protected Integer logSlowQueriesAfterSeconds = 5;
     @XmlElement(defaultValue = "5")
     protected Integer logSlowResultsAfterSeconds = 5;
+    @XmlElement(defaultValue = "1")
+    protected Integer fetchConcurrency = 1;
     @XmlElementWrapper(name = "properties")
     @XmlElement(name = "property")
     protected List<Property> properties;
@@ -1745,6 +1747,26 @@ public class Database implements Serializable, XMLAppendable
         this.logSlowResultsAfterSeconds = value;
     }
 
+    /**
+     * The number of threads used to fetch independent categories of meta data (e.g. tables, sequences, routines, keys, indexes) concurrently, 1 for fetching everything on the calling thread.
+     * <p>
+     * Each thread uses its own connection, which is obtained from the configured <code>&lt;jdbc/&gt;</code> connection settings or from the data source passed to the code generator.
+     * 
+     */
+    public Integer getFetchConcurrency() {
+        return fetchConcurrency;
+    }
+
+    /**
+     * The number of threads used to fetch independent categories of meta data (e.g. tables, sequences, routines, keys, indexes) concurrently, 1 for fetching everything on the calling thread.
+     * <p>
+     * Each thread uses its own connection, which is obtained from the configured <code>&lt;jdbc/&gt;</code> connection settings or from the data source passed to the code generator.
+     * 
+     */
+    public void setFetchConcurrency(Integer value) {
+        this.fetchConcurrency = value;
+    }
+
     public List<Property> getProperties() {
         if (properties == null) {
             properties = new ArrayList<Property>();
@@ -2413,6 +2435,17 @@ public class Database implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to fetch independent categories of meta data (e.g. tables, sequences, routines, keys, indexes) concurrently, 1 for fetching everything on the calling thread.
+     * <p>
+     * Each thread uses its own connection, which is obtained from the configured <code>&lt;jdbc/&gt;</code> connection settings or from the data source passed to the code generator.
+     * 
+     */
+    public Database withFetchConcurrency(Integer value) {
+        setFetchConcurrency(value);
+        return this;
+    }
+
     public Database withProperties(Property... values) {
         if (values!= null) {
             for (Property value: values) {
@@ -2648,6 +2681,7 @@ public class Database implements Serializable, XMLAppendable
         builder.append("tableValuedFunctions", tableValuedFunctions);
         builder.append("logSlowQueriesAfterSeconds", logSlowQueriesAfterSeconds);
         builder.append("logSlowResultsAfterSeconds", logSlowResultsAfterSeconds);
+        builder.append("fetchConcurrency", fetchConcurrency);
         builder.append("properties", "property", properties);
         builder.append("comments", "comment", comments);
         builder.append("catalogs", "catalog", catalogs);
@@ -3208,6 +3242,15 @@ public class Database implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (fetchConcurrency == null) {
+            if (other.fetchConcurrency!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchConcurrency.equals(other.fetchConcurrency)) {
+                return false;
+            }
+        }
         if (properties == null) {
             if (other.properties!= null) {
                 return false;
@@ -3346,6 +3389,7 @@ public class Database implements Serializable, XMLAppendable
         result = ((prime*result)+((tableValuedFunctions == null)? 0 :tableValuedFunctions.hashCode()));
         result = ((prime*result)+((logSlowQueriesAfterSeconds == null)? 0 :logSlowQueriesAfterSeconds.hashCode()));
         result = ((prime*result)+((logSlowResultsAfterSeconds == null)? 0 :logSlowResultsAfterSeconds.hashCode()));
+        result = ((prime*result)+((fetchConcurrency == null)? 0 :fetchConcurrency.hashCode()));
         result = ((prime*result)+((properties == null)? 0 :properties.hashCode()));
         result = ((prime*result)+((comments == null)? 0 :comments.hashCode()));
         result = ((prime*result)+((catalogs == null)? 0 :catalogs.hashCode()));
@@ -97,6 +97,8 @@ public class Generate implements Serializable, XMLAppendable
     @XmlElement(defaultValue = "true")
     protected Boolean pojosToString = true;
     @XmlElement(defaultValue = "false")
+    protected Boolean pojosRecordMappers = false;
+    @XmlElement(defaultValue = "false")
     protected Boolean pojosAsJavaRecordClasses = false;
     @XmlElement(defaultValue = "true")
     protected Boolean pojosAsScalaCaseClasses = true;
@@ -150,6 +152,10 @@ public class Generate implements Serializable, XMLAppendable
     protected Boolean globalKeyReferences = true;
     @XmlElement(defaultValue = "true")
     protected Boolean globalIndexReferences = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean lazyReferences = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean nativeImageSupport = false;
     @XmlElement(defaultValue = "true")
     protected Boolean javadoc = true;
     @XmlElement(defaultValue = "true")
@@ -213,6 +219,10 @@ public class Generate implements Serializable, XMLAppendable
     protected String indentation;
     @XmlElement(defaultValue = "80")
     protected Integer printMarginForBlockComment = 80;
+    @XmlElement(defaultValue = "1")
+    protected Integer concurrency = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
 
     /**
      * Generate index information.
@@ -960,6 +970,32 @@ public class Generate implements Serializable, XMLAppendable
         this.pojosToString = value;
     }
 
+    /**
+     * Generate reflection free {@link org.jooq.RecordMapper} and {@link org.jooq.RecordUnmapper} implementations for generated POJOs, and register them with the table.
+     * <p>
+     * This feature is available in the Java code generator only, and requires <code>&lt;pojos/&gt;</code> and <code>&lt;records/&gt;</code> to be enabled.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isPojosRecordMappers() {
+        return pojosRecordMappers;
+    }
+
+    /**
+     * Sets the value of the pojosRecordMappers property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setPojosRecordMappers(Boolean value) {
+        this.pojosRecordMappers = value;
+    }
+
     /**
      * Generate POJOs as records, when using the JavaGenerator.
      * 
@@ -1600,6 +1636,58 @@ public class Generate implements Serializable, XMLAppendable
         this.globalIndexReferences = value;
     }
 
+    /**
+     * Generate tables that reference their schema and catalog lazily, and (in Java) key references in lazily initialised per-table holder classes, such that accessing a single table does not initialise all other tables of a schema.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isLazyReferences() {
+        return lazyReferences;
+    }
+
+    /**
+     * Sets the value of the lazyReferences property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setLazyReferences(Boolean value) {
+        this.lazyReferences = value;
+    }
+
+    /**
+     * Generate GraalVM native image reflection configuration for generated records, POJOs, interfaces and enums, and register reflection free record constructor references with generated tables and UDTs.
+     * <p>
+     * The configuration is generated to <code>META-INF/native-image/[target package]/reflect-config.json</code> in the target resource directory, which should be included as a resource in the build. The jOOQ-codegen-maven plugin does so automatically.
+     * <p>
+     * The registration of record constructor references is available in the Java code generator only.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isNativeImageSupport() {
+        return nativeImageSupport;
+    }
+
+    /**
+     * Sets the value of the nativeImageSupport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setNativeImageSupport(Boolean value) {
+        this.nativeImageSupport = value;
+    }
+
     /**
      * Turn off generation of Javadoc on all objects.
      * 
@@ -2302,6 +2390,48 @@ public class Generate implements Serializable, XMLAppendable
         this.printMarginForBlockComment = value;
     }
 
+    /**
+     * The number of threads used to generate files concurrently. Files and log output remain the same as with sequential generation, which is the default. Custom generator strategies must be thread safe when this is larger than <code>1</code>.
+     * 
+     */
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * The number of threads used to generate files concurrently. Files and log output remain the same as with sequential generation, which is the default. Custom generator strategies must be thread safe when this is larger than <code>1</code>.
+     * 
+     */
+    public void setConcurrency(Integer value) {
+        this.concurrency = value;
+    }
+
+    /**
+     * Whether to skip generating tables, UDTs, ARRAYs and routines whose meta data and configuration have not changed since the previous run.
+     * <p>
+     * Fingerprints of the generated definitions are stored in a <code>.jooq-fingerprints</code> file in the target package directory. Files of definitions that no longer exist are still removed.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the value of the incremental property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
     public Generate withIndexes(Boolean value) {
         setIndexes(value);
         return this;
@@ -2479,6 +2609,11 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    public Generate withPojosRecordMappers(Boolean value) {
+        setPojosRecordMappers(value);
+        return this;
+    }
+
     public Generate withPojosAsJavaRecordClasses(Boolean value) {
         setPojosAsJavaRecordClasses(value);
         return this;
@@ -2618,6 +2753,16 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    public Generate withLazyReferences(Boolean value) {
+        setLazyReferences(value);
+        return this;
+    }
+
+    public Generate withNativeImageSupport(Boolean value) {
+        setNativeImageSupport(value);
+        return this;
+    }
+
     public Generate withJavadoc(Boolean value) {
         setJavadoc(value);
         return this;
@@ -2796,6 +2941,20 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate files concurrently. Files and log output remain the same as with sequential generation, which is the default. Custom generator strategies must be thread safe when this is larger than <code>1</code>.
+     * 
+     */
+    public Generate withConcurrency(Integer value) {
+        setConcurrency(value);
+        return this;
+    }
+
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
     @Override
     public final void appendTo(XMLBuilder builder) {
         builder.append("indexes", indexes);
@@ -2830,6 +2989,7 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("pojos", pojos);
         builder.append("pojosEqualsAndHashCode", pojosEqualsAndHashCode);
         builder.append("pojosToString", pojosToString);
+        builder.append("pojosRecordMappers", pojosRecordMappers);
         builder.append("pojosAsJavaRecordClasses", pojosAsJavaRecordClasses);
         builder.append("pojosAsScalaCaseClasses", pojosAsScalaCaseClasses);
         builder.append("pojosAsKotlinDataClasses", pojosAsKotlinDataClasses);
@@ -2857,6 +3017,8 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("globalLinkReferences", globalLinkReferences);
         builder.append("globalKeyReferences", globalKeyReferences);
         builder.append("globalIndexReferences", globalIndexReferences);
+        builder.append("lazyReferences", lazyReferences);
+        builder.append("nativeImageSupport", nativeImageSupport);
         builder.append("javadoc", javadoc);
         builder.append("comments", comments);
         builder.append("commentsOnCatalogs", commentsOnCatalogs);
@@ -2887,6 +3049,8 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("newline", newline);
         builder.append("indentation", indentation);
         builder.append("printMarginForBlockComment", printMarginForBlockComment);
+        builder.append("concurrency", concurrency);
+        builder.append("incremental", incremental);
     }
 
     @Override
@@ -3196,6 +3360,15 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (pojosRecordMappers == null) {
+            if (other.pojosRecordMappers!= null) {
+                return false;
+            }
+        } else {
+            if (!pojosRecordMappers.equals(other.pojosRecordMappers)) {
+                return false;
+            }
+        }
         if (pojosAsJavaRecordClasses == null) {
             if (other.pojosAsJavaRecordClasses!= null) {
                 return false;
@@ -3439,6 +3612,24 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (lazyReferences == null) {
+            if (other.lazyReferences!= null) {
+                return false;
+            }
+        } else {
+            if (!lazyReferences.equals(other.lazyReferences)) {
+                return false;
+            }
+        }
+        if (nativeImageSupport == null) {
+            if (other.nativeImageSupport!= null) {
+                return false;
+            }
+        } else {
+            if (!nativeImageSupport.equals(other.nativeImageSupport)) {
+                return false;
+            }
+        }
         if (javadoc == null) {
             if (other.javadoc!= null) {
                 return false;
@@ -3709,6 +3900,24 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (concurrency == null) {
+            if (other.concurrency!= null) {
+                return false;
+            }
+        } else {
+            if (!concurrency.equals(other.concurrency)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -3748,6 +3957,7 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((pojos == null)? 0 :pojos.hashCode()));
         result = ((prime*result)+((pojosEqualsAndHashCode == null)? 0 :pojosEqualsAndHashCode.hashCode()));
         result = ((prime*result)+((pojosToString == null)? 0 :pojosToString.hashCode()));
+        result = ((prime*result)+((pojosRecordMappers == null)? 0 :pojosRecordMappers.hashCode()));
         result = ((prime*result)+((pojosAsJavaRecordClasses == null)? 0 :pojosAsJavaRecordClasses.hashCode()));
         result = ((prime*result)+((pojosAsScalaCaseClasses == null)? 0 :pojosAsScalaCaseClasses.hashCode()));
         result = ((prime*result)+((pojosAsKotlinDataClasses == null)? 0 :pojosAsKotlinDataClasses.hashCode()));
@@ -3775,6 +3985,8 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((globalLinkReferences == null)? 0 :globalLinkReferences.hashCode()));
         result = ((prime*result)+((globalKeyReferences == null)? 0 :globalKeyReferences.hashCode()));
         result = ((prime*result)+((globalIndexReferences == null)? 0 :globalIndexReferences.hashCode()));
+        result = ((prime*result)+((lazyReferences == null)? 0 :lazyReferences.hashCode()));
+        result = ((prime*result)+((nativeImageSupport == null)? 0 :nativeImageSupport.hashCode()));
         result = ((prime*result)+((javadoc == null)? 0 :javadoc.hashCode()));
         result = ((prime*result)+((comments == null)? 0 :comments.hashCode()));
         result = ((prime*result)+((commentsOnCatalogs == null)? 0 :commentsOnCatalogs.hashCode()));
@@ -3805,6 +4017,8 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((newline == null)? 0 :newline.hashCode()));
         result = ((prime*result)+((indentation == null)? 0 :indentation.hashCode()));
         result = ((prime*result)+((printMarginForBlockComment == null)? 0 :printMarginForBlockComment.hashCode()));
+        result = ((prime*result)+((concurrency == null)? 0 :concurrency.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
         return result;
     }
 
@@ -35,6 +35,9 @@ public class Target implements Serializable, XMLAppendable
     @XmlElement(defaultValue = "target/generated-sources/jooq")
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String directory = "target/generated-sources/jooq";
+    @XmlElement(defaultValue = "target/generated-resources/jooq")
+    @XmlJavaTypeAdapter(StringAdapter.class)
+    protected String resourceDirectory = "target/generated-resources/jooq";
     @XmlElement(defaultValue = "UTF-8")
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String encoding = "UTF-8";
@@ -81,6 +84,22 @@ public class Target implements Serializable, XMLAppendable
         this.directory = value;
     }
 
+    /**
+     * The destination directory of your generated resources, such as native image configuration files
+     * 
+     */
+    public String getResourceDirectory() {
+        return resourceDirectory;
+    }
+
+    /**
+     * The destination directory of your generated resources, such as native image configuration files
+     * 
+     */
+    public void setResourceDirectory(String value) {
+        this.resourceDirectory = value;
+    }
+
     /**
      * The file encoding to be used with all output files.
      * 
@@ -158,6 +177,15 @@ public class Target implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The destination directory of your generated resources, such as native image configuration files
+     * 
+     */
+    public Target withResourceDirectory(String value) {
+        setResourceDirectory(value);
+        return this;
+    }
+
     /**
      * The file encoding to be used with all output files.
      * 
@@ -185,6 +213,7 @@ public class Target implements Serializable, XMLAppendable
     public final void appendTo(XMLBuilder builder) {
         builder.append("packageName", packageName);
         builder.append("directory", directory);
+        builder.append("resourceDirectory", resourceDirectory);
         builder.append("encoding", encoding);
         builder.append("locale", locale);
         builder.append("clean", clean);
@@ -227,6 +256,15 @@ public class Target implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (resourceDirectory == null) {
+            if (other.resourceDirectory!= null) {
+                return false;
+            }
+        } else {
+            if (!resourceDirectory.equals(other.resourceDirectory)) {
+                return false;
+            }
+        }
         if (encoding == null) {
             if (other.encoding!= null) {
                 return false;
@@ -263,6 +301,7 @@ public class Target implements Serializable, XMLAppendable
         int result = 1;
         result = ((prime*result)+((packageName == null)? 0 :packageName.hashCode()));
         result = ((prime*result)+((directory == null)? 0 :directory.hashCode()));
+        result = ((prime*result)+((resourceDirectory == null)? 0 :resourceDirectory.hashCode()));
         result = ((prime*result)+((encoding == null)? 0 :encoding.hashCode()));
         result = ((prime*result)+((locale == null)? 0 :locale.hashCode()));
         result = ((prime*result)+((clean == null)? 0 :clean.hashCode()));
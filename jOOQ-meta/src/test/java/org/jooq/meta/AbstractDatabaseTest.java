@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.meta.h2.H2Database;
+import org.jooq.meta.jaxb.CatalogMappingType;
+import org.jooq.meta.jaxb.SchemaMappingType;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class AbstractDatabaseTest {
+
+    private static final String URL = "jdbc:h2:mem:abstractDatabaseTest;DB_CLOSE_DELAY=-1";
+
+    private Connection          connection;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(URL);
+
+        try (Statement s = connection.createStatement()) {
+            for (String schema : Arrays.asList("S1", "S2")) {
+                s.execute("create schema " + schema);
+                s.execute("create domain " + schema + ".d_positive as int check (value > 0)");
+                s.execute("create sequence " + schema + ".seq_a");
+                s.execute("create sequence " + schema + ".seq_b");
+                s.execute("create table " + schema + ".p (id int primary key, a " + schema + ".d_positive, b varchar(10), e enum('x', 'y'), constraint uk_p unique (a), constraint ck_p check (b <> ''))");
+                s.execute("create table " + schema + ".c (id int primary key, p_id int, constraint fk_c foreign key (p_id) references " + schema + ".p)");
+                s.execute("create index i_c on " + schema + ".c (p_id)");
+            }
+        }
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        try (Statement s = connection.createStatement()) {
+            s.execute("drop schema S1 cascade");
+            s.execute("drop schema S2 cascade");
+        }
+
+        JDBCUtils.safeClose(connection);
+    }
+
+    private Database database(int fetchConcurrency) {
+        H2Database database = new H2Database();
+
+        database.setConnection(connection);
+        database.setConnectionProvider(new ConnectionProvider() {
+            @Override
+            public Connection acquire() {
+                try {
+                    return DriverManager.getConnection(URL);
+                }
+                catch (SQLException e) {
+                    throw new DataAccessException("Cannot connect", e);
+                }
+            }
+
+            @Override
+            public void release(Connection c) {
+                JDBCUtils.safeClose(c);
+            }
+        });
+        database.setConfiguredCatalogs(Arrays.asList(new CatalogMappingType().withInputCatalog("").withSchemata(
+            new SchemaMappingType().withInputSchema("S1"),
+            new SchemaMappingType().withInputSchema("S2")
+        )));
+        database.setIncludes(new String[] { ".*" });
+        database.setExcludes(new String[] { "" });
+        database.setIncludeTables(true);
+        database.setIncludeSequences(true);
+        database.setIncludeDomains(true);
+        database.setIncludeUDTs(true);
+        database.setIncludeRoutines(true);
+        database.setIncludePackages(true);
+        database.setIncludePrimaryKeys(true);
+        database.setIncludeUniqueKeys(true);
+        database.setIncludeForeignKeys(true);
+        database.setIncludeCheckConstraints(true);
+        database.setIncludeIndexes(true);
+        database.setFetchConcurrency(fetchConcurrency);
+
+        return database;
+    }
+
+    private static List<String> summary(Database database) {
+        List<String> result = new ArrayList<>();
+
+        for (SchemaDefinition schema : database.getSchemata()) {
+            for (TableDefinition table : database.getTables(schema)) {
+                result.add("table " + table.getQualifiedName() + " " + names(table.getColumns()));
+                result.add("  pk " + (table.getPrimaryKey() == null ? null : table.getPrimaryKey().getName()));
+                result.add("  uks " + names(table.getUniqueKeys()));
+                result.add("  checks " + names(table.getCheckConstraints()));
+                result.add("  indexes " + names(table.getIndexes()));
+
+                for (ForeignKeyDefinition fk : table.getForeignKeys())
+                    result.add("  fk " + fk.getName() + " -> " + fk.getReferencedKey().getQualifiedName());
+            }
+
+            result.add("sequences " + names(database.getSequences(schema)));
+            result.add("domains " + names(database.getDomains(schema)));
+            result.add("udts " + names(database.getUDTs(schema)));
+            result.add("routines " + names(database.getRoutines(schema)));
+
+            for (EnumDefinition e : database.getEnums(schema))
+                result.add("enum " + e.getName() + " " + e.getLiterals());
+        }
+
+        return result;
+    }
+
+    private static List<String> names(List<? extends Definition> definitions) {
+        List<String> result = new ArrayList<>();
+
+        for (Definition definition : definitions)
+            result.add(definition.getName());
+
+        return result;
+    }
+
+    @Test
+    public void testPrefetchedMetaDataEqualsLazilyFetchedMetaData() {
+        Database lazy = database(1);
+        List<String> expected = summary(lazy);
+
+        // All meta data categories are present
+        assertTrue(expected.stream().anyMatch(s -> s.startsWith("  fk FK_C -> ")));
+        assertTrue(expected.contains("  indexes [I_C]"));
+        assertTrue(expected.contains("sequences [SEQ_A, SEQ_B]"));
+        assertTrue(expected.contains("domains [D_POSITIVE]"));
+        assertTrue(expected.contains("enum P_E [x, y]"));
+
+        for (int i = 0; i < 10; i++) {
+            Database prefetched = database(4);
+            prefetched.prefetch();
+
+            assertEquals(expected, summary(prefetched));
+            prefetched.close();
+        }
+
+        lazy.close();
+    }
+}
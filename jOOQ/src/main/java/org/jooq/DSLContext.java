@@ -78,6 +78,8 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 import static org.jooq.SQLDialect.YUGABYTE;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -101,6 +103,7 @@ import org.jooq.conf.StatementType;
 import org.jooq.exception.ConfigurationException;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataDefinitionException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.NoDataFoundException;
@@ -361,6 +364,20 @@ public interface DSLContext extends Scope {
     @NotNull
     Meta meta(InformationSchema schema);
 
+    /**
+     * Access the database meta data from its compact binary format, as
+     * produced by {@link Meta#exportBinary(OutputStream)}.
+     * <p>
+     * This will not connect to your database to get live meta information,
+     * unlike {@link #meta()} and {@link #meta(DatabaseMetaData)}.
+     *
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong, including
+     *             when the content is not in the expected format.
+     */
+    @NotNull
+    Meta metaFromBinary(InputStream stream) throws IOException;
+
     /**
      * Create meta data from a set of sources.
      * <p>
@@ -8825,6 +8842,12 @@ public interface DSLContext extends Scope {
      * <li>INSERT c1</li>
      * </ol>
      * <p>
+     * If {@link Settings#isReturnIdentityOnBatchStore()} is turned on, the
+     * <code>IDENTITY</code> values generated by the batched
+     * <code>INSERT</code> statements are fetched through
+     * {@link java.sql.Statement#getGeneratedKeys()} and set on the records,
+     * provided the JDBC driver returns one generated key per record.
+     * <p>
      * <h5>With
      * <code>{@link Settings#getStatementType()} == {@link StatementType#STATIC_STATEMENT}</code>
      * </h5>
@@ -8937,6 +8960,48 @@ public interface DSLContext extends Scope {
     @Support
     Batch batchMerge(Collection<? extends UpdatableRecord<?>> records);
 
+    /**
+     * Create a batch statement to merge a set of records using multi-row
+     * <code>INSERT .. ON DUPLICATE KEY UPDATE</code> statements, or their
+     * dialect specific equivalents (<code>INSERT .. ON CONFLICT</code>,
+     * <code>MERGE</code>).
+     * <p>
+     * Unlike {@link #batchMerge(UpdatableRecord...)}, which executes one
+     * statement per record, this batch operation groups records by table and
+     * by changed fields, and merges up to <code>bulkSize</code> records per
+     * statement. The bulk size is reduced if necessary, to stay within the bind
+     * value limits of the dialect. All statements of the same bulk size share a
+     * single prepared statement, which is executed in batch mode. The resulting
+     * array contains the update counts of each executed statement.
+     * <p>
+     * Only the primary key is considered for duplicate detection, except in
+     * {@link SQLDialect#MARIADB} and {@link SQLDialect#MYSQL}, where
+     * <code>ON DUPLICATE KEY UPDATE</code> also matches rows by any other
+     * unique key. Optimistic locking is not applied.
+     * <p>
+     * {@link SQLDialect#DERBY} cannot merge multiple rows per statement, so
+     * this falls back to {@link #batchMerge(UpdatableRecord...)} there.
+     *
+     * @param bulkSize The maximum number of records per statement.
+     * @see #batchMerge(UpdatableRecord...)
+     * @see java.sql.Statement#executeBatch()
+     */
+    @NotNull @CheckReturnValue
+    @Support({ FIREBIRD, H2, HSQLDB, MARIADB, MYSQL, POSTGRES, SQLITE, YUGABYTE })
+    Batch batchMerge(int bulkSize, UpdatableRecord<?>... records);
+
+    /**
+     * Create a batch statement to merge a set of records using multi-row
+     * <code>INSERT .. ON DUPLICATE KEY UPDATE</code> statements, or their
+     * dialect specific equivalents.
+     *
+     * @param bulkSize The maximum number of records per statement.
+     * @see #batchMerge(int, UpdatableRecord...)
+     */
+    @NotNull @CheckReturnValue
+    @Support({ FIREBIRD, H2, HSQLDB, MARIADB, MYSQL, POSTGRES, SQLITE, YUGABYTE })
+    Batch batchMerge(int bulkSize, Collection<? extends UpdatableRecord<?>> records);
+
     /**
      * Create a batch statement to execute a set of <code>DELETE</code> queries
      * in batch mode (with bind values) according to
@@ -12748,6 +12813,134 @@ public interface DSLContext extends Scope {
     @Support
     int fetchCount(Table<?> table, Collection<? extends Condition> conditions) throws DataAccessException;
 
+    /**
+     * Estimate the number of records that a {@link Select} query would
+     * return, if it were executed.
+     * <p>
+     * This uses the cardinality estimated by the optimiser, as reported by
+     * {@link #explain(Query)}, in those dialects that support it. Otherwise,
+     * or if no estimate is available, this falls back to an exact
+     * {@link #fetchCount(Select)}.
+     * <p>
+     * {@link SQLDialect#MYSQL} and {@link SQLDialect#MARIADB} only estimate
+     * the number of rows examined in the first table of a plan, not the
+     * number of rows produced by the query. In these dialects, the estimate
+     * is used only for queries without joins, predicates, grouping,
+     * aggregation, <code>DISTINCT</code>, or <code>LIMIT</code>. All other
+     * queries are counted exactly.
+     * <p>
+     * Errors are not caught. In particular, an error in
+     * {@link SQLDialect#POSTGRES} aborts the current transaction, so a
+     * failed estimate could not be followed by an exact count anyway.
+     * <p>
+     * Estimates may be off by orders of magnitude, depending on the query
+     * and the quality of the statistics. They are useful where an exact count
+     * is too expensive, e.g. to display the total number of pages in a UI.
+     *
+     * @param query The query whose records to count
+     * @return The estimated number of records
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @Support
+    int fetchApproximateCount(Select<?> query) throws DataAccessException;
+
+    /**
+     * Estimate the number of records in a table.
+     * <p>
+     * This reads the table statistics of the database, e.g.
+     * <code>pg_class.reltuples</code> in {@link SQLDialect#POSTGRES}, or
+     * <code>INFORMATION_SCHEMA.TABLES</code> in {@link SQLDialect#H2} and
+     * {@link SQLDialect#MYSQL}. If no statistics are available, e.g. because
+     * the table was never analysed, or because it does not exist in the
+     * catalog, this falls back to {@link #fetchApproximateCount(Select)}.
+     *
+     * @param table The table whose records to count
+     * @return The estimated number of records in the table
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @Support
+    int fetchApproximateCount(Table<?> table) throws DataAccessException;
+
+    /**
+     * Execute a paged {@link Select} query in the context of this
+     * <code>DSLContext</code> and return its records along with the total
+     * number of records it would return without its
+     * <code>LIMIT .. OFFSET</code> clause, in a single round trip.
+     * <p>
+     * The total is projected as an additional column, which is removed from
+     * the resulting records again. An example: <code><pre>
+     * -- Original query:
+     * SELECT id, title FROM book ORDER BY id LIMIT 10 OFFSET 20
+     *
+     * -- Query with window function support:
+     * SELECT id, title, count(*) OVER () FROM book ORDER BY id LIMIT 10 OFFSET 20
+     *
+     * -- Query without window function support, or with DISTINCT:
+     * SELECT id, title, (
+     *   SELECT count(*) FROM (SELECT id, title FROM book) t
+     * ) FROM book ORDER BY id LIMIT 10 OFFSET 20
+     * </pre></code>
+     * <p>
+     * A second round trip using {@link #fetchCount(Select)} is needed only
+     * if the page is empty despite an <code>OFFSET</code>, or if the query is
+     * not a simple <code>SELECT</code> (e.g. a <code>UNION</code>). Queries
+     * without a <code>LIMIT</code> clause are executed as they are, and their
+     * total is the number of fetched records.
+     *
+     * @param query The paged query
+     * @return The page of records and the total number of records
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Support
+    <R extends Record> Page<R> fetchPage(Select<R> query) throws DataAccessException;
+
+    /**
+     * Iterate over the records of a table in chunks, in primary key order.
+     * <p>
+     * This is the same as calling {@link #fetchKeyset(Select, int)} with
+     * <code>selectFrom(table).orderBy(table.getPrimaryKey().getFields())</code>.
+     *
+     * @param table The table whose records to iterate over
+     * @param chunkSize The maximum number of records per chunk
+     * @return The scan, which executes queries lazily, when iterated
+     * @throws IllegalArgumentException if the table has no primary key
+     */
+    @NotNull
+    @Support
+    <R extends Record> KeysetScan<R> fetchKeyset(Table<R> table, int chunkSize);
+
+    /**
+     * Iterate over the records of a {@link Select} query in chunks, using
+     * keyset pagination.
+     * <p>
+     * Each chunk is fetched by a separate execution of the query, limited to
+     * <code>chunkSize</code> records, and seeking after the key of the last
+     * record of the previous chunk. An example: <code><pre>
+     * -- Original query:
+     * SELECT id, title FROM book ORDER BY id
+     *
+     * -- First chunk:
+     * SELECT id, title FROM book ORDER BY id LIMIT 1000
+     *
+     * -- Subsequent chunks:
+     * SELECT id, title FROM book WHERE id &gt; ? ORDER BY id LIMIT 1000
+     * </pre></code>
+     * <p>
+     * The query's <code>ORDER BY</code> clause must be on a unique, non
+     * nullable key, whose fields are contained in the projection.
+     *
+     * @param query The query whose records to iterate over
+     * @param chunkSize The maximum number of records per chunk
+     * @return The scan, which executes queries lazily, when iterated
+     * @throws IllegalArgumentException if the query has no
+     *             <code>ORDER BY</code> clause, or if it has a
+     *             <code>LIMIT</code> clause.
+     */
+    @NotNull
+    @Support
+    <R extends Record> KeysetScan<R> fetchKeyset(Select<R> query, int chunkSize);
+
     /**
      * Check if a {@link Select} would return any records, if it were executed.
      * <p>
@@ -172,4 +172,39 @@ public interface DiagnosticsContext {
      */
     @NotNull
     List<String> repeatedStatements();
+
+    /**
+     * The bind values of each of the {@link #repeatedStatements()}, in case of
+     * {@link DiagnosticsListener#nPlusOneStatements(DiagnosticsContext)}.
+     * <p>
+     * Static statements produce an empty list of bind values.
+     */
+    @NotNull
+    List<List<Object>> repeatedStatementBindValues();
+
+    /**
+     * The stack trace of the call site that executed the
+     * {@link #actualStatement()}, in case of
+     * {@link DiagnosticsListener#nPlusOneStatements(DiagnosticsContext)}.
+     * <p>
+     * jOOQ internal and JDK frames at the top of the stack are omitted.
+     */
+    @NotNull
+    List<StackTraceElement> callSite();
+
+    /**
+     * A single statement that could replace the {@link #repeatedStatements()},
+     * in case of
+     * {@link DiagnosticsListener#nPlusOneStatements(DiagnosticsContext)}, or
+     * <code>null</code> if no such statement could be derived.
+     * <p>
+     * This is currently derived for <code>SELECT</code> statements whose
+     * <code>WHERE</code> clause compares a column with a single bind value,
+     * which are replaced by an <code>IN</code> predicate containing all the
+     * repeated bind values. This corresponds to what
+     * {@link ForeignKey#fetchChildren(java.util.Collection)} does for child
+     * records.
+     */
+    @Nullable
+    String batchedStatement();
 }
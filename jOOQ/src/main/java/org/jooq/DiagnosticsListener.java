@@ -41,6 +41,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 
+import org.jooq.conf.Settings;
+
 /**
  * A diagnostics listener.
  *
@@ -175,4 +177,37 @@ public interface DiagnosticsListener {
      */
     void repeatedStatements(DiagnosticsContext ctx);
 
+    /**
+     * The executed JDBC statement is repeated more often than
+     * {@link Settings#getDiagnosticsNPlusOneThreshold()} within a single
+     * transaction.
+     * <p>
+     * Unlike {@link #repeatedStatements(DiagnosticsContext)}, this diagnostic
+     * also considers repetitions that are interleaved with other statements,
+     * which is typical for <strong>N + 1</strong> problems that fetch several
+     * child entities per parent entity:
+     * <code><pre>
+     * SELECT * FROM film_actor WHERE film_id = ?;
+     * SELECT * FROM film_category WHERE film_id = ?;
+     * SELECT * FROM film_actor WHERE film_id = ?;
+     * SELECT * FROM film_category WHERE film_id = ?;
+     * </pre></code>
+     * <p>
+     * The event is fired on the thread that executes the statement, once per
+     * normalised statement and transaction. The {@link DiagnosticsContext}
+     * provides the {@link DiagnosticsContext#repeatedStatements()} with their
+     * {@link DiagnosticsContext#repeatedStatementBindValues()}, the
+     * {@link DiagnosticsContext#callSite()} of the statement, and possibly a
+     * {@link DiagnosticsContext#batchedStatement()} that could replace the
+     * repetitions.
+     * <p>
+     * This is a {@link Connection}-specific diagnostic that is reset every time
+     * a transaction ends with {@link Connection#commit()},
+     * {@link Connection#rollback()}, or {@link Connection#setAutoCommit(boolean)},
+     * or when {@link Connection#close()} is called. In auto-commit mode, this
+     * allows for diagnosing user-defined units of work by keeping the
+     * connection open for their duration.
+     */
+    void nPlusOneStatements(DiagnosticsContext ctx);
+
 }
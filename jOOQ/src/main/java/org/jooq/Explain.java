@@ -37,6 +37,7 @@
  */
 package org.jooq;
 
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Results of an {@link DSLContext#explain(Query)} call.
@@ -61,6 +62,24 @@ public interface Explain {
 
     /**
      * The formatted plan as returned by the database.
+     * <p>
+     * In {@link SQLDialect#SQLITE}, this is the output of
+     * <code>EXPLAIN QUERY PLAN</code>, i.e. a list of table accesses with
+     * <code>id</code>, <code>parent</code>, and <code>detail</code> columns.
+     * Previous versions of jOOQ ran <code>EXPLAIN</code>, which returns the
+     * virtual machine's byte code instead.
      */
     String plan();
+
+    /**
+     * The plan as a tree of operators, as far as it could be parsed from the
+     * dialect specific <code>EXPLAIN</code> output.
+     * <p>
+     * Dialects that report a flat list of table accesses rather than a tree
+     * (e.g. {@link SQLDialect#MYSQL}) produce a root node, whose children
+     * are the table accesses in the order of the plan. If the plan could not
+     * be parsed, the root node has no children.
+     */
+    @NotNull
+    ExplainNode root();
 }
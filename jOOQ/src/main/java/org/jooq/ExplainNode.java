@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An operator in the plan tree of an {@link Explain}.
+ * <p>
+ * The information that is available depends on the dialect. Unavailable
+ * information is reported as <code>null</code> or {@link Double#NaN}.
+ *
+ * @author Lukas Eder
+ */
+public interface ExplainNode {
+
+    /**
+     * The dialect specific name of the operator, e.g. <code>Seq Scan</code>
+     * in {@link SQLDialect#POSTGRES}, or <code>ALL</code> in
+     * {@link SQLDialect#MYSQL}.
+     */
+    @NotNull
+    String operation();
+
+    /**
+     * The name of the table accessed by this operator, if any.
+     */
+    @Nullable
+    String table();
+
+    /**
+     * The name of the index used by this operator, if any.
+     */
+    @Nullable
+    String index();
+
+    /**
+     * Whether this operator reads an entire table without using an index.
+     */
+    boolean fullScan();
+
+    /**
+     * The number of rows that are estimated (or in some dialects, measured)
+     * to be produced by this operator.
+     * <p>
+     * This returns {@link Double#NaN} if rows could not be estimated.
+     */
+    double rows();
+
+    /**
+     * The cost the database associated with this operator, including its
+     * children.
+     * <p>
+     * This returns {@link Double#NaN} if cost could not be retrieved.
+     */
+    double cost();
+
+    /**
+     * The child operators of this operator.
+     */
+    @NotNull
+    List<ExplainNode> children();
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.stream.Stream;
+
+import org.jooq.exception.DataAccessException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An iteration over the records of a query in chunks, using keyset
+ * pagination, as returned by {@link DSLContext#fetchKeyset(Select, int)}.
+ * <p>
+ * Each chunk is fetched by a separate query, which uses the
+ * {@link SelectSeekStep1#seek(Object) SEEK} clause to continue after the key
+ * of the last record of the previous chunk. Unlike a {@link Cursor}, a
+ * <code>KeysetScan</code> does not keep any JDBC resources open between
+ * chunks, and unlike <code>OFFSET</code> based paging, the cost of fetching
+ * a chunk does not depend on its position.
+ * <p>
+ * The <code>ORDER BY</code> clause of the query must be on a unique, non
+ * nullable key, whose fields must be contained in the projection.
+ * <p>
+ * Like a {@link Cursor}, a <code>KeysetScan</code> is stateful and can be
+ * iterated only once.
+ *
+ * @author Lukas Eder
+ */
+public interface KeysetScan<R extends Record> extends Iterable<Result<R>>, AutoCloseable {
+
+    /**
+     * Resume the scan after a key, e.g. a {@link #checkpoint()} of a previous
+     * scan.
+     * <p>
+     * This must be called before the scan is iterated.
+     *
+     * @param checkpoint The key values, in the order of the query's
+     *            <code>ORDER BY</code> clause.
+     * @return This scan
+     * @throws IllegalStateException if the scan is already being iterated.
+     */
+    @NotNull
+    KeysetScan<R> after(Object... checkpoint);
+
+    /**
+     * Whether the next chunk should be fetched asynchronously, using the
+     * {@link Configuration#executorProvider()}, while the current chunk is
+     * being processed.
+     * <p>
+     * The prefetching query may run concurrently with other queries of the
+     * calling thread, so this requires a {@link ConnectionProvider} that
+     * provides a separate connection per query, e.g. a
+     * {@link javax.sql.DataSource} based one.
+     *
+     * @return This scan
+     */
+    @NotNull
+    KeysetScan<R> prefetch(boolean prefetch);
+
+    /**
+     * The key values of the last record of the last chunk returned by this
+     * scan, or the argument of {@link #after(Object...)}, if no chunk has
+     * been returned yet.
+     * <p>
+     * Processing can be resumed after this key using
+     * {@link #after(Object...)}.
+     *
+     * @return The key values, or <code>null</code> if the scan started at
+     *         the beginning and hasn't returned any chunks yet.
+     */
+    @Nullable
+    Object[] checkpoint();
+
+    /**
+     * Turn this scan into a {@link Stream} of chunks.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    Stream<Result<R>> stream() throws DataAccessException;
+
+    /**
+     * Stop the scan, discarding any prefetched chunk.
+     */
+    @Override
+    void close();
+}
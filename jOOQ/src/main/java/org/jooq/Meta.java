@@ -55,6 +55,8 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 // ...
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -63,6 +65,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
 import org.jooq.util.xml.jaxb.InformationSchema;
 
 import org.jetbrains.annotations.NotNull;
@@ -528,4 +531,35 @@ public interface Meta extends Scope {
      */
     @NotNull
     InformationSchema informationSchema() throws DataAccessException;
+
+    /**
+     * Export to a compact binary format.
+     * <p>
+     * This format contains the same information as
+     * {@link #informationSchema()}, but it is considerably faster to load and
+     * has a smaller memory footprint than its XML representation, which makes
+     * it useful for caching meta data between runs. The output can be loaded
+     * again using {@link DSLContext#metaFromBinary(InputStream)}.
+     * <p>
+     * The format is not guaranteed to be compatible across jOOQ versions.
+     *
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    void exportBinary(OutputStream stream) throws DataAccessException, IOException;
+
+    /**
+     * Discard all meta data that has been loaded and cached by this
+     * {@link Meta} instance, such that it is loaded again from the underlying
+     * meta data sources when it is accessed next.
+     * <p>
+     * Objects that have been obtained from this {@link Meta} prior to this
+     * call are not affected. This is mostly useful for {@link Meta} instances
+     * obtained from {@link DSLContext#meta()}, in particular when
+     * {@link org.jooq.conf.Settings#isMetaBulkLoading()} is enabled.
+     * <p>
+     * The default implementation does nothing, for {@link Meta}
+     * implementations that do not cache any meta data.
+     */
+    default void invalidate() {}
 }
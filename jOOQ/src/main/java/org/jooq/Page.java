@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A page of records and the total number of records of a paged query, as
+ * returned by {@link DSLContext#fetchPage(Select)}.
+ *
+ * @author Lukas Eder
+ */
+public interface Page<R extends Record> {
+
+    /**
+     * The records of the page, i.e. those within the query's
+     * <code>LIMIT .. OFFSET</code> clause.
+     */
+    @NotNull
+    Result<R> result();
+
+    /**
+     * The total number of records that the query would return without its
+     * <code>LIMIT .. OFFSET</code> clause.
+     */
+    int totalCount();
+}
@@ -37,6 +37,9 @@
  */
 package org.jooq;
 
+import java.io.Reader;
+import java.util.stream.Stream;
+
 import org.jooq.impl.ParserException;
 
 import org.jetbrains.annotations.NotNull;
@@ -72,6 +75,40 @@ public interface Parser {
     @PlainSQL
     Queries parse(String sql, Object... bindings) throws ParserException;
 
+    /**
+     * Parse a SQL script lazily to a stream of queries.
+     * <p>
+     * Unlike {@link #parse(String)}, this reads the script only as far as
+     * needed to parse the next query, so large scripts can be parsed with
+     * bounded memory. Queries that are not terminated by a delimiter are
+     * buffered until the next delimiter or the end of the script.
+     * <p>
+     * The resulting stream must be closed to close the reader.
+     *
+     * @param reader The SQL script
+     * @throws ParserException If the SQL script could not be parsed. This
+     *             exception is thrown while consuming the stream.
+     */
+    @NotNull
+    @Support
+    @PlainSQL
+    Stream<Query> parseStream(Reader reader) throws ParserException;
+
+    /**
+     * Parse a SQL script lazily to a stream of queries.
+     * <p>
+     * This is the same as {@link #parseStream(Reader)}, reading the script
+     * from a {@link Source}, such as a file.
+     *
+     * @param source The SQL script
+     * @throws ParserException If the SQL script could not be parsed. This
+     *             exception is thrown while consuming the stream.
+     */
+    @NotNull
+    @Support
+    @PlainSQL
+    Stream<Query> parseStream(Source source) throws ParserException;
+
     /**
      * Parse a SQL string to a query.
      *
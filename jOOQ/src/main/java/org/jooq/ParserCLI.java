@@ -37,10 +37,27 @@
  */
 package org.jooq;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -82,6 +99,9 @@ public final class ParserCLI {
                 interactiveMode(ctx, a);
             }
             else if (a.done) {}
+            else if (a.batch) {
+                batch(ctx, a);
+            }
             else if (a.toDialect == null || a.sql == null) {
                 System.out.println("Mandatory arguments: -T and -s. Use -h for help");
                 throw new RuntimeException();
@@ -496,6 +516,277 @@ public final class ParserCLI {
         }
     }
 
+    /**
+     * Translate the statements of all input files in parallel, writing the
+     * results in the original order.
+     * <p>
+     * The input is split on <code>;</code> delimiters outside of literals,
+     * quoted identifiers and comments, without parsing it. Statements are
+     * translated in chunks, to keep memory consumption bounded.
+     */
+    private static final void batch(DSLContext ctx, Args a) {
+        ForkJoinPool pool = new ForkJoinPool(a.threads != null ? a.threads : Runtime.getRuntime().availableProcessors());
+        Map<String, Translation> cache = new ConcurrentHashMap<>();
+        int statements = 0;
+        int errors = 0;
+
+        try {
+            Writer out = a.output != null
+                ? java.nio.file.Files.newBufferedWriter(Paths.get(a.output), UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, UTF_8));
+
+            try {
+                List<String> inputs = a.inputs.isEmpty() ? asList((String) null) : a.inputs;
+
+                for (String input : inputs) {
+                    try (StatementReader reader = new StatementReader(input == null
+                        ? new InputStreamReader(System.in, UTF_8)
+                        : java.nio.file.Files.newBufferedReader(Paths.get(input), UTF_8),
+                        a.fromDialect != null && SUPPORT_BACKSLASH_ESCAPING.contains(a.fromDialect)
+                    )) {
+                        List<Statement> chunk = new ArrayList<>();
+
+                        for (;;) {
+                            Statement statement = reader.next();
+
+                            if (statement != null)
+                                chunk.add(statement);
+
+                            if (chunk.size() == BATCH_CHUNK_SIZE || statement == null && !chunk.isEmpty()) {
+                                Translation[] translations = pool.submit(() -> chunk
+                                    .parallelStream()
+                                    .map(s -> translate(ctx, cache, s))
+                                    .toArray(Translation[]::new)
+                                ).get();
+
+                                for (int i = 0; i < translations.length; i++) {
+                                    statements++;
+
+                                    if (translations[i].error != null) {
+                                        errors++;
+                                        out.write("-- Error in " + (input == null ? "input" : input) + " at line " + chunk.get(i).line + ":\n");
+
+                                        for (String line : translations[i].error.split("\r?\n"))
+                                            out.write("-- " + line + "\n");
+                                    }
+                                    else if (!translations[i].sql.isEmpty()) {
+                                        out.write(translations[i].sql);
+                                        out.write("\n");
+                                    }
+                                }
+
+                                chunk.clear();
+                            }
+
+                            if (statement == null)
+                                break;
+                        }
+                    }
+                }
+            }
+            finally {
+                if (a.output != null)
+                    out.close();
+                else
+                    out.flush();
+            }
+        }
+        catch (java.io.IOException e) {
+            throw new org.jooq.exception.IOException("Could not translate batch", e);
+        }
+        catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        System.err.println("Translated " + statements + " statements with " + errors + " errors");
+    }
+
+    private static final int             BATCH_CHUNK_SIZE           = 10000;
+    private static final int             BATCH_CACHE_SIZE           = 100000;
+    private static final Set<SQLDialect> SUPPORT_BACKSLASH_ESCAPING = SQLDialect.supportedBy(MARIADB, MYSQL);
+
+    private static final Translation translate(DSLContext ctx, Map<String, Translation> cache, Statement statement) {
+        Translation result = cache.get(statement.sql);
+
+        if (result == null) {
+            try {
+                result = new Translation(ctx.render(ctx.parser().parse(statement.sql)), null);
+            }
+
+            // Any error is reported for the statement only, e.g. also errors
+            // from unsupported features while rendering
+            catch (RuntimeException e) {
+                result = new Translation(null, e instanceof ParserException ? e.getMessage() : e.toString());
+            }
+
+            // Duplicate statements are frequent in captured workloads, but
+            // unique ones must not exhaust memory
+            if (cache.size() < BATCH_CACHE_SIZE)
+                cache.put(statement.sql, result);
+        }
+
+        return result;
+    }
+
+    private static final class Translation {
+        final String sql;
+        final String error;
+
+        Translation(String sql, String error) {
+            this.sql = sql;
+            this.error = error;
+        }
+    }
+
+    private static final class Statement {
+        final int    line;
+        final String sql;
+
+        Statement(int line, String sql) {
+            this.line = line;
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * A lexer that splits a script into statements on <code>;</code>
+     * delimiters, ignoring delimiters in string literals, quoted identifiers,
+     * comments and PostgreSQL style dollar quoted strings.
+     * <p>
+     * Backslashes escape quotes in PostgreSQL style <code>E'...'</code>
+     * literals, and in all string literals if the input dialect supports
+     * backslash escaping, like MySQL.
+     */
+    private static final class StatementReader implements AutoCloseable {
+        private final Reader        reader;
+        private final boolean       backslashEscaping;
+        private final StringBuilder sb   = new StringBuilder();
+        private int                 line = 1;
+
+        StatementReader(Reader reader, boolean backslashEscaping) {
+            this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+            this.backslashEscaping = backslashEscaping;
+        }
+
+        Statement next() throws java.io.IOException {
+            sb.setLength(0);
+            int start = -1;
+            char quote = 0;
+            boolean escapes = false;
+            boolean escaped = false;
+            int blockComments = 0;
+            boolean lineComment = false;
+            String dollarTag = null;
+            int dollarStart = -1;
+            int prev = -1;
+
+            for (int c; (c = reader.read()) != -1; prev = c) {
+                if (c == '\n')
+                    line++;
+
+                if (start == -1) {
+                    if (Character.isWhitespace(c))
+                        continue;
+                    else
+                        start = line;
+                }
+
+                sb.append((char) c);
+
+                if (lineComment) {
+                    if (c == '\n' || c == '\r')
+                        lineComment = false;
+                }
+                else if (blockComments > 0) {
+                    if (prev == '*' && c == '/') {
+                        blockComments--;
+                        c = -1;
+                    }
+                    else if (prev == '/' && c == '*') {
+                        blockComments++;
+                        c = -1;
+                    }
+                }
+                else if (quote != 0) {
+                    if (escaped)
+                        escaped = false;
+                    else if (c == '\\' && escapes)
+                        escaped = true;
+                    else if (c == quote)
+                        quote = 0;
+                }
+                else if (dollarTag != null) {
+                    if (c == '$'
+                            && sb.length() - dollarTag.length() >= dollarStart + dollarTag.length()
+                            && sb.indexOf(dollarTag, sb.length() - dollarTag.length()) >= 0) {
+                        dollarTag = null;
+                        dollarStart = -1;
+                    }
+                }
+                else if (dollarStart >= 0 && c == '$') {
+                    dollarTag = sb.substring(dollarStart);
+                }
+                else if (dollarStart >= 0 && (Character.isLetterOrDigit(c) || c == '_')) {
+                    continue;
+                }
+                else {
+                    dollarStart = -1;
+
+                    switch (c) {
+                        case '\'':
+                            quote = (char) c;
+                            escapes = backslashEscaping || (prev == 'E' || prev == 'e') && (sb.length() < 3 || !isIdentifierPart(sb.charAt(sb.length() - 3)));
+                            break;
+
+                        case '"':
+                            quote = (char) c;
+                            escapes = backslashEscaping;
+                            break;
+
+                        case '`':
+                            quote = (char) c;
+                            escapes = false;
+                            break;
+
+                        case '-':
+                            if (prev == '-')
+                                lineComment = true;
+                            break;
+
+                        case '*':
+                            if (prev == '/') {
+                                blockComments++;
+                                c = -1;
+                            }
+                            break;
+
+                        case '$':
+                            if (prev == -1 || !Character.isLetterOrDigit(prev) && prev != '_')
+                                dollarStart = sb.length() - 1;
+                            break;
+
+                        case ';':
+                            return new Statement(start, sb.toString());
+                    }
+                }
+            }
+
+            return start == -1 ? null : new Statement(start, sb.toString());
+        }
+
+        @Override
+        public void close() throws java.io.IOException {
+            reader.close();
+        }
+    }
+
+    private static final boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
     private static final <E extends Enum<E>> E parse(Class<E> type, String value) {
         try {
             return Enum.valueOf(type, value.toUpperCase());
@@ -576,6 +867,14 @@ public final class ParserCLI {
                     result.sql = args[++i];
                 else if ("-I".equals(args[i]) || "--interactive".equals(args[i]))
                     result.interactive = true;
+                else if ("-b".equals(args[i]) || "--batch".equals(args[i]))
+                    result.batch = true;
+                else if ("--input".equals(args[i]))
+                    result.inputs.add(args[++i]);
+                else if ("--output".equals(args[i]))
+                    result.output = args[++i];
+                else if ("--threads".equals(args[i]))
+                    result.threads = Integer.parseInt(args[++i]);
                 else if ("-h".equals(args[i]) || "--help".equals(args[i])) {
                     help();
                     result.done = true;
@@ -637,6 +936,12 @@ public final class ParserCLI {
         System.out.println("  --transform-unneeded-arithmetic                 <TransformUnneededArithmeticExpressions>");
         System.out.println("");
         System.out.println("  -I / --interactive                                               Start interactive mode");
+        System.out.println("");
+        System.out.println("Batch mode:");
+        System.out.println("  -b / --batch                                                        Translate all statements of the input in parallel");
+        System.out.println("  --input                                         <String>            Specify an input file (repeatable, defaults to standard input)");
+        System.out.println("  --output                                        <String>            Specify the output file (defaults to standard output)");
+        System.out.println("  --threads                                       <int>               Specify the number of threads (defaults to the number of processors)");
     }
 
     private static final void helpInteractive() {
@@ -683,6 +988,10 @@ public final class ParserCLI {
         List<String>                           history                                = new ArrayList<>();
         boolean                                interactive;
         boolean                                done;
+        boolean                                batch;
+        List<String>                           inputs                                 = new ArrayList<>();
+        String                                 output;
+        Integer                                threads;
 
         String                                 sql;
         RenderKeywordCase                      keywords                               = RenderKeywordCase.LOWER;
@@ -198,6 +198,25 @@ public class Settings
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheParser = false;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheParserLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "true")
+    protected Boolean cacheMigrationStates = true;
+    @XmlElement(defaultValue = "256")
+    protected Integer cacheMigrationStatesLRUCacheSize = 256;
+    @XmlElement(defaultValue = "true")
+    protected Boolean cacheDiagnosticsNormalisation = true;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheDiagnosticsNormalisationLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean diagnosticsAsynchronous = false;
+    @XmlElement(defaultValue = "10000")
+    protected Integer diagnosticsQueueSize = 10000;
+    @XmlElement(defaultValue = "100")
+    protected Integer diagnosticsSamplingRate = 100;
+    protected Integer diagnosticsNPlusOneThreshold;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
     @XmlElement(defaultValue = "THROW_ALL")
@@ -211,6 +230,8 @@ public class Settings
     protected Boolean returnIdentityOnUpdatableRecord = true;
     @XmlElement(defaultValue = "false")
     protected Boolean returnAllOnUpdatableRecord = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean returnIdentityOnBatchStore = false;
     @XmlElement(defaultValue = "true")
     protected Boolean returnRecordToPojo = true;
     @XmlElement(defaultValue = "true")
@@ -269,6 +290,8 @@ public class Settings
     @XmlElement(defaultValue = "false")
     protected Boolean metaIncludeSystemSequences = false;
     @XmlElement(defaultValue = "false")
+    protected Boolean metaBulkLoading = false;
+    @XmlElement(defaultValue = "false")
     protected Boolean migrationAllowsUndo = false;
     @XmlElement(defaultValue = "false")
     protected Boolean migrationRevertUntracked = false;
@@ -278,6 +301,7 @@ public class Settings
     protected Boolean migrationAutoValidation = true;
     @XmlElement(defaultValue = "true")
     protected Boolean migrationIgnoreDefaultTimestampPrecisionDiffs = true;
+    protected String migrationStateCacheDirectory;
     @XmlElement(type = String.class)
     @XmlJavaTypeAdapter(LocaleAdapter.class)
     protected Locale locale;
@@ -1852,6 +1876,204 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * Whether the results of Parser#parseQuery() and Parser#parseResultQuery() should be cached in the configuration.<p>The cache holds an immutable parse result per SQL string, bind value types and configuration. Each call produces a new query that renders this parse result with the caller's bind values substituted. Such queries are plain Query or ResultQuery types, not the parsed query model types. Rendering that depends on bind values, rather than their types, uses the values of the first call, as in the ParsingConnection. Only SELECT and DML statements without a RETURNING clause are cached, and calls with ParseWithMetaLookups or with QueryPart bind values are never cached.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParser() {
+        return cacheParser;
+    }
+
+    /**
+     * Sets the value of the cacheParser property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParser(Boolean value) {
+        this.cacheParser = value;
+    }
+
+    /**
+     * The default implementation of the parser cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheParserLRUCacheSize() {
+        return cacheParserLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the parser cache's LRU cache size.
+     * 
+     */
+    public void setCacheParserLRUCacheSize(Integer value) {
+        this.cacheParserLRUCacheSize = value;
+    }
+
+    /**
+     * Whether interpreted migration states (the Meta of a Commit) should be cached in the configuration.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheMigrationStates() {
+        return cacheMigrationStates;
+    }
+
+    /**
+     * Sets the value of the cacheMigrationStates property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheMigrationStates(Boolean value) {
+        this.cacheMigrationStates = value;
+    }
+
+    /**
+     * The default implementation of the migration state cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheMigrationStatesLRUCacheSize() {
+        return cacheMigrationStatesLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the migration state cache's LRU cache size.
+     * 
+     */
+    public void setCacheMigrationStatesLRUCacheSize(Integer value) {
+        this.cacheMigrationStatesLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the normalised SQL strings computed by the {@link org.jooq.DSLContext#diagnosticsConnection()} should be cached by their raw SQL string.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheDiagnosticsNormalisation() {
+        return cacheDiagnosticsNormalisation;
+    }
+
+    /**
+     * Sets the value of the cacheDiagnosticsNormalisation property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheDiagnosticsNormalisation(Boolean value) {
+        this.cacheDiagnosticsNormalisation = value;
+    }
+
+    /**
+     * The default implementation's maximum number of entries in the LRU cache of normalised SQL strings of the {@link org.jooq.DSLContext#diagnosticsConnection()}.
+     * 
+     */
+    public Integer getCacheDiagnosticsNormalisationLRUCacheSize() {
+        return cacheDiagnosticsNormalisationLRUCacheSize;
+    }
+
+    /**
+     * The default implementation's maximum number of entries in the LRU cache of normalised SQL strings of the {@link org.jooq.DSLContext#diagnosticsConnection()}.
+     * 
+     */
+    public void setCacheDiagnosticsNormalisationLRUCacheSize(Integer value) {
+        this.cacheDiagnosticsNormalisationLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the {@link org.jooq.DSLContext#diagnosticsConnection()} should analyse SQL strings on a background thread, rather than on the thread that executes them.
+     * <p>
+     * In this mode, {@link org.jooq.DiagnosticsListener} events are fired on the background thread, and SQL strings are dropped from the analysis when the background thread cannot keep up with the queue of pending SQL strings.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDiagnosticsAsynchronous() {
+        return diagnosticsAsynchronous;
+    }
+
+    /**
+     * Sets the value of the diagnosticsAsynchronous property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDiagnosticsAsynchronous(Boolean value) {
+        this.diagnosticsAsynchronous = value;
+    }
+
+    /**
+     * The maximum number of pending SQL strings of the {@link org.jooq.DSLContext#diagnosticsConnection()}, when {@link #diagnosticsAsynchronous} is active.
+     * 
+     */
+    public Integer getDiagnosticsQueueSize() {
+        return diagnosticsQueueSize;
+    }
+
+    /**
+     * The maximum number of pending SQL strings of the {@link org.jooq.DSLContext#diagnosticsConnection()}, when {@link #diagnosticsAsynchronous} is active.
+     * 
+     */
+    public void setDiagnosticsQueueSize(Integer value) {
+        this.diagnosticsQueueSize = value;
+    }
+
+    /**
+     * The percentage of SQL strings that are analysed by the {@link org.jooq.DSLContext#diagnosticsConnection()}, between <code>0</code> and <code>100</code>.
+     * 
+     */
+    public Integer getDiagnosticsSamplingRate() {
+        return diagnosticsSamplingRate;
+    }
+
+    /**
+     * The percentage of SQL strings that are analysed by the {@link org.jooq.DSLContext#diagnosticsConnection()}, between <code>0</code> and <code>100</code>.
+     * 
+     */
+    public void setDiagnosticsSamplingRate(Integer value) {
+        this.diagnosticsSamplingRate = value;
+    }
+
+    /**
+     * The number of times that a normalised statement may be executed within a single transaction of the {@link org.jooq.DSLContext#diagnosticsConnection()}, before {@link org.jooq.DiagnosticsListener#nPlusOneStatements(org.jooq.DiagnosticsContext)} is fired.
+     * <p>
+     * A transaction ends with {@link java.sql.Connection#commit()}, {@link java.sql.Connection#rollback()}, {@link java.sql.Connection#setAutoCommit(boolean)}, or {@link java.sql.Connection#close()}. The detection is inactive if this is not set.
+     * 
+     */
+    public Integer getDiagnosticsNPlusOneThreshold() {
+        return diagnosticsNPlusOneThreshold;
+    }
+
+    /**
+     * The number of times that a normalised statement may be executed within a single transaction of the {@link org.jooq.DSLContext#diagnosticsConnection()}, before {@link org.jooq.DiagnosticsListener#nPlusOneStatements(org.jooq.DiagnosticsContext)} is fired.
+     * <p>
+     * A transaction ends with {@link java.sql.Connection#commit()}, {@link java.sql.Connection#rollback()}, {@link java.sql.Connection#setAutoCommit(boolean)}, or {@link java.sql.Connection#close()}. The detection is inactive if this is not set.
+     * 
+     */
+    public void setDiagnosticsNPlusOneThreshold(Integer value) {
+        this.diagnosticsNPlusOneThreshold = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -1983,6 +2205,32 @@ public class Settings
         this.returnAllOnUpdatableRecord = value;
     }
 
+    /**
+     * Whether calls to batchStore() and batchInsert() should fetch generated identity values through JDBC's getGeneratedKeys() and set them on the stored records.
+     * <p>
+     * This works only with JDBC drivers that support fetching generated keys after batch execution.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isReturnIdentityOnBatchStore() {
+        return returnIdentityOnBatchStore;
+    }
+
+    /**
+     * Sets the value of the returnIdentityOnBatchStore property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setReturnIdentityOnBatchStore(Boolean value) {
+        this.returnIdentityOnBatchStore = value;
+    }
+
     /**
      * Whether calls to store(), insert(), update(), and delete() that are called on an UpdatableRecord
      * that is created from a POJO (e.g. in a DAO) should return all Record values to the POJO, including
@@ -2489,6 +2737,32 @@ public class Settings
         this.metaIncludeSystemSequences = value;
     }
 
+    /**
+     * Whether {@link org.jooq.Meta} implementations backed by JDBC {@link java.sql.DatabaseMetaData} should load the columns, primary keys, foreign keys, and indexes of all tables of a schema in bulk, with one call per category, rather than one call per table.
+     * <p>
+     * Bulk loaded metadata is shared by all tables of a schema until {@link org.jooq.Meta#invalidate()} is called.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isMetaBulkLoading() {
+        return metaBulkLoading;
+    }
+
+    /**
+     * Sets the value of the metaBulkLoading property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setMetaBulkLoading(Boolean value) {
+        this.metaBulkLoading = value;
+    }
+
     /**
      * Whether migrations are allowed to be executed in inverse order.<p><strong>This is a potentially destructive feature, which should not be turned on in production</strong>. It is useful mostly to quickly switch between branches in a development environment. This feature is available only in commercial distributions.
      * 
@@ -2609,6 +2883,22 @@ public class Settings
         this.migrationIgnoreDefaultTimestampPrecisionDiffs = value;
     }
 
+    /**
+     * A directory in which interpreted migration states (the Meta of a Commit) are cached between runs.<p>If this is not set, migration states are cached only in memory, if Settings#isCacheMigrationStates() is enabled.
+     * 
+     */
+    public String getMigrationStateCacheDirectory() {
+        return migrationStateCacheDirectory;
+    }
+
+    /**
+     * A directory in which interpreted migration states (the Meta of a Commit) are cached between runs.<p>If this is not set, migration states are cached only in memory, if Settings#isCacheMigrationStates() is enabled.
+     * 
+     */
+    public void setMigrationStateCacheDirectory(String value) {
+        this.migrationStateCacheDirectory = value;
+    }
+
     /**
      * The Locale to be used with any locale dependent logic if there is not a more specific locale available. More specific locales include e.g. {@link #getRenderLocale()}, {@link #getParseLocale()}, or {@link #getInterpreterLocale()}.
      * 
@@ -3633,6 +3923,82 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheParser(Boolean value) {
+        setCacheParser(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the parser cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheParserLRUCacheSize(Integer value) {
+        setCacheParserLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheMigrationStates(Boolean value) {
+        setCacheMigrationStates(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the migration state cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheMigrationStatesLRUCacheSize(Integer value) {
+        setCacheMigrationStatesLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheDiagnosticsNormalisation(Boolean value) {
+        setCacheDiagnosticsNormalisation(value);
+        return this;
+    }
+
+    /**
+     * The default implementation's maximum number of entries in the LRU cache of normalised SQL strings of the {@link org.jooq.DSLContext#diagnosticsConnection()}.
+     * 
+     */
+    public Settings withCacheDiagnosticsNormalisationLRUCacheSize(Integer value) {
+        setCacheDiagnosticsNormalisationLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withDiagnosticsAsynchronous(Boolean value) {
+        setDiagnosticsAsynchronous(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of pending SQL strings of the {@link org.jooq.DSLContext#diagnosticsConnection()}, when {@link #diagnosticsAsynchronous} is active.
+     * 
+     */
+    public Settings withDiagnosticsQueueSize(Integer value) {
+        setDiagnosticsQueueSize(value);
+        return this;
+    }
+
+    /**
+     * The percentage of SQL strings that are analysed by the {@link org.jooq.DSLContext#diagnosticsConnection()}, between <code>0</code> and <code>100</code>.
+     * 
+     */
+    public Settings withDiagnosticsSamplingRate(Integer value) {
+        setDiagnosticsSamplingRate(value);
+        return this;
+    }
+
+    /**
+     * The number of times that a normalised statement may be executed within a single transaction of the {@link org.jooq.DSLContext#diagnosticsConnection()}, before {@link org.jooq.DiagnosticsListener#nPlusOneStatements(org.jooq.DiagnosticsContext)} is fired.
+     * <p>
+     * A transaction ends with {@link java.sql.Connection#commit()}, {@link java.sql.Connection#rollback()}, {@link java.sql.Connection#setAutoCommit(boolean)}, or {@link java.sql.Connection#close()}. The detection is inactive if this is not set.
+     * 
+     */
+    public Settings withDiagnosticsNPlusOneThreshold(Integer value) {
+        setDiagnosticsNPlusOneThreshold(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
@@ -3671,6 +4037,11 @@ public class Settings
         return this;
     }
 
+    public Settings withReturnIdentityOnBatchStore(Boolean value) {
+        setReturnIdentityOnBatchStore(value);
+        return this;
+    }
+
     public Settings withReturnRecordToPojo(Boolean value) {
         setReturnRecordToPojo(value);
         return this;
@@ -3852,6 +4223,11 @@ public class Settings
         return this;
     }
 
+    public Settings withMetaBulkLoading(Boolean value) {
+        setMetaBulkLoading(value);
+        return this;
+    }
+
     public Settings withMigrationAllowsUndo(Boolean value) {
         setMigrationAllowsUndo(value);
         return this;
@@ -3877,6 +4253,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * A directory in which interpreted migration states (the Meta of a Commit) are cached between runs.<p>If this is not set, migration states are cached only in memory, if Settings#isCacheMigrationStates() is enabled.
+     * 
+     */
+    public Settings withMigrationStateCacheDirectory(String value) {
+        setMigrationStateCacheDirectory(value);
+        return this;
+    }
+
     /**
      * The Locale to be used with any locale dependent logic if there is not a more specific locale available. More specific locales include e.g. {@link #getRenderLocale()}, {@link #getParseLocale()}, or {@link #getInterpreterLocale()}.
      * 
@@ -4200,12 +4585,23 @@ public class Settings
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheParser", cacheParser);
+        builder.append("cacheParserLRUCacheSize", cacheParserLRUCacheSize);
+        builder.append("cacheMigrationStates", cacheMigrationStates);
+        builder.append("cacheMigrationStatesLRUCacheSize", cacheMigrationStatesLRUCacheSize);
+        builder.append("cacheDiagnosticsNormalisation", cacheDiagnosticsNormalisation);
+        builder.append("cacheDiagnosticsNormalisationLRUCacheSize", cacheDiagnosticsNormalisationLRUCacheSize);
+        builder.append("diagnosticsAsynchronous", diagnosticsAsynchronous);
+        builder.append("diagnosticsQueueSize", diagnosticsQueueSize);
+        builder.append("diagnosticsSamplingRate", diagnosticsSamplingRate);
+        builder.append("diagnosticsNPlusOneThreshold", diagnosticsNPlusOneThreshold);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
         builder.append("returnIdentityOnUpdatableRecord", returnIdentityOnUpdatableRecord);
         builder.append("returnAllOnUpdatableRecord", returnAllOnUpdatableRecord);
+        builder.append("returnIdentityOnBatchStore", returnIdentityOnBatchStore);
         builder.append("returnRecordToPojo", returnRecordToPojo);
         builder.append("mapJPAAnnotations", mapJPAAnnotations);
         builder.append("mapRecordComponentParameterNames", mapRecordComponentParameterNames);
@@ -4231,11 +4627,13 @@ public class Settings
         builder.append("interpreterDelayForeignKeyDeclarations", interpreterDelayForeignKeyDeclarations);
         builder.append("metaIncludeSystemIndexes", metaIncludeSystemIndexes);
         builder.append("metaIncludeSystemSequences", metaIncludeSystemSequences);
+        builder.append("metaBulkLoading", metaBulkLoading);
         builder.append("migrationAllowsUndo", migrationAllowsUndo);
         builder.append("migrationRevertUntracked", migrationRevertUntracked);
         builder.append("migrationAutoBaseline", migrationAutoBaseline);
         builder.append("migrationAutoValidation", migrationAutoValidation);
         builder.append("migrationIgnoreDefaultTimestampPrecisionDiffs", migrationIgnoreDefaultTimestampPrecisionDiffs);
+        builder.append("migrationStateCacheDirectory", migrationStateCacheDirectory);
         builder.append("locale", locale);
         builder.append("parseDialect", parseDialect);
         builder.append("parseLocale", parseLocale);
@@ -4867,6 +5265,96 @@ public class Settings
                 return false;
             }
         }
+        if (cacheParser == null) {
+            if (other.cacheParser!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParser.equals(other.cacheParser)) {
+                return false;
+            }
+        }
+        if (cacheParserLRUCacheSize == null) {
+            if (other.cacheParserLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParserLRUCacheSize.equals(other.cacheParserLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheMigrationStates == null) {
+            if (other.cacheMigrationStates!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheMigrationStates.equals(other.cacheMigrationStates)) {
+                return false;
+            }
+        }
+        if (cacheMigrationStatesLRUCacheSize == null) {
+            if (other.cacheMigrationStatesLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheMigrationStatesLRUCacheSize.equals(other.cacheMigrationStatesLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheDiagnosticsNormalisation == null) {
+            if (other.cacheDiagnosticsNormalisation!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheDiagnosticsNormalisation.equals(other.cacheDiagnosticsNormalisation)) {
+                return false;
+            }
+        }
+        if (cacheDiagnosticsNormalisationLRUCacheSize == null) {
+            if (other.cacheDiagnosticsNormalisationLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheDiagnosticsNormalisationLRUCacheSize.equals(other.cacheDiagnosticsNormalisationLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsAsynchronous == null) {
+            if (other.diagnosticsAsynchronous!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsAsynchronous.equals(other.diagnosticsAsynchronous)) {
+                return false;
+            }
+        }
+        if (diagnosticsQueueSize == null) {
+            if (other.diagnosticsQueueSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsQueueSize.equals(other.diagnosticsQueueSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsSamplingRate == null) {
+            if (other.diagnosticsSamplingRate!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSamplingRate.equals(other.diagnosticsSamplingRate)) {
+                return false;
+            }
+        }
+        if (diagnosticsNPlusOneThreshold == null) {
+            if (other.diagnosticsNPlusOneThreshold!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsNPlusOneThreshold.equals(other.diagnosticsNPlusOneThreshold)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -4921,6 +5409,15 @@ public class Settings
                 return false;
             }
         }
+        if (returnIdentityOnBatchStore == null) {
+            if (other.returnIdentityOnBatchStore!= null) {
+                return false;
+            }
+        } else {
+            if (!returnIdentityOnBatchStore.equals(other.returnIdentityOnBatchStore)) {
+                return false;
+            }
+        }
         if (returnRecordToPojo == null) {
             if (other.returnRecordToPojo!= null) {
                 return false;
@@ -5146,6 +5643,15 @@ public class Settings
                 return false;
             }
         }
+        if (metaBulkLoading == null) {
+            if (other.metaBulkLoading!= null) {
+                return false;
+            }
+        } else {
+            if (!metaBulkLoading.equals(other.metaBulkLoading)) {
+                return false;
+            }
+        }
         if (migrationAllowsUndo == null) {
             if (other.migrationAllowsUndo!= null) {
                 return false;
@@ -5191,6 +5697,15 @@ public class Settings
                 return false;
             }
         }
+        if (migrationStateCacheDirectory == null) {
+            if (other.migrationStateCacheDirectory!= null) {
+                return false;
+            }
+        } else {
+            if (!migrationStateCacheDirectory.equals(other.migrationStateCacheDirectory)) {
+                return false;
+            }
+        }
         if (locale == null) {
             if (other.locale!= null) {
                 return false;
@@ -5488,12 +6003,23 @@ public class Settings
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheParser == null)? 0 :cacheParser.hashCode()));
+        result = ((prime*result)+((cacheParserLRUCacheSize == null)? 0 :cacheParserLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheMigrationStates == null)? 0 :cacheMigrationStates.hashCode()));
+        result = ((prime*result)+((cacheMigrationStatesLRUCacheSize == null)? 0 :cacheMigrationStatesLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheDiagnosticsNormalisation == null)? 0 :cacheDiagnosticsNormalisation.hashCode()));
+        result = ((prime*result)+((cacheDiagnosticsNormalisationLRUCacheSize == null)? 0 :cacheDiagnosticsNormalisationLRUCacheSize.hashCode()));
+        result = ((prime*result)+((diagnosticsAsynchronous == null)? 0 :diagnosticsAsynchronous.hashCode()));
+        result = ((prime*result)+((diagnosticsQueueSize == null)? 0 :diagnosticsQueueSize.hashCode()));
+        result = ((prime*result)+((diagnosticsSamplingRate == null)? 0 :diagnosticsSamplingRate.hashCode()));
+        result = ((prime*result)+((diagnosticsNPlusOneThreshold == null)? 0 :diagnosticsNPlusOneThreshold.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
         result = ((prime*result)+((returnIdentityOnUpdatableRecord == null)? 0 :returnIdentityOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnAllOnUpdatableRecord == null)? 0 :returnAllOnUpdatableRecord.hashCode()));
+        result = ((prime*result)+((returnIdentityOnBatchStore == null)? 0 :returnIdentityOnBatchStore.hashCode()));
         result = ((prime*result)+((returnRecordToPojo == null)? 0 :returnRecordToPojo.hashCode()));
         result = ((prime*result)+((mapJPAAnnotations == null)? 0 :mapJPAAnnotations.hashCode()));
         result = ((prime*result)+((mapRecordComponentParameterNames == null)? 0 :mapRecordComponentParameterNames.hashCode()));
@@ -5519,11 +6045,13 @@ public class Settings
         result = ((prime*result)+((interpreterDelayForeignKeyDeclarations == null)? 0 :interpreterDelayForeignKeyDeclarations.hashCode()));
         result = ((prime*result)+((metaIncludeSystemIndexes == null)? 0 :metaIncludeSystemIndexes.hashCode()));
         result = ((prime*result)+((metaIncludeSystemSequences == null)? 0 :metaIncludeSystemSequences.hashCode()));
+        result = ((prime*result)+((metaBulkLoading == null)? 0 :metaBulkLoading.hashCode()));
         result = ((prime*result)+((migrationAllowsUndo == null)? 0 :migrationAllowsUndo.hashCode()));
         result = ((prime*result)+((migrationRevertUntracked == null)? 0 :migrationRevertUntracked.hashCode()));
         result = ((prime*result)+((migrationAutoBaseline == null)? 0 :migrationAutoBaseline.hashCode()));
         result = ((prime*result)+((migrationAutoValidation == null)? 0 :migrationAutoValidation.hashCode()));
         result = ((prime*result)+((migrationIgnoreDefaultTimestampPrecisionDiffs == null)? 0 :migrationIgnoreDefaultTimestampPrecisionDiffs.hashCode()));
+        result = ((prime*result)+((migrationStateCacheDirectory == null)? 0 :migrationStateCacheDirectory.hashCode()));
         result = ((prime*result)+((locale == null)? 0 :locale.hashCode()));
         result = ((prime*result)+((parseDialect == null)? 0 :parseDialect.hashCode()));
         result = ((prime*result)+((parseLocale == null)? 0 :parseLocale.hashCode()));
@@ -200,6 +200,27 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * Whether parser caching is active.
+     */
+    public static final boolean parserCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheParser(), false);
+    }
+
+    /**
+     * Whether migration state caching is active.
+     */
+    public static final boolean migrationStateCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheMigrationStates(), true);
+    }
+
+    /**
+     * Whether diagnostics normalisation caching is active.
+     */
+    public static final boolean diagnosticsNormalisationCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheDiagnosticsNormalisation(), true);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -144,6 +144,9 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     boolean                                        qualifySchema               = true;
     boolean                                        qualifyCatalog              = true;
 
+    // Cached parser results are rendered with fresh bind values
+    Map<QueryPart, QueryPart>                      substitutes;
+
     // [#11711] Enforcing scientific notation
     private transient DecimalFormat                doubleFormat;
     private transient DecimalFormat                floatFormat;
@@ -221,6 +224,12 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     @Override
     public final C visit(QueryPart part) {
         if (part != null) {
+            if (substitutes != null) {
+                QueryPart substitute = substitutes.get(part);
+
+                if (substitute != null)
+                    part = substitute;
+            }
 
             // Issue start clause events
             // -----------------------------------------------------------------
@@ -42,6 +42,7 @@ import static org.jooq.impl.Tools.findAny;
 import static org.jooq.impl.Tools.flatMap;
 import static org.jooq.impl.Tools.map;
 
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -586,6 +587,32 @@ abstract class AbstractMeta extends AbstractScope implements Meta, Serializable
         return InformationSchemaExport.exportCatalogs(configuration(), getCatalogs());
     }
 
+    @Override
+    public final void exportBinary(OutputStream stream) {
+        InformationSchemaBinary.write(informationSchema(), stream);
+    }
+
+    @Override
+    public /* non-final */ void invalidate() {
+        cachedCatalogs = null;
+        cachedQualifiedSchemas = null;
+        cachedQualifiedTables = null;
+        cachedQualifiedDomains = null;
+        cachedQualifiedSequences = null;
+        cachedQualifiedPrimaryKeys = null;
+        cachedQualifiedUniqueKeys = null;
+        cachedQualifiedForeignKeys = null;
+        cachedQualifiedIndexes = null;
+        cachedUnqualifiedSchemas = null;
+        cachedUnqualifiedTables = null;
+        cachedUnqualifiedDomains = null;
+        cachedUnqualifiedSequences = null;
+        cachedUnqualifiedPrimaryKeys = null;
+        cachedUnqualifiedUniqueKeys = null;
+        cachedUnqualifiedForeignKeys = null;
+        cachedUnqualifiedIndexes = null;
+    }
+
     final Table<?> lookupTable(Table<?> table) {
 
         // TODO: This is a re-occurring pattern in Meta implementations. Should we have a more generic way to look up objects in a Catalog/Schema?
@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.selectOne;
+import static org.jooq.impl.Tools.getMappedTable;
+import static org.jooq.impl.Tools.selectQueryImpl;
+import static org.jooq.impl.Tools.unalias;
+
+import org.jooq.DSLContext;
+import org.jooq.Explain;
+import org.jooq.Record;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.Table;
+
+/**
+ * The implementation of {@link DSLContext#fetchApproximateCount(Select)} and
+ * {@link DSLContext#fetchApproximateCount(Table)}.
+ *
+ * @author Lukas Eder
+ */
+final class ApproximateCount {
+
+    static final int count(DSLContext ctx, Select<?> query) {
+        switch (ctx.family()) {
+
+            // MySQL's EXPLAIN reports the rows examined in the first table,
+            // not the rows produced by the query
+            case MARIADB:
+            case MYSQL:
+                if (unfiltered(query))
+                    return estimate(ctx, query);
+
+                break;
+
+            // Only these dialects report the estimated cardinality in their
+            // EXPLAIN output. H2's EXPLAIN ANALYZE would run the query.
+            case POSTGRES:
+            case YUGABYTE:
+                return estimate(ctx, query);
+        }
+
+        return ctx.fetchCount(query);
+    }
+
+    private static final int estimate(DSLContext ctx, Select<?> query) {
+        Explain explain = ctx.explain(query);
+
+        return Double.isNaN(explain.rows()) ? ctx.fetchCount(query) : toInt(explain.rows());
+    }
+
+    /**
+     * Whether a query returns all the rows of a single table.
+     */
+    private static final boolean unfiltered(Select<?> query) {
+        SelectQueryImpl<?> s = selectQueryImpl(query);
+
+        if (s == null
+                || s.$with() != null
+                || s.hasUnions()
+                || s.hasDistinct()
+                || s.$from().size() != 1
+                || !(unalias(s.$from().get(0)) instanceof TableImpl)
+                || ((ConditionProviderImpl) s.$where()).hasWhere()
+                || !s.$groupBy().isEmpty()
+                || ((ConditionProviderImpl) s.$having()).hasWhere()
+                || ((ConditionProviderImpl) s.$qualify()).hasWhere()
+                || !s.getSeek().isEmpty()
+                || s.getLimit().isApplicable())
+            return false;
+
+        // Aggregate functions produce a single row
+        for (SelectFieldOrAsterisk f : s.$select())
+            if (f.$traverse(false, b -> b, p -> true, (b, p) -> b || p instanceof AbstractWindowFunction))
+                return false;
+
+        return true;
+    }
+
+    static final int count(DSLContext ctx, Table<?> table) {
+        Table<?> t = unalias(table);
+
+        if (t instanceof TableImpl && ((TableImpl<?>) t).parameters == null && ((TableImpl<?>) t).child == null) {
+            Double estimate = statistics(ctx, getMappedTable(ctx, t));
+
+            // An estimate of 0 may also mean that the table has never been
+            // analysed, and counting an empty table exactly is cheap
+            if (estimate != null && estimate > 0)
+                return toInt(estimate);
+        }
+
+        return count(ctx, selectOne().from(table));
+    }
+
+    private static final Double statistics(DSLContext ctx, Table<?> table) {
+        Schema schema = table.getSchema();
+        String s = schema == null ? null : schema.getName();
+        String name = table.getName();
+        Record record;
+
+        switch (ctx.family()) {
+
+            // Unlike a cast to regclass, to_regclass() doesn't fail
+            // on unknown tables, which would abort the transaction
+            case POSTGRES:
+            case YUGABYTE:
+                record = ctx.fetchOne(
+                    "select reltuples from pg_catalog.pg_class where oid = to_regclass({0})",
+                    inline(ctx.render(table))
+                );
+                break;
+
+            case MARIADB:
+            case MYSQL:
+                record = ctx.fetchOne(
+                    "select table_rows from information_schema.tables where table_schema = coalesce({0}, database()) and table_name = {1}",
+                    inline(s), inline(name)
+                );
+                break;
+
+            case H2:
+                record = ctx.fetchOne(
+                    "select row_count_estimate from information_schema.tables where table_schema = coalesce({0}, current_schema) and table_name = {1}",
+                    inline(s), inline(name)
+                );
+                break;
+
+            default:
+                return null;
+        }
+
+        return record == null ? null : record.get(0, Double.class);
+    }
+
+    private static final int toInt(double rows) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(rows));
+    }
+}
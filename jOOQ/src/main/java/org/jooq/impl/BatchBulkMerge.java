@@ -0,0 +1,247 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.DERBY;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.SQLDialect.SQLITE;
+import static org.jooq.SQLDialect.YUGABYTE;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jooq.BatchBindStep;
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.InsertQuery;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UpdatableRecord;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A batch that merges records using multi-row
+ * <code>INSERT .. ON DUPLICATE KEY UPDATE</code> statements.
+ * <p>
+ * Records are grouped by table and by the set of changed fields, preserving
+ * the record order as much as possible. Each group is split into chunks of
+ * equal size, all of which are executed as a single JDBC batch of the same
+ * prepared statement. The last, smaller chunk of a group is executed
+ * separately.
+ *
+ * @author Lukas Eder
+ */
+final class BatchBulkMerge extends AbstractBatch {
+
+    private static final JooqLogger       log                      = JooqLogger.getLogger(BatchBulkMerge.class);
+    private static final Set<SQLDialect>  BIND_VALUE_LIMIT_32767   = SQLDialect.supportedBy(POSTGRES, YUGABYTE);
+    private static final Set<SQLDialect>  BIND_VALUE_LIMIT_999     = SQLDialect.supportedBy(SQLITE);
+    private static final Set<SQLDialect>  NO_SUPPORT_MULTI_ROW     = SQLDialect.supportedBy(DERBY);
+    private final UpdatableRecord<?>[]    records;
+    private final int                     bulkSize;
+
+    BatchBulkMerge(Configuration configuration, int bulkSize, UpdatableRecord<?>[] records) {
+        super(configuration);
+
+        if (bulkSize <= 0)
+            throw new IllegalArgumentException("Bulk size must be positive: " + bulkSize);
+
+        this.bulkSize = bulkSize;
+        this.records = records;
+    }
+
+    @Override
+    public final int size() {
+        return records.length;
+    }
+
+    @Override
+    public final int[] execute() throws DataAccessException {
+
+        // The MERGE emulation of Derby cannot merge multiple rows
+        if (NO_SUPPORT_MULTI_ROW.contains(configuration.dialect()))
+            return dsl.batchMerge(records).execute();
+
+        Map<Group, List<UpdatableRecord<?>>> groups = new LinkedHashMap<>();
+
+        for (UpdatableRecord<?> record : records) {
+            BitSet changed = new BitSet();
+
+            for (int i = 0; i < record.size(); i++)
+                if (record.changed(i))
+                    changed.set(i);
+
+            // Records without any changes are not stored, just like with UpdatableRecord.merge()
+            if (!changed.isEmpty())
+                groups.computeIfAbsent(new Group(record.getTable(), changed), g -> new ArrayList<>()).add(record);
+        }
+
+        List<Integer> result = new ArrayList<>();
+        groups.forEach((group, list) -> {
+            Field<?>[] fields = group.fields(list.get(0));
+            int size = chunkSize(fields.length);
+            int full = list.size() / size;
+
+            if (log.isDebugEnabled())
+                log.debug("Bulk merge of " + list.size() + " records into " + group.table + " using " + full + " chunks of " + size + " records, and " + (list.size() % size) + " remaining records");
+
+            // All full chunks produce the same SQL string, so they share a
+            // single prepared statement in a batch
+            if (full > 0) {
+                BatchBindStep batch = null;
+
+                for (int i = 0; i < full; i++) {
+                    InsertQuery<?> query = query(group, fields, list.subList(i * size, (i + 1) * size));
+
+                    if (batch == null)
+                        batch = dsl.batch(query);
+
+                    batch.bind(query.getBindValues().toArray());
+                }
+
+                for (int i : batch.execute())
+                    result.add(i);
+            }
+
+            if (list.size() % size > 0)
+                result.add(query(group, fields, list.subList(full * size, list.size())).execute());
+        });
+
+        for (UpdatableRecord<?> record : records) {
+            record.changed(false);
+
+            if (record instanceof AbstractRecord)
+                ((AbstractRecord) record).fetched = true;
+        }
+
+        int[] array = new int[result.size()];
+        for (int i = 0; i < result.size(); i++)
+            array[i] = result.get(i);
+
+        return array;
+    }
+
+    /**
+     * The number of records per statement, respecting the bind value limits
+     * of the dialect.
+     */
+    private final int chunkSize(int fieldsPerRecord) {
+        int limit = BIND_VALUE_LIMIT_32767.contains(configuration.dialect())
+            ? 32767
+            : BIND_VALUE_LIMIT_999.contains(configuration.dialect())
+            ? 999
+            : Integer.MAX_VALUE;
+
+        return Math.max(1, Math.min(bulkSize, limit / Math.max(1, fieldsPerRecord)));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final InsertQuery<?> query(Group group, Field<?>[] fields, List<UpdatableRecord<?>> chunk) {
+        InsertQuery<?> query = dsl.insertQuery(group.table);
+        List<? extends TableField<?, ?>> keys = group.table.getPrimaryKey().getFields();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0)
+                query.newRecord();
+
+            for (Field<?> field : fields)
+                query.addValue((Field) field, chunk.get(i).get(field));
+        }
+
+        // Only the primary key is considered for duplicate detection, also in
+        // MERGE emulations, which would otherwise match all unique keys
+        query.onConflict(keys);
+
+        List<Field<?>> update = new ArrayList<>();
+        for (Field<?> field : fields)
+            if (!keys.contains(field))
+                update.add(field);
+
+        // If only key values are present, there is nothing to update
+        if (update.isEmpty())
+            query.onDuplicateKeyIgnore(true);
+        else {
+            query.onDuplicateKeyUpdate(true);
+
+            for (Field<?> field : update)
+                addValueForUpdate(query, field);
+        }
+
+        return query;
+    }
+
+    private static final <T> void addValueForUpdate(InsertQuery<?> query, Field<T> field) {
+        query.addValueForUpdate(field, new Excluded<>(field));
+    }
+
+    private static final class Group {
+        final Table<?> table;
+        final BitSet   changed;
+
+        Group(Table<?> table, BitSet changed) {
+            this.table = table;
+            this.changed = changed;
+        }
+
+        final Field<?>[] fields(UpdatableRecord<?> record) {
+            return changed.stream().mapToObj(record::field).toArray(Field[]::new);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * table.hashCode() + changed.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Group))
+                return false;
+
+            Group other = (Group) obj;
+            return table.equals(other.table) && changed.equals(other.changed);
+        }
+    }
+}
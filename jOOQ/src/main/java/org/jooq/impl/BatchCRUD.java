@@ -37,6 +37,10 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.CUBRID;
+import static org.jooq.SQLDialect.IGNITE;
+import static org.jooq.SQLDialect.SQLITE;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
 
@@ -45,11 +49,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
-import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.Insert;
 import org.jooq.Query;
+import org.jooq.SQLDialect;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
@@ -61,9 +69,10 @@ import org.jooq.tools.JooqLogger;
  */
 final class BatchCRUD extends AbstractBatch {
 
-    private static final JooqLogger log = JooqLogger.getLogger(BatchCRUD.class);
-    private final TableRecord<?>[]  records;
-    private final Action            action;
+    private static final JooqLogger       log                             = JooqLogger.getLogger(BatchCRUD.class);
+    private static final Set<SQLDialect>  NO_SUPPORT_BATCH_GENERATED_KEYS = SQLDialect.supportedBy(CUBRID, IGNITE, SQLITE);
+    private final TableRecord<?>[]        records;
+    private final Action                  action;
 
     BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records) {
         super(configuration);
@@ -90,6 +99,7 @@ final class BatchCRUD extends AbstractBatch {
 
     private final int[] executePrepared() {
         Map<String, List<Query>> queries = new LinkedHashMap<>();
+        Map<String, List<TableRecord<?>>> queryRecords = new LinkedHashMap<>();
         QueryCollector collector = new QueryCollector();
 
         // Add the QueryCollector to intercept query execution after rendering
@@ -113,8 +123,10 @@ final class BatchCRUD extends AbstractBatch {
                 String sql = e.getSQL();
 
                 // Aggregate executable queries by identical SQL
-                if (query.isExecutable())
+                if (query.isExecutable()) {
                     queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+                    queryRecords.computeIfAbsent(sql, s -> new ArrayList<>()).add(records[i]);
+                }
             }
             finally {
                 records[i].attach(previous);
@@ -129,12 +141,22 @@ final class BatchCRUD extends AbstractBatch {
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
         queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0));
+            List<TableRecord<?>> r = queryRecords.get(k);
+            Identity<?, ?> identity = returnedIdentity(v.get(0), r.get(0));
+            BatchSingle batch = new BatchSingle(configuration, v.get(0));
 
             for (Query query : v)
                 batch.bind(query.getBindValues().toArray());
 
-            int[] array = batch.execute();
+            int[] array;
+            if (identity != null) {
+                List<Object> keys = new ArrayList<>();
+                array = batch.executeReturningIdentity(identity.getField(), keys);
+                setIdentity(identity, r, keys);
+            }
+            else
+                array = batch.execute();
+
             for (int i : array)
                 result.add(i);
         });
@@ -147,6 +169,36 @@ final class BatchCRUD extends AbstractBatch {
         return array;
     }
 
+    /**
+     * The <code>IDENTITY</code> whose generated values should be fetched for a
+     * group of identical queries, or <code>null</code> if no values should be
+     * fetched.
+     */
+    private final Identity<?, ?> returnedIdentity(Query query, TableRecord<?> record) {
+        if (TRUE.equals(configuration.settings().isReturnIdentityOnBatchStore())
+                && (action == Action.INSERT || action == Action.STORE)
+                && query instanceof Insert
+                && !NO_SUPPORT_BATCH_GENERATED_KEYS.contains(configuration.dialect()))
+            return record.getTable().getIdentity();
+        else
+            return null;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final void setIdentity(Identity<?, ?> identity, List<TableRecord<?>> r, List<Object> keys) {
+
+        // Some JDBC drivers return only the last generated key, or none at all
+        // for batch statements, in case of which the keys cannot be matched
+        if (keys.size() != r.size()) {
+            log.warn("Batch identity", "Batch insert into " + identity.getTable() + " fetched " + keys.size() + " generated keys for " + r.size() + " records. Generated keys are not set on records.");
+            return;
+        }
+
+        Field<Object> field = (Field<Object>) identity.getField();
+        for (int i = 0; i < keys.size(); i++)
+            ((TableRecord) r.get(i)).set(field, keys.get(i));
+    }
+
     private final int[] executeStatic() {
         List<Query> queries = new ArrayList<>();
         QueryCollector collector = new QueryCollector();
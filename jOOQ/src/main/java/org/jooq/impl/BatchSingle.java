@@ -37,14 +37,21 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.SQLDialect.DERBY;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.visitAll;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -55,13 +62,16 @@ import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Param;
 import org.jooq.Query;
+import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.impl.R2DBC.BatchSingleSubscriber;
 import org.jooq.impl.R2DBC.BatchSubscription;
 import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
 
 import org.reactivestreams.Subscriber;
 
@@ -185,7 +195,21 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                     log.info("Bind value count", "Batch bind value set " + i + " has " + allBindValues.get(i).length + " values when " + expectedBindValues + " values were expected");
     }
 
+    /**
+     * Execute this batch as a prepared statement, and collect the values
+     * generated for an <code>IDENTITY</code> column through
+     * {@link Statement#getGeneratedKeys()}, in bind value set order.
+     */
+    final int[] executeReturningIdentity(Field<?> identity, List<Object> generatedKeys) {
+        checkBindValues();
+        return executePrepared(identity, generatedKeys);
+    }
+
     private final int[] executePrepared() {
+        return executePrepared(null, null);
+    }
+
+    private final int[] executePrepared(Field<?> identity, List<Object> generatedKeys) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
         ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
@@ -203,7 +227,9 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
 
             listener.prepareStart(ctx);
             if (ctx.statement() == null)
-                ctx.statement(connection.prepareStatement(ctx.sql()));
+                ctx.statement(identity == null
+                    ? connection.prepareStatement(ctx.sql())
+                    : prepareReturningIdentity(ctx, identity));
             listener.prepareEnd(ctx);
 
             // [#9295] use query timeout from settings
@@ -235,6 +261,10 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                 batchRows[i] = result[i];
 
             listener.executeEnd(ctx);
+
+            if (identity != null)
+                fetchGeneratedKeys(ctx, identity, generatedKeys);
+
             return result;
         }
 
@@ -257,6 +287,45 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
     }
 
+    private static final PreparedStatement prepareReturningIdentity(ExecuteContext ctx, Field<?> identity) throws SQLException {
+        switch (ctx.family()) {
+
+            // Some dialects can only return AUTO_INCREMENT values
+            case DERBY:
+            case MARIADB:
+            case MYSQL:
+                return ctx.connection().prepareStatement(ctx.sql(), Statement.RETURN_GENERATED_KEYS);
+
+            default: {
+                RenderNameCase style = SettingsTools.getRenderNameCase(ctx.settings());
+                String name =
+                      style == RenderNameCase.UPPER
+                    ? identity.getName().toUpperCase(renderLocale(ctx.settings()))
+                    : style == RenderNameCase.LOWER
+                    ? identity.getName().toLowerCase(renderLocale(ctx.settings()))
+                    : identity.getName();
+
+                return ctx.connection().prepareStatement(ctx.sql(), new String[] { name });
+            }
+        }
+    }
+
+    private static final void fetchGeneratedKeys(ExecuteContext ctx, Field<?> identity, List<Object> generatedKeys) throws SQLException {
+        ResultSet rs = ctx.statement().getGeneratedKeys();
+
+        try {
+
+            // Some JDBC drivers seem to illegally return null
+            // from getGeneratedKeys() sometimes
+            if (rs != null)
+                while (rs.next())
+                    generatedKeys.add(identity.getDataType().convert(rs.getObject(1)));
+        }
+        finally {
+            JDBCUtils.safeClose(rs);
+        }
+    }
+
     final Param<?>[] extractParams() {
         // [#1371] fetch bind variables to restore them again, later
         // [#3940] Don't include inlined bind variables
@@ -65,13 +65,49 @@ final class Cache {
     @SuppressWarnings("unchecked")
     static final <V> V run(Configuration configuration, Supplier<V> operation, CacheType type, Supplier<?> key) {
 
+        Map<Object, Object> cache = cache(configuration, type);
+
+        if (cache == null)
+            return operation.get();
+
+        // The cache is guaranteed to be thread safe by the CacheProvider
+        // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
+        // recursively, we have to revert to double checked locking nonetheless.
+        Object k = key.get();
+        Object v = cache.get(k);
+        if (v == null) {
+            synchronized (cache) {
+                v = cache.get(k);
+
+                if (v == null)
+                    cache.put(k, (v = operation.get()) == null ? NULL : v);
+            }
+        }
+
+        return (V) (v == NULL ? null : v);
+    }
+
+    /**
+     * Look up the cache of a {@link Configuration}.
+     * <p>
+     * Unlike {@link #run(Configuration, Supplier, CacheType, Supplier)}, this
+     * allows for running expensive operations outside of any locks, in case
+     * of which concurrent callers may compute the same value more than once.
+     *
+     * @param configuration The configuration that may cache values.
+     * @param type The cache type to be used.
+     * @return The cache, or <code>null</code> if caching is not active.
+     */
+    @SuppressWarnings("unchecked")
+    static final Map<Object, Object> cache(Configuration configuration, CacheType type) {
+
         // If no configuration is provided take the default configuration that loads the default Settings
         if (configuration == null)
             configuration = new DefaultConfiguration();
 
         // Shortcut caching when the relevant Settings flag isn't set.
         if (!type.category.predicate.test(configuration.settings()))
-            return operation.get();
+            return null;
 
         Object cacheOrNull = configuration.data(type);
         if (cacheOrNull == null) {
@@ -86,25 +122,7 @@ final class Cache {
             }
         }
 
-        if (cacheOrNull == NULL)
-            return operation.get();
-
-        // The cache is guaranteed to be thread safe by the CacheProvider
-        // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
-        Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
-        Object k = key.get();
-        Object v = cache.get(k);
-        if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
-
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
-        }
-
-        return (V) (v == NULL ? null : v);
+        return cacheOrNull == NULL ? null : (Map<Object, Object>) cacheOrNull;
     }
 
     /**
@@ -38,6 +38,9 @@
 package org.jooq.impl;
 
 
+import static org.jooq.impl.CacheType.CacheCategory.DIAGNOSTICS_NORMALISATION;
+import static org.jooq.impl.CacheType.CacheCategory.MIGRATION_STATE;
+import static org.jooq.impl.CacheType.CacheCategory.PARSER;
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
@@ -45,6 +48,7 @@ import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
 import java.util.function.Predicate;
 
 import org.jooq.CacheProvider;
+import org.jooq.Commit;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.RecordMapper;
@@ -121,7 +125,24 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for queries parsed by {@link DSLContext#parser()}.
+     */
+    CACHE_PARSER(PARSER, "org.jooq.configuration.cache.parser"),
+
+    /**
+     * A cache for the interpreted {@link Commit#meta()}, to avoid replaying
+     * the history of a commit through the interpreter more than once.
+     */
+    CACHE_MIGRATION_STATES(MIGRATION_STATE, "org.jooq.configuration.cache.migration-states"),
+
+    /**
+     * A cache for the normalised SQL strings of the
+     * {@link DSLContext#diagnosticsConnection()}, by raw SQL string.
+     */
+    CACHE_DIAGNOSTICS_NORMALISATION(DIAGNOSTICS_NORMALISATION, "org.jooq.configuration.cache.diagnostics-normalisation");
 
     final CacheCategory category;
     final String        key;
@@ -134,7 +155,10 @@ public enum CacheType {
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        PARSER(SettingsTools::parserCaching),
+        MIGRATION_STATE(SettingsTools::migrationStateCaching),
+        DIAGNOSTICS_NORMALISATION(SettingsTools::diagnosticsNormalisationCaching);
 
         final Predicate<? super Settings> predicate;
 
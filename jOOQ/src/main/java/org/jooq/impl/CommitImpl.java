@@ -39,9 +39,17 @@ package org.jooq.impl;
 
 import static org.jooq.ContentType.INCREMENT;
 import static org.jooq.ContentType.SCHEMA;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.impl.CacheType.CACHE_MIGRATION_STATES;
 import static org.jooq.impl.Tools.EMPTY_SOURCE;
 import static org.jooq.tools.StringUtils.isBlank;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -64,9 +72,11 @@ import org.jooq.DSLContext;
 import org.jooq.File;
 import org.jooq.Files;
 import org.jooq.Meta;
+import org.jooq.Queries;
 import org.jooq.Source;
 import org.jooq.Version;
 import org.jooq.exception.DataMigrationException;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 
 /**
@@ -74,11 +84,15 @@ import org.jooq.tools.StringUtils;
  */
 final class CommitImpl extends AbstractNode<Commit> implements Commit {
 
+    private static final JooqLogger      log = JooqLogger.getLogger(CommitImpl.class);
+
     private final Configuration          configuration;
     private final DSLContext             ctx;
     private final List<? extends Commit> parents;
     private final Map<String, File>      delta;
     private final Map<String, File>      files;
+    private volatile Version             version;
+    private volatile String              stateKey;
 
     CommitImpl(Configuration configuration, String id, String message, List<? extends Commit> parents, Collection<? extends File> delta) {
         super(id, message);
@@ -186,12 +200,151 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
 
     @Override
     public final Version version() {
-        return root().migrateTo(this).to();
+        if (version == null)
+            version = root().migrateTo(this).to();
+
+        return version;
     }
 
     @Override
     public final Meta meta() {
-        return version().meta();
+        Map<Object, Object> cache = Cache.cache(configuration, CACHE_MIGRATION_STATES);
+
+        if (cache == null)
+            return meta0();
+
+        // Interpretation may be slow, so it runs outside of any locks. Concurrent
+        // callers may interpret the same state more than once, but they all get
+        // the same result.
+        String key = stateKey();
+        Meta result = (Meta) cache.get(key);
+
+        if (result == null) {
+            Meta computed = meta0();
+
+            result = (Meta) cache.putIfAbsent(key, computed);
+            if (result == null)
+                result = computed;
+        }
+
+        return result;
+    }
+
+    private final Meta meta0() {
+        Path path = statePath();
+
+        if (path != null && java.nio.file.Files.isRegularFile(path)) {
+            try {
+                return ctx.meta(new String(java.nio.file.Files.readAllBytes(path), UTF_8));
+            }
+            catch (IOException e) {
+                log.debug("Migration state cache", "Cannot read " + path, e);
+            }
+        }
+
+        Meta result = incrementalMeta();
+        if (result == null)
+            result = version().meta();
+
+        if (path != null) {
+            try {
+                java.nio.file.Files.createDirectories(path.getParent());
+
+                // Write to a temporary file first, to prevent concurrent
+                // processes from reading incomplete states
+                Path tmp = java.nio.file.Files.createTempFile(path.getParent(), stateKey(), ".tmp");
+                java.nio.file.Files.write(tmp, result.ddl().toString().getBytes(UTF_8));
+                java.nio.file.Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (IOException e) {
+                log.debug("Migration state cache", "Cannot write " + path, e);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Interpret the delta of this commit on top of its parent's state, if this
+     * commit does nothing but add new increment files.
+     * <p>
+     * The parent's state is re-interpreted from its {@link Meta#ddl()}, which
+     * contains only one <code>CREATE</code> statement per object, rather than
+     * the parent's entire history of increments.
+     * <p>
+     * Other commits (merges, deletions, schema files, edited increments) may
+     * reorganise the history, so their state is computed from the root.
+     */
+    private final Meta incrementalMeta() {
+        if (parents.size() != 1 || delta.isEmpty())
+            return null;
+
+        Commit parent = parents.get(0);
+        Set<String> parentPaths = new HashSet<>();
+        for (File file : parent.files())
+            parentPaths.add(file.path());
+
+        for (File file : delta.values())
+            if (file.type() != INCREMENT || file.content() == null || parentPaths.contains(file.path()))
+                return null;
+
+        Queries migration = ctx.queries();
+        for (File file : delta.values())
+            migration = migration.concat(ctx.parser().parse(file.content()));
+
+        return parent.meta().apply(migration);
+    }
+
+    private final Path statePath() {
+        String directory = configuration.settings().getMigrationStateCacheDirectory();
+        return isBlank(directory) ? null : Paths.get(directory, stateKey() + ".sql");
+    }
+
+    /**
+     * A key identifying this commit and the contents of its entire history.
+     */
+    private final String stateKey() {
+        if (stateKey == null) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+                for (Commit parent : parents)
+                    update(digest, parent instanceof CommitImpl ? ((CommitImpl) parent).stateKey() : parent.id());
+
+                update(digest, id());
+                for (File file : delta.values()) {
+                    update(digest, file.path());
+                    update(digest, file.type().name());
+                    update(digest, file.content());
+                }
+
+                StringBuilder sb = new StringBuilder();
+                for (byte b : digest.digest())
+                    sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+                stateKey = sb.toString();
+            }
+            catch (NoSuchAlgorithmException e) {
+                throw new DataMigrationException("SHA-256 is not available", e);
+            }
+        }
+
+        return stateKey;
+    }
+
+    private static final void update(MessageDigest digest, String string) {
+
+        // Length prefixes prevent ambiguities between adjacent strings
+        if (string == null) {
+            digest.update((byte) 0);
+        }
+        else {
+            byte[] bytes = string.getBytes(UTF_8);
+            digest.update((byte) 1);
+            digest.update(Integer.toString(bytes.length).getBytes(UTF_8));
+            digest.update((byte) ':');
+            digest.update(bytes);
+        }
     }
 
     @Override
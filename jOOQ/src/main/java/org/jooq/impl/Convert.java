@@ -1235,7 +1235,7 @@ final class Convert {
 
                     if (QualifiedRecord.class.isAssignableFrom(toClass)) {
                         try {
-                            QualifiedRecord<?> record = ((QualifiedRecord<?>) toClass.getDeclaredConstructor().newInstance());
+                            QualifiedRecord<?> record = RecordFactoryRegistry.newInstance((Class<? extends QualifiedRecord<?>>) toClass);
                             record.from(struct.getAttributes());
                             return (U) record;
                         }
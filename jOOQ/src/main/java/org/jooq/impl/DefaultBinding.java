@@ -531,7 +531,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             if (QualifiedRecord.class.isAssignableFrom(type)) {
                 Class<QualifiedRecord<?>> t = (Class<QualifiedRecord<?>>) type;
                 result.put(getMappedUDTName(scope, t), t);
-                QualifiedRecord<?> r = t.getDeclaredConstructor().newInstance();
+                QualifiedRecord<?> r = RecordFactoryRegistry.newInstance(t);
                 for (Field<?> field : r.getQualifier().fields())
                     typeMap(field.getType(), scope, result);
             }
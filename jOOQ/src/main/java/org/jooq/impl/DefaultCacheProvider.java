@@ -64,6 +64,15 @@ final class DefaultCacheProvider implements CacheProvider {
             case CACHE_PARSING_CONNECTION:
                 return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
 
+            case CACHE_PARSER:
+                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParserLRUCacheSize(), 8192)));
+
+            case CACHE_MIGRATION_STATES:
+                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheMigrationStatesLRUCacheSize(), 256)));
+
+            case CACHE_DIAGNOSTICS_NORMALISATION:
+                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheDiagnosticsNormalisationLRUCacheSize(), 8192)));
+
             default:
                 return new ConcurrentHashMap<>();
         }
@@ -68,6 +68,7 @@ import static org.jooq.impl.Tools.getMappedTable;
 import static org.jooq.impl.Tools.list;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.io.StringReader;
 import java.math.BigInteger;
@@ -152,6 +153,7 @@ import org.jooq.InsertValuesStep7;
 import org.jooq.InsertValuesStep8;
 import org.jooq.InsertValuesStep9;
 import org.jooq.InsertValuesStepN;
+import org.jooq.KeysetScan;
 import org.jooq.LoaderOptionsStep;
 import org.jooq.MergeKeyStep1;
 import org.jooq.MergeKeyStep10;
@@ -180,6 +182,7 @@ import org.jooq.MergeUsingStep;
 import org.jooq.Meta;
 import org.jooq.Migration;
 import org.jooq.Name;
+import org.jooq.Page;
 import org.jooq.Param;
 import org.jooq.Parser;
 import org.jooq.Privilege;
@@ -450,6 +453,11 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new InformationSchemaMetaImpl(configuration(), schema);
     }
 
+    @Override
+    public Meta metaFromBinary(InputStream stream) {
+        return meta(InformationSchemaBinary.read(stream));
+    }
+
     @Override
     public Meta meta(String... sources) {
         return new SourceMetaProvider(configuration(), Tools.map(sources, s -> Source.of(s), Source[]::new)).provide();
@@ -2819,6 +2827,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return batchMerge(records.toArray(EMPTY_UPDATABLE_RECORD));
     }
 
+    @Override
+    public Batch batchMerge(int bulkSize, UpdatableRecord<?>... records) {
+        return new BatchBulkMerge(configuration(), bulkSize, records);
+    }
+
+    @Override
+    public Batch batchMerge(int bulkSize, Collection<? extends UpdatableRecord<?>> records) {
+        return batchMerge(bulkSize, records.toArray(EMPTY_UPDATABLE_RECORD));
+    }
+
     @Override
     public Batch batchDelete(UpdatableRecord<?>... records) {
         return new BatchCRUD(configuration(), Action.DELETE, records);
@@ -4705,6 +4723,34 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return fetchCount(table, DSL.and(conditions));
     }
 
+    @Override
+    public int fetchApproximateCount(Select<?> query) {
+        return ApproximateCount.count(this, query);
+    }
+
+    @Override
+    public int fetchApproximateCount(Table<?> table) {
+        return ApproximateCount.count(this, table);
+    }
+
+    @Override
+    public <R extends Record> Page<R> fetchPage(Select<R> query) {
+        return FetchPage.fetch(this, query);
+    }
+
+    @Override
+    public <R extends Record> KeysetScan<R> fetchKeyset(Table<R> table, int chunkSize) {
+        if (table.getPrimaryKey() == null)
+            throw new IllegalArgumentException("Table has no primary key: " + table);
+
+        return fetchKeyset(selectFrom(table).orderBy(table.getPrimaryKey().getFields()), chunkSize);
+    }
+
+    @Override
+    public <R extends Record> KeysetScan<R> fetchKeyset(Select<R> query, int chunkSize) {
+        return new KeysetScanImpl<>(this, query, chunkSize);
+    }
+
     @Override
     public boolean fetchExists(Select<?> query) {
         return fetchValue(field(exists(query)));
@@ -774,7 +774,7 @@ public class DefaultDataType<T> extends AbstractDataTypeX<T> {
 
                     // [#7174] PostgreSQL table records can be function argument types
                     if (QualifiedRecord.class.isAssignableFrom(type))
-                        return (DataType<T>) ((QualifiedRecord<?>) type.getDeclaredConstructor().newInstance()).getQualifier().getDataType();
+                        return (DataType<T>) ((QualifiedRecord<?>) RecordFactoryRegistry.newInstance((Class<? extends QualifiedRecord<?>>) type)).getQualifier().getDataType();
 
 
 
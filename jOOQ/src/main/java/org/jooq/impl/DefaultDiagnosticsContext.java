@@ -69,6 +69,9 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     final String                    normalisedStatement;
     final Set<String>               duplicateStatements;
     final List<String>              repeatedStatements;
+    final List<List<Object>>        repeatedStatementBindValues;
+    final List<StackTraceElement>   callSite;
+    final String                    batchedStatement;
     boolean                         resultSetUnnecessaryWasNullCall;
     boolean                         resultSetMissingWasNullCall;
     int                             resultSetColumnIndex;
@@ -78,10 +81,25 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     }
 
     DefaultDiagnosticsContext(String actualStatement, String normalisedStatement, Set<String> duplicateStatements, List<String> repeatedStatements) {
+        this(actualStatement, normalisedStatement, duplicateStatements, repeatedStatements, null, null, null);
+    }
+
+    DefaultDiagnosticsContext(
+        String actualStatement,
+        String normalisedStatement,
+        Set<String> duplicateStatements,
+        List<String> repeatedStatements,
+        List<List<Object>> repeatedStatementBindValues,
+        List<StackTraceElement> callSite,
+        String batchedStatement
+    ) {
         this.actualStatement = actualStatement;
         this.normalisedStatement = normalisedStatement;
         this.duplicateStatements = duplicateStatements == null ? emptySet() : duplicateStatements;
         this.repeatedStatements = repeatedStatements == null ? emptyList() : repeatedStatements;
+        this.repeatedStatementBindValues = repeatedStatementBindValues == null ? emptyList() : repeatedStatementBindValues;
+        this.callSite = callSite == null ? emptyList() : callSite;
+        this.batchedStatement = batchedStatement;
     }
 
     @Override
@@ -185,4 +203,19 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     public final List<String> repeatedStatements() {
         return Collections.unmodifiableList(repeatedStatements);
     }
+
+    @Override
+    public final List<List<Object>> repeatedStatementBindValues() {
+        return Collections.unmodifiableList(repeatedStatementBindValues);
+    }
+
+    @Override
+    public final List<StackTraceElement> callSite() {
+        return Collections.unmodifiableList(callSite);
+    }
+
+    @Override
+    public final String batchedStatement() {
+        return batchedStatement;
+    }
 }
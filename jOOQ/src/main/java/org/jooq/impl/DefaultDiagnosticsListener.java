@@ -68,4 +68,7 @@ public class DefaultDiagnosticsListener implements DiagnosticsListener {
     @Override
     public void repeatedStatements(DiagnosticsContext ctx) {}
 
+    @Override
+    public void nPlusOneStatements(DiagnosticsContext ctx) {}
+
 }
@@ -51,6 +51,10 @@ import org.jooq.RecordType;
 /**
  * A default {@link RecordMapperProvider} implementation, providing a
  * {@link DefaultRecordMapper} instance.
+ * <p>
+ * If the code generator registered a mapper for a generated POJO type, and
+ * the {@link RecordType} corresponds to the POJO's table, then that mapper is
+ * provided instead.
  *
  * @author Lukas Eder
  */
@@ -73,7 +77,12 @@ public class DefaultRecordMapperProvider implements RecordMapperProvider, Serial
 
     @Override
     public final <R extends Record, E> RecordMapper<R, E> provide(final RecordType<R> rowType, final Class<? extends E> type) {
-        if (configuration != null && TRUE.equals(configuration.settings().isCacheRecordMappers()))
+
+        // Code generated POJO mappers don't need any reflection
+        RecordMapper<R, E> generated = PojoMapperRegistry.mapper(rowType, type);
+        if (generated != null)
+            return generated;
+        else if (configuration != null && TRUE.equals(configuration.settings().isCacheRecordMappers()))
             return Cache.run(configuration, () -> new DefaultRecordMapper<>(rowType, type, configuration), CACHE_RECORD_MAPPERS, () -> Cache.key(rowType, type));
         else
             return new DefaultRecordMapper<>(rowType, type, configuration);
@@ -48,6 +48,10 @@ import org.jooq.RecordUnmapperProvider;
 /**
  * A default {@link RecordUnmapperProvider} implementation, providing a
  * {@link DefaultRecordUnmapper} instance.
+ * <p>
+ * If the code generator registered an unmapper for a generated POJO type, and
+ * the {@link RecordType} corresponds to the POJO's table, then that unmapper
+ * is provided instead.
  *
  * @author Lukas Eder
  */
@@ -70,6 +74,12 @@ public class DefaultRecordUnmapperProvider implements RecordUnmapperProvider, Se
 
     @Override
     public final <E, R extends Record> RecordUnmapper<E, R> provide(Class<? extends E> type, RecordType<R> rowType) {
+
+        // Code generated POJO unmappers don't need any reflection
+        RecordUnmapper<E, R> generated = PojoMapperRegistry.unmapper(type, rowType);
+        if (generated != null)
+            return generated;
+
         return new DefaultRecordUnmapper<>(type, rowType, configuration);
     }
 }
@@ -38,24 +38,38 @@
 package org.jooq.impl;
 
 import static org.jooq.conf.ParamType.FORCE_INDEXED;
+import static org.jooq.impl.CacheType.CACHE_DIAGNOSTICS_NORMALISATION;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Param;
 import org.jooq.Parser;
-import org.jooq.Queries;
+import org.jooq.Query;
 import org.jooq.RenderContext;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -68,13 +82,22 @@ final class DiagnosticsConnection extends DefaultConnection {
     static final int                      LRU_SIZE_GLOBAL = 50000;
     static final int                      LRU_SIZE_LOCAL  = 500;
     static final int                      DUP_SIZE        = 500;
-    static final Map<String, Set<String>> DUPLICATE_SQL   = Collections.synchronizedMap(new LRU<>(LRU_SIZE_GLOBAL));
+
+    // The global duplicates are striped by the normalised SQL string's hash
+    // code, to avoid contention on a single lock
+    static final int                      DUP_STRIPES     = 16;
+    static final LRU<Set<String>>[]       DUPLICATE_SQL   = duplicateSQL();
+    static final String                   ANALYSER        = "org.jooq.configuration.diagnostics.analyser";
 
     final Map<String, List<String>>       repeatedSQL     = new LRU<>(LRU_SIZE_LOCAL);
+    final Map<String, Executions>         executions      = new LRU<>(LRU_SIZE_LOCAL);
     final Configuration                   configuration;
     final RenderContext                   normalisingRenderer;
     final Parser                          parser;
     final DiagnosticsListeners            listeners;
+    final int                             samplingRate;
+    final Executor                        analyser;
+    final int                             nPlusOneThreshold;
 
     DiagnosticsConnection(Configuration configuration) {
         super(configuration.connectionProvider().acquire());
@@ -89,8 +112,60 @@ final class DiagnosticsConnection extends DefaultConnection {
             .withInListPadding(true)
             .withInListPadBase(16)
         ).dsl().renderContext();
-        this.parser = configuration.dsl().parser();
+
+        // The diagnostics need the parsed query models, not cached copies
+        this.parser = configuration.deriveSettings(s -> s.withCacheParser(false)).dsl().parser();
         this.listeners = DiagnosticsListeners.get(configuration);
+
+        Settings settings = configuration.settings();
+        this.samplingRate = defaultIfNull(settings.getDiagnosticsSamplingRate(), 100);
+        this.analyser = Boolean.TRUE.equals(settings.isDiagnosticsAsynchronous()) ? analyser(configuration) : null;
+        this.nPlusOneThreshold = defaultIfNull(settings.getDiagnosticsNPlusOneThreshold(), 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final LRU<Set<String>>[] duplicateSQL() {
+        LRU<Set<String>>[] result = new LRU[DUP_STRIPES];
+
+        for (int i = 0; i < DUP_STRIPES; i++)
+            result[i] = new LRU<>(LRU_SIZE_GLOBAL / DUP_STRIPES);
+
+        return result;
+    }
+
+    /**
+     * The single, bounded background analyser that is shared by all
+     * asynchronous diagnostics connections of a configuration.
+     * <p>
+     * SQL strings that exceed the queue are silently dropped, and the
+     * background thread terminates when it is idle.
+     */
+    private static final Executor analyser(Configuration configuration) {
+        Object result = configuration.data(ANALYSER);
+
+        if (result == null) {
+            synchronized (DiagnosticsConnection.class) {
+                result = configuration.data(ANALYSER);
+
+                if (result == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                        1, 1, 60L, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, defaultIfNull(configuration.settings().getDiagnosticsQueueSize(), 10000))),
+                        r -> {
+                            Thread thread = new Thread(r, "jooq-diagnostics-analyser");
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.DiscardPolicy()
+                    );
+
+                    executor.allowCoreThreadTimeOut(true);
+                    configuration.data(ANALYSER, result = executor);
+                }
+            }
+        }
+
+        return (Executor) result;
     }
 
     @Override
@@ -110,81 +185,272 @@ final class DiagnosticsConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql)));
+        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql)), sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency));
+        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency), sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability));
+        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability), sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), autoGeneratedKeys));
+        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), autoGeneratedKeys), sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnIndexes));
+        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnIndexes), sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnNames));
+        return new DiagnosticsStatement(this, getDelegate().prepareStatement(parse(sql), columnNames), sql);
     }
 
     @Override
     public final CallableStatement prepareCall(String sql) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql)));
+        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql)), sql);
     }
 
     @Override
     public final CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency));
+        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency), sql);
     }
 
     @Override
     public final CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability));
+        return new DiagnosticsStatement(this, getDelegate().prepareCall(parse(sql), resultSetType, resultSetConcurrency, resultSetHoldability), sql);
     }
 
     @Override
     public final void close() throws SQLException {
-        repeatedSQL.clear();
+        synchronized (repeatedSQL) {
+            repeatedSQL.clear();
+        }
+
+        executions.clear();
         configuration.connectionProvider().release(getDelegate());
     }
 
+    @Override
+    public final void setAutoCommit(boolean autoCommit) throws SQLException {
+        executions.clear();
+        super.setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public final void commit() throws SQLException {
+        executions.clear();
+        super.commit();
+    }
+
+    @Override
+    public final void rollback() throws SQLException {
+        executions.clear();
+        super.rollback();
+    }
+
     final String parse(String sql) {
-        Queries queries;
-        String normalised;
+        if (samplingRate < 100 && ThreadLocalRandom.current().nextInt(100) >= samplingRate)
+            return sql;
+
+        if (analyser != null)
+            analyser.execute(() -> analyse(sql));
+        else
+            analyse(sql);
+
+        return sql;
+    }
+
+    final boolean nPlusOneDetection() {
+        return nPlusOneThreshold > 0;
+    }
+
+    /**
+     * Count the executions of a statement in the current transaction.
+     * <p>
+     * Unlike the other diagnostics, this runs on the executing thread, in
+     * order to report the call site of the statement.
+     */
+    final String executing(String sql, List<Object> bindValues) {
+        if (!nPlusOneDetection() || sql == null)
+            return sql;
+
+        String normalised = normalise(sql);
+        Executions e = executions.computeIfAbsent(normalised, k -> new Executions());
+
+        if (e.statements.size() < DUP_SIZE) {
+            e.statements.add(sql);
+            e.bindValues.add(bindValues);
+        }
+
+        if (++e.count == nPlusOneThreshold + 1)
+            listeners.nPlusOneStatements(new DefaultDiagnosticsContext(
+                sql,
+                normalised,
+                null,
+                new ArrayList<>(e.statements),
+                new ArrayList<>(e.bindValues),
+                callSite(),
+                batchedStatement(sql, e.bindValues)
+            ));
+
+        return sql;
+    }
+
+    /**
+     * The current stack trace, without the jOOQ internal and JDK frames at the
+     * top.
+     */
+    private static final List<StackTraceElement> callSite() {
+        StackTraceElement[] trace = new Throwable().getStackTrace();
+        int i = 0;
+
+        while (i < trace.length && internal(trace[i].getClassName()))
+            i++;
+
+        return Arrays.asList(Arrays.copyOfRange(trace, i, trace.length));
+    }
+
+    private static final boolean internal(String className) {
+        return className.startsWith("org.jooq.impl.")
+            || className.startsWith("org.jooq.tools.")
+            || className.startsWith("java.")
+            || className.startsWith("jdk.")
+            || className.startsWith("sun.");
+    }
+
+    /**
+     * Derive a <code>SELECT</code> statement that replaces repeated
+     * executions of a <code>SELECT .. WHERE column = ?</code> statement by a
+     * single <code>SELECT .. WHERE column IN (..)</code> statement.
+     */
+    private final String batchedStatement(String sql, List<List<Object>> bindValues) {
+        Query query;
 
         try {
-            queries = parser.parse(sql);
-            normalised = normalisingRenderer.render(queries);
+            query = parser.parseQuery(sql);
         }
         catch (ParserException ignore) {
-            normalised = sql;
+            return null;
         }
 
+        if (!(query instanceof SelectQueryImpl))
+            return null;
+
+        SelectQueryImpl<?> select = (SelectQueryImpl<?>) query;
+        if (select.$with() != null
+                || !select.$groupBy().isEmpty()
+                || condition(select.$having()) != null
+                || !select.$window().isEmpty()
+                || condition(select.$qualify()) != null
+                || select.getLimit().isApplicable())
+            return null;
+
+        // Aggregate and window functions would be computed over all batched rows
+        for (SelectFieldOrAsterisk f : select.$select())
+            if (f.$traverse(false, b -> b, p -> true, (b, p) -> b || p instanceof AbstractWindowFunction))
+                return null;
+
+        Condition where = condition(select.$where());
+        if (!(where instanceof QOM.Eq))
+            return null;
+
+        QOM.Eq<?> eq = (QOM.Eq<?>) where;
+        Field<?> column =
+              bindValue(eq.$arg2()) && !bindValue(eq.$arg1())
+            ? eq.$arg1()
+            : bindValue(eq.$arg1()) && !bindValue(eq.$arg2())
+            ? eq.$arg2()
+            : null;
+
+        if (column == null)
+            return null;
+
+        Set<Object> values = new LinkedHashSet<>();
+        for (List<Object> b : bindValues)
+            if (b.size() == 1)
+                values.add(b.get(0));
+            else
+                return null;
+
+        DSLContext ctx = configuration.dsl();
+        return ctx.renderInlined(
+            (select.$distinct() ? ctx.selectDistinct(select.$select()) : ctx.select(select.$select()))
+                .from(select.$from())
+                .where(column.in(values))
+                .orderBy(select.$orderBy())
+        );
+    }
+
+    private static final Condition condition(Condition condition) {
+        if (condition instanceof ConditionProviderImpl)
+            condition = ((ConditionProviderImpl) condition).getWhere();
+
+        return condition instanceof NoCondition ? null : condition;
+    }
+
+    private static final boolean bindValue(Field<?> field) {
+        return field instanceof Param
+            || field instanceof QOM.Cast && ((QOM.Cast<?>) field).$field() instanceof Param;
+    }
+
+    private final void analyse(String sql) {
+        String normalised = normalise(sql);
+
         Set<String> duplicates;
-        synchronized (DUPLICATE_SQL) {
-            duplicates = duplicates(DUPLICATE_SQL, sql, normalised);
+        LRU<Set<String>> stripe = DUPLICATE_SQL[(normalised.hashCode() & Integer.MAX_VALUE) % DUP_STRIPES];
+        synchronized (stripe) {
+            duplicates = duplicates(stripe, sql, normalised);
         }
 
         if (duplicates != null)
             listeners.duplicateStatements(new DefaultDiagnosticsContext(sql, normalised, duplicates, null));
 
-        List<String> repetitions = repetitions(repeatedSQL, sql, normalised);
+        List<String> repetitions;
+        synchronized (repeatedSQL) {
+            repetitions = repetitions(repeatedSQL, sql, normalised);
+        }
 
         if (repetitions != null)
             listeners.repeatedStatements(new DefaultDiagnosticsContext(sql, normalised, null, repetitions));
+    }
 
-        return sql;
+    /**
+     * Normalise a SQL string, or look it up in the
+     * {@link CacheType#CACHE_DIAGNOSTICS_NORMALISATION}.
+     * <p>
+     * The cache's lock is not held while parsing, so concurrent callers may
+     * normalise the same SQL string more than once.
+     */
+    private final String normalise(String sql) {
+        Map<Object, Object> cache = Cache.cache(configuration, CACHE_DIAGNOSTICS_NORMALISATION);
+        String normalised = cache != null ? (String) cache.get(sql) : null;
+
+        if (normalised == null) {
+
+            // The renderer may be shared by the background analyser and the
+            // executing thread
+            synchronized (normalisingRenderer) {
+                try {
+                    normalised = normalisingRenderer.render(parser.parse(sql));
+                }
+                catch (ParserException ignore) {
+                    normalised = sql;
+                }
+            }
+
+            if (cache != null)
+                cache.put(sql, normalised);
+        }
+
+        return normalised;
     }
 
     private Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
@@ -205,6 +471,12 @@ final class DiagnosticsConnection extends DefaultConnection {
             return null;
     }
 
+    static final class Executions {
+        final List<String>       statements = new ArrayList<>();
+        final List<List<Object>> bindValues = new ArrayList<>();
+        int                      count;
+    }
+
     // See https://stackoverflow.com/a/1953516/521799
     static class LRU<V> extends LinkedHashMap<String, V> {
         private final int size;
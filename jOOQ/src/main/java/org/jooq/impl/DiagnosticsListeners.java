@@ -94,4 +94,10 @@ final class DiagnosticsListeners implements DiagnosticsListener {
         for (DiagnosticsListener listener : listeners)
             listener.repeatedStatements(ctx);
     }
+
+    @Override
+    public final void nPlusOneStatements(DiagnosticsContext ctx) {
+        for (DiagnosticsListener listener : listeners)
+            listener.nPlusOneStatements(ctx);
+    }
 }
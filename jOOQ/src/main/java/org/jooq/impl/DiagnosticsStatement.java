@@ -37,10 +37,18 @@
  */
 package org.jooq.impl;
 
+import static java.util.Collections.emptyList;
+
+import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jooq.tools.jdbc.DefaultCallableStatement;
 
@@ -50,76 +58,255 @@ import org.jooq.tools.jdbc.DefaultCallableStatement;
 final class DiagnosticsStatement extends DefaultCallableStatement {
 
     private final DiagnosticsConnection connection;
+    private final String                sql;
+    private Object[]                    bindValues;
+    private int                         bindValueCount;
 
     DiagnosticsStatement(DiagnosticsConnection connection, Statement statement) {
+        this(connection, statement, null);
+    }
+
+    DiagnosticsStatement(DiagnosticsConnection connection, Statement statement, String sql) {
         super(statement);
 
         this.connection = connection;
+        this.sql = sql;
+    }
+
+    private final String executing(String s) {
+        return connection.executing(connection.parse(s), emptyList());
+    }
+
+    private final void bind(int parameterIndex, Object x) {
+        if (!connection.nPlusOneDetection())
+            return;
+
+        if (bindValues == null)
+            bindValues = new Object[Math.max(8, parameterIndex)];
+        else if (bindValues.length < parameterIndex)
+            bindValues = Arrays.copyOf(bindValues, Math.max(bindValues.length * 2, parameterIndex));
+
+        bindValues[parameterIndex - 1] = x;
+        bindValueCount = Math.max(bindValueCount, parameterIndex);
+    }
+
+    private final List<Object> bindValues() {
+        return bindValueCount == 0 ? emptyList() : Arrays.asList(Arrays.copyOf(bindValues, bindValueCount));
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Prepared statement executions
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final ResultSet executeQuery() throws SQLException {
+        connection.executing(sql, bindValues());
+        return super.executeQuery();
+    }
+
+    @Override
+    public final int executeUpdate() throws SQLException {
+        connection.executing(sql, bindValues());
+        return super.executeUpdate();
+    }
+
+    @Override
+    public final boolean execute() throws SQLException {
+        connection.executing(sql, bindValues());
+        return super.execute();
     }
 
+    @Override
+    public final long executeLargeUpdate() throws SQLException {
+        connection.executing(sql, bindValues());
+        return super.executeLargeUpdate();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Bind values
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void clearParameters() throws SQLException {
+        super.clearParameters();
+        bindValueCount = 0;
+    }
+
+    @Override
+    public final void setNull(int parameterIndex, int sqlType) throws SQLException {
+        super.setNull(parameterIndex, sqlType);
+        bind(parameterIndex, null);
+    }
+
+    @Override
+    public final void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        super.setNull(parameterIndex, sqlType, typeName);
+        bind(parameterIndex, null);
+    }
+
+    @Override
+    public final void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        super.setBoolean(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setByte(int parameterIndex, byte x) throws SQLException {
+        super.setByte(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setShort(int parameterIndex, short x) throws SQLException {
+        super.setShort(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setInt(int parameterIndex, int x) throws SQLException {
+        super.setInt(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setLong(int parameterIndex, long x) throws SQLException {
+        super.setLong(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setFloat(int parameterIndex, float x) throws SQLException {
+        super.setFloat(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setDouble(int parameterIndex, double x) throws SQLException {
+        super.setDouble(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        super.setBigDecimal(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setString(int parameterIndex, String x) throws SQLException {
+        super.setString(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setNString(int parameterIndex, String x) throws SQLException {
+        super.setNString(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        super.setBytes(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setDate(int parameterIndex, Date x) throws SQLException {
+        super.setDate(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setTime(int parameterIndex, Time x) throws SQLException {
+        super.setTime(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        super.setTimestamp(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setObject(int parameterIndex, Object x) throws SQLException {
+        super.setObject(parameterIndex, x);
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public final void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        super.setObject(parameterIndex, x, targetSqlType);
+        bind(parameterIndex, x);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Static statement executions
+    // -------------------------------------------------------------------------
+
     @Override
     public final ResultSet executeQuery(String sql) throws SQLException {
-        return new DiagnosticsResultSet(super.executeQuery(connection.parse(sql)), sql, this, connection);
+        return new DiagnosticsResultSet(super.executeQuery(executing(sql)), sql, this, connection);
     }
 
     @Override
     public final int executeUpdate(String sql) throws SQLException {
-        return super.executeUpdate(connection.parse(sql));
+        return super.executeUpdate(executing(sql));
     }
 
     @Override
     public final int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-        return super.executeUpdate(connection.parse(sql), autoGeneratedKeys);
+        return super.executeUpdate(executing(sql), autoGeneratedKeys);
     }
 
     @Override
     public final int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
-        return super.executeUpdate(connection.parse(sql), columnIndexes);
+        return super.executeUpdate(executing(sql), columnIndexes);
     }
 
     @Override
     public final int executeUpdate(String sql, String[] columnNames) throws SQLException {
-        return super.executeUpdate(connection.parse(sql), columnNames);
+        return super.executeUpdate(executing(sql), columnNames);
     }
 
     @Override
     public final boolean execute(String sql) throws SQLException {
-        return super.execute(connection.parse(sql));
+        return super.execute(executing(sql));
     }
 
     @Override
     public final boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
-        return super.execute(connection.parse(sql), autoGeneratedKeys);
+        return super.execute(executing(sql), autoGeneratedKeys);
     }
 
     @Override
     public final boolean execute(String sql, int[] columnIndexes) throws SQLException {
-        return super.execute(connection.parse(sql), columnIndexes);
+        return super.execute(executing(sql), columnIndexes);
     }
 
     @Override
     public final boolean execute(String sql, String[] columnNames) throws SQLException {
-        return super.execute(connection.parse(sql), columnNames);
+        return super.execute(executing(sql), columnNames);
     }
 
     @Override
     public final long executeLargeUpdate(String sql) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql));
+        return super.executeLargeUpdate(executing(sql));
     }
 
     @Override
     public final long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql), autoGeneratedKeys);
+        return super.executeLargeUpdate(executing(sql), autoGeneratedKeys);
     }
 
     @Override
     public final long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql), columnIndexes);
+        return super.executeLargeUpdate(executing(sql), columnIndexes);
     }
 
     @Override
     public final long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
-        return super.executeLargeUpdate(connection.parse(sql), columnNames);
+        return super.executeLargeUpdate(executing(sql), columnNames);
     }
 
     @Override
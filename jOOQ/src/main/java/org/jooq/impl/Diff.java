@@ -39,6 +39,7 @@ package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
 import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
 // ...
 import static org.jooq.SQLDialect.IGNITE;
 import static org.jooq.SQLDialect.MARIADB;
@@ -64,8 +65,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jooq.AlterSequenceFlagsStep;
@@ -640,7 +643,7 @@ final class Diff {
         boolean dropMergeCreate
     ) {
         if (comp == null)
-            comp = NAMED_COMP;
+            comp = namedComp(l1, l2);
 
         N s1 = null;
         N s2 = null;
@@ -709,6 +712,22 @@ final class Diff {
         void merge(DiffResult result, N named1, N named2);
     }
 
+    /**
+     * An equivalent of {@link Comparators#NAMED_COMP}, which renders the
+     * qualified names of all objects only once, instead of once per
+     * comparison.
+     */
+    private static final <N extends Named> Comparator<N> namedComp(List<? extends N> l1, List<? extends N> l2) {
+        Map<N, String> keys = new IdentityHashMap<>(l1.size() + l2.size());
+
+        for (N n : l1)
+            keys.put(n, n.getQualifiedName().unquotedName().toString());
+        for (N n : l2)
+            keys.put(n, n.getQualifiedName().unquotedName().toString());
+
+        return comparing(keys::get);
+    }
+
     private static final <N extends Named> Iterator<N> sorted(List<N> list, Comparator<? super N> comp) {
         List<N> result = new ArrayList<>(list);
         result.sort(comp);
@@ -722,7 +741,10 @@ final class Diff {
 
         void addAll(DiffResult other) {
             queries.addAll(other.queries);
-            droppedFks.addAll(other.droppedFks);
+
+            // Intermediary results usually share the same set of dropped FKs
+            if (droppedFks != other.droppedFks)
+                droppedFks.addAll(other.droppedFks);
         }
 
         @Override
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Keywords.K_EXCLUDED;
+import static org.jooq.impl.Keywords.K_VALUES;
+
+import org.jooq.Context;
+import org.jooq.Field;
+import org.jooq.impl.QOM.UNotYetImplemented;
+
+/**
+ * A reference to the value proposed for insertion by an
+ * <code>INSERT .. ON DUPLICATE KEY UPDATE</code> statement, for use in its
+ * <code>UPDATE</code> clause.
+ *
+ * @author Lukas Eder
+ */
+final class Excluded<T> extends AbstractField<T> implements UNotYetImplemented {
+
+    private final Field<T> field;
+
+    Excluded(Field<T> field) {
+        super(field.getUnqualifiedName(), field.getDataType());
+
+        this.field = field;
+    }
+
+    @Override
+    public final void accept(Context<?> ctx) {
+        switch (ctx.family()) {
+            case POSTGRES:
+            case SQLITE:
+            case YUGABYTE:
+                ctx.visit(K_EXCLUDED).sql('.').qualify(false, c -> c.visit(field));
+                break;
+
+            // The MERGE emulation in InsertQueryImpl aliases its USING clause "t"
+            case FIREBIRD:
+            case H2:
+            case HSQLDB:
+                ctx.visit(name("t").append(field.getUnqualifiedName()));
+                break;
+
+            default:
+                ctx.visit(K_VALUES).sql('(').qualify(false, c -> c.visit(field)).sql(')');
+                break;
+        }
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Double.NaN;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jooq.ExplainNode;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.ParseException;
+
+/**
+ * Parsers that turn dialect specific <code>EXPLAIN</code> output into a tree
+ * of {@link ExplainNode}.
+ * <p>
+ * The parsers work on the plain text or rows returned by the database, so
+ * they can be used with captured plans as well. They never fail, but produce
+ * a root node without children if the plan cannot be parsed.
+ *
+ * @author Lukas Eder
+ */
+final class ExplainParser {
+
+    private static final JooqLogger log                 = JooqLogger.getLogger(ExplainParser.class);
+    static final String             ROOT                = "PLAN";
+
+    private static final Pattern    H2_TABLE            = Pattern.compile("^(FROM|(?:(?:LEFT|RIGHT|FULL)\\s+(?:OUTER\\s+)?|INNER\\s+|CROSS\\s+|NATURAL\\s+)?JOIN)\\s+(\\(|(?:\"[^\"]*\"|[\\w$]+)(?:\\.(?:\"[^\"]*\"|[\\w$]+))*)");
+    private static final Pattern    H2_COMMENT          = Pattern.compile("^/\\*\\s*([^\\s:*]+?)(?::.*|\\s*\\*/)?$");
+    private static final Pattern    H2_SCAN_COUNT       = Pattern.compile("^/\\*\\s*scanCount:\\s*(\\d+)\\s*\\*/$");
+    private static final Pattern    HSQLDB_PROPERTY     = Pattern.compile("^\\s*(join type|table|cardinality|access)=(.*)$");
+    private static final Pattern    HSQLDB_INDEX        = Pattern.compile("\\bindex=(\\S+)");
+    private static final Pattern    POSTGRES_NODE       = Pattern.compile("^(\\s*(?:->\\s+)?)(.+?)\\s+\\(cost=(\\d+(?:\\.\\d+)?)\\.\\.(\\d+(?:\\.\\d+)?)\\s+rows=(\\d+)\\s+width=\\d+\\)");
+    private static final Pattern    POSTGRES_USING      = Pattern.compile("^(.+?) using (\\S+) on (\\S+)(?: \\S+)?$");
+    private static final Pattern    POSTGRES_ON         = Pattern.compile("^(.+?) on (\\S+)(?: \\S+)?$");
+    private static final Pattern    SQLITE_DETAIL       = Pattern.compile("^(SCAN|SEARCH)\\s+(?:TABLE\\s+|SUBQUERY\\s+)?(\\S+)(?:\\s+AS\\s+\\S+)?(?:\\s+USING\\s+(?:COVERING\\s+|AUTOMATIC\\s+(?:PARTIAL\\s+)?COVERING\\s+)?INDEX\\s+(\\S+)|\\s+USING\\s+((?:INTEGER\\s+)?PRIMARY\\s+KEY))?");
+
+    /**
+     * Parse H2's <code>EXPLAIN [ ANALYZE ]</code> output.
+     * <p>
+     * H2 renders the optimised query, with comments describing the access
+     * method (<code>tableScan</code> or an index) of each table in the
+     * <code>FROM</code> clause, and with <code>EXPLAIN ANALYZE</code>, the
+     * number of scanned rows. Only the top level tables are reported, i.e.
+     * the ones rendered without indentation. Subqueries and their comments
+     * are indented.
+     */
+    static final ExplainNode h2(String plan) {
+        Node root = new Node(ROOT);
+
+        try {
+            Node current = null;
+            int commentIndent = -1;
+
+            for (String line : lines(plan)) {
+                String l = line.trim();
+                int indent = line.indexOf(l);
+                Matcher m;
+
+                // A derived table's comments follow its closing parenthesis
+                if (indent == 0 && !l.startsWith(")")) {
+                    current = null;
+
+                    if ((m = H2_TABLE.matcher(l)).find()) {
+                        current = new Node(m.group(1).replaceAll("\\s+", " "));
+                        commentIndent = -1;
+
+                        if (!"(".equals(m.group(2)))
+                            current.table = unquote(m.group(2));
+
+                        root.children.add(current);
+                    }
+                }
+
+                // Comments of nested subqueries are indented further than the table's own comments
+                else if (current != null && l.startsWith("/*") && (commentIndent == -1 || commentIndent == indent)) {
+                    commentIndent = indent;
+
+                    if ((m = H2_SCAN_COUNT.matcher(l)).find()) {
+                        current.rows = Double.parseDouble(m.group(1));
+                    }
+                    else if ((m = H2_COMMENT.matcher(l)).find()) {
+                        String[] parts = unquote(m.group(1)).split("\\.");
+
+                        if (parts.length > 1 && "tableScan".equals(parts[parts.length - 1]))
+                            current.fullScan = true;
+                        else if (parts.length == 2 && current.index == null && !current.fullScan)
+                            current.index = parts[1];
+                    }
+                }
+            }
+        }
+        catch (RuntimeException e) {
+            return unparseable(e);
+        }
+
+        return root;
+    }
+
+    /**
+     * Parse HSQLDB's <code>EXPLAIN PLAN FOR</code> output.
+     * <p>
+     * HSQLDB lists a <code>range variable</code> per table, with its table,
+     * cardinality, access method, and index.
+     */
+    static final ExplainNode hsqldb(String plan) {
+        Node root = new Node(ROOT);
+
+        try {
+            Node current = null;
+
+            for (String line : lines(plan)) {
+                Matcher m;
+
+                if (line.contains("range variable")) {
+                    current = new Node("RANGE");
+                    root.children.add(current);
+                }
+                else if (current != null && (m = HSQLDB_PROPERTY.matcher(line)).find()) {
+                    String value = m.group(2).trim();
+
+                    switch (m.group(1)) {
+                        case "table":
+                            current.table = value;
+                            break;
+
+                        case "cardinality":
+                            current.rows = Double.parseDouble(value);
+                            break;
+
+                        case "access":
+                            current.operation = value;
+                            current.fullScan = value.startsWith("FULL SCAN");
+                            break;
+                    }
+                }
+                else if (current != null && !current.fullScan && current.index == null && (m = HSQLDB_INDEX.matcher(line)).find()) {
+                    current.index = m.group(1);
+                }
+            }
+        }
+        catch (RuntimeException e) {
+            return unparseable(e);
+        }
+
+        return root;
+    }
+
+    /**
+     * Parse PostgreSQL's <code>EXPLAIN</code> output, in either the default
+     * text format, or in <code>FORMAT JSON</code>.
+     */
+    static final ExplainNode postgres(String plan) {
+        try {
+            return plan.trim().startsWith("[") ? postgresJSON(plan) : postgresText(plan);
+        }
+        catch (RuntimeException | ParseException e) {
+            return unparseable(e);
+        }
+    }
+
+    private static final ExplainNode postgresText(String plan) {
+        Node root = null;
+        Deque<Node> stack = new ArrayDeque<>();
+        Deque<Integer> indents = new ArrayDeque<>();
+
+        for (String line : lines(plan)) {
+            Matcher m = POSTGRES_NODE.matcher(line);
+
+            if (!m.find())
+                continue;
+
+            Node node = new Node(m.group(2));
+            node.cost = Double.parseDouble(m.group(4));
+            node.rows = Double.parseDouble(m.group(5));
+            postgresOperation(node);
+
+            int indent = m.group(1).length();
+            while (!indents.isEmpty() && indents.peek() >= indent) {
+                indents.pop();
+                stack.pop();
+            }
+
+            if (stack.isEmpty()) {
+                if (root != null)
+                    break;
+
+                root = node;
+            }
+            else
+                stack.peek().children.add(node);
+
+            stack.push(node);
+            indents.push(indent);
+        }
+
+        return root != null ? root : new Node(ROOT);
+    }
+
+    private static final void postgresOperation(Node node) {
+        Matcher m;
+
+        if ((m = POSTGRES_USING.matcher(node.operation)).find()) {
+            node.operation = m.group(1);
+            node.index = m.group(2);
+            node.table = m.group(3);
+        }
+        else if ((m = POSTGRES_ON.matcher(node.operation)).find()) {
+            node.operation = m.group(1);
+
+            // Bitmap index scans report the index, not the table
+            if (node.operation.contains("Index Scan"))
+                node.index = m.group(2);
+            else
+                node.table = m.group(2);
+        }
+
+        node.fullScan = node.operation.endsWith("Seq Scan");
+    }
+
+    private static final ExplainNode postgresJSON(String plan) throws ParseException {
+        Object json = new JSONParser().parse(plan);
+
+        if (json instanceof List && !((List<?>) json).isEmpty() && ((List<?>) json).get(0) instanceof Map)
+            return postgresJSON((Map<?, ?>) ((Map<?, ?>) ((List<?>) json).get(0)).get("Plan"));
+        else
+            return new Node(ROOT);
+    }
+
+    private static final Node postgresJSON(Map<?, ?> plan) {
+        Node node = new Node(String.valueOf(plan.get("Node Type")));
+        node.table = (String) plan.get("Relation Name");
+        node.index = (String) plan.get("Index Name");
+        node.rows = number(plan.get("Plan Rows"));
+        node.cost = number(plan.get("Total Cost"));
+        node.fullScan = node.operation.endsWith("Seq Scan");
+
+        Object children = plan.get("Plans");
+        if (children instanceof List)
+            for (Object child : (List<?>) children)
+                if (child instanceof Map)
+                    node.children.add(postgresJSON((Map<?, ?>) child));
+
+        return node;
+    }
+
+    /**
+     * Parse MySQL's and MariaDB's tabular <code>EXPLAIN</code> output, given
+     * as a list of rows, each one a map from column name to value.
+     */
+    static final ExplainNode mysql(List<? extends Map<String, ?>> rows) {
+        Node root = new Node(ROOT);
+
+        try {
+            for (Map<String, ?> row : rows) {
+                Object type = row.get("type");
+                Node node = new Node(type == null ? "NULL" : type.toString());
+
+                node.table = string(row.get("table"));
+                node.index = string(row.get("key"));
+                node.rows = number(row.get("rows"));
+                node.fullScan = "ALL".equals(node.operation);
+                root.children.add(node);
+            }
+        }
+        catch (RuntimeException e) {
+            return unparseable(e);
+        }
+
+        return root;
+    }
+
+    /**
+     * Parse SQLite's <code>EXPLAIN QUERY PLAN</code> output, given as a list
+     * of rows, each one a map from column name to value.
+     * <p>
+     * SQLite 3.24 and later produce a tree using <code>id</code> and
+     * <code>parent</code> columns. Older versions produce a flat list with
+     * <code>selectid</code>, <code>order</code>, and <code>from</code>
+     * columns instead.
+     */
+    static final ExplainNode sqlite(List<? extends Map<String, ?>> rows) {
+        Node root = new Node(ROOT);
+
+        try {
+            Map<Object, Node> nodes = new LinkedHashMap<>();
+
+            for (Map<String, ?> row : rows) {
+                String detail = string(row.get("detail"));
+                Node node = new Node(detail == null ? "" : detail);
+                Matcher m;
+
+                if (detail != null && (m = SQLITE_DETAIL.matcher(detail)).find()) {
+                    node.operation = m.group(1);
+                    node.table = m.group(2);
+                    node.index = m.group(3) != null ? m.group(3) : m.group(4);
+                    node.fullScan = "SCAN".equals(node.operation) && node.index == null;
+                }
+
+                String id = string(row.get("id"));
+                String parentId = string(row.get("parent"));
+
+                if (id != null)
+                    nodes.put(id, node);
+
+                Node parent = parentId != null ? nodes.get(parentId) : null;
+                (parent != null ? parent : root).children.add(node);
+            }
+        }
+        catch (RuntimeException e) {
+            return unparseable(e);
+        }
+
+        return root;
+    }
+
+    private static final List<String> lines(String plan) {
+        List<String> result = new ArrayList<>();
+
+        for (String line : plan.split("\\r?\\n"))
+            result.add(line);
+
+        return result;
+    }
+
+    private static final String unquote(String name) {
+        return name.replace("\"", "");
+    }
+
+    private static final String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static final double number(Object value) {
+        if (value instanceof Number)
+            return ((Number) value).doubleValue();
+        else if (value != null)
+            return Double.parseDouble(value.toString());
+        else
+            return NaN;
+    }
+
+    private static final ExplainNode unparseable(Exception e) {
+        log.debug("Could not parse plan", e);
+        return new Node(ROOT);
+    }
+
+    /**
+     * A mutable {@link ExplainNode}, which is populated by the parsers.
+     */
+    static final class Node implements ExplainNode {
+
+        String                  operation;
+        String                  table;
+        String                  index;
+        boolean                 fullScan;
+        double                  rows     = NaN;
+        double                  cost     = NaN;
+        final List<ExplainNode> children = new ArrayList<>();
+
+        Node(String operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public final String operation() {
+            return operation;
+        }
+
+        @Override
+        public final String table() {
+            return table;
+        }
+
+        @Override
+        public final String index() {
+            return index;
+        }
+
+        @Override
+        public final boolean fullScan() {
+            return fullScan;
+        }
+
+        @Override
+        public final double rows() {
+            return rows;
+        }
+
+        @Override
+        public final double cost() {
+            return cost;
+        }
+
+        @Override
+        public final List<ExplainNode> children() {
+            return Collections.unmodifiableList(children);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            toString(sb, 0);
+            return sb.toString();
+        }
+
+        private final void toString(StringBuilder sb, int indent) {
+            for (int i = 0; i < indent; i++)
+                sb.append("  ");
+
+            sb.append(operation);
+
+            if (table != null)
+                sb.append(" table=").append(table);
+            if (index != null)
+                sb.append(" index=").append(index);
+            if (fullScan)
+                sb.append(" (full scan)");
+            if (!Double.isNaN(rows))
+                sb.append(" rows=").append(rows);
+            if (!Double.isNaN(cost))
+                sb.append(" cost=").append(cost);
+
+            for (ExplainNode child : children) {
+                sb.append('\n');
+                ((Node) child).toString(sb, indent + 1);
+            }
+        }
+    }
+}
@@ -46,6 +46,7 @@ import java.util.regex.Pattern;
 
 import org.jooq.DSLContext;
 import org.jooq.Explain;
+import org.jooq.ExplainNode;
 import org.jooq.Field;
 import org.jooq.Query;
 import org.jooq.Record;
@@ -96,6 +97,11 @@ final class ExplainQuery {
                             .fetch("{explain plan for} {0}", query);
                 break;
 
+            // SQLite's EXPLAIN produces the virtual machine's byte code, not the plan
+            case SQLITE:
+                result = ctx.fetch("{explain query plan} {0}", query);
+                break;
+
             default:
                 result = ctx.fetch("{explain} {0}", query);
                 break;
@@ -155,11 +161,49 @@ final class ExplainQuery {
             }
         }
 
-        return new ExplainImpl(rows, cost, result.format());
+        ExplainNode root = root(ctx, result);
+        if (root instanceof ExplainParser.Node && ExplainParser.ROOT.equals(root.operation())) {
+            ((ExplainParser.Node) root).rows = rows;
+            ((ExplainParser.Node) root).cost = cost;
+        }
+
+        return new ExplainImpl(rows, cost, result.format(), root);
     }
 
-    private static final /* record */ class ExplainImpl implements Explain { private final double rows; private final double cost; private final String plan; public ExplainImpl(double rows, double cost, String plan) { this.rows = rows; this.cost = cost; this.plan = plan; } public double rows() { return rows; } public double cost() { return cost; } public String plan() { return plan; } @Override public boolean equals(Object o) { if (!(o instanceof ExplainImpl)) return false; ExplainImpl other = (ExplainImpl) o; if (!java.util.Objects.equals(this.rows, other.rows)) return false; if (!java.util.Objects.equals(this.cost, other.cost)) return false; if (!java.util.Objects.equals(this.plan, other.plan)) return false; return true; } @Override public int hashCode() { return java.util.Objects.hash(this.rows, this.cost, this.plan); }
+    private static final ExplainNode root(DSLContext ctx, Result<Record> result) {
+        switch (ctx.family()) {
+            case H2:
+                return ExplainParser.h2(lines(result));
+
+            case HSQLDB:
+                return ExplainParser.hsqldb(lines(result));
+
+            case MARIADB:
+            case MYSQL:
+                return ExplainParser.mysql(result.intoMaps());
+
+            case POSTGRES:
+            case YUGABYTE:
+                return ExplainParser.postgres(lines(result));
+
+            case SQLITE:
+                return ExplainParser.sqlite(result.intoMaps());
+
+            default:
+                return new ExplainParser.Node(ExplainParser.ROOT);
+        }
+    }
+
+    private static final String lines(Result<Record> result) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Record record : result)
+            sb.append(record.get(0, String.class)).append('\n');
+
+        return sb.toString();
+    }
 
+    private static final /* record */ class ExplainImpl implements Explain { private final double rows; private final double cost; private final String plan; private final ExplainNode root; public ExplainImpl(double rows, double cost, String plan, ExplainNode root) { this.rows = rows; this.cost = cost; this.plan = plan; this.root = root; } public double rows() { return rows; } public double cost() { return cost; } public String plan() { return plan; } public ExplainNode root() { return root; } @Override public boolean equals(Object o) { if (!(o instanceof ExplainImpl)) return false; ExplainImpl other = (ExplainImpl) o; if (!java.util.Objects.equals(this.rows, other.rows)) return false; if (!java.util.Objects.equals(this.cost, other.cost)) return false; if (!java.util.Objects.equals(this.plan, other.plan)) return false; return true; } @Override public int hashCode() { return java.util.Objects.hash(this.rows, this.cost, this.plan); }
         @Override
         public String toString() {
             return String.format("Explain [cost=%.2f, rows=%.2f]nn", cost, rows) + plan;
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.SQLDialect.DERBY;
+import static org.jooq.SQLDialect.HSQLDB;
+import static org.jooq.SQLDialect.IGNITE;
+import static org.jooq.impl.DSL.asterisk;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.resultQuery;
+import static org.jooq.impl.DSL.select;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Page;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+
+/**
+ * The implementation of {@link DSLContext#fetchPage(Select)}.
+ *
+ * @author Lukas Eder
+ */
+final class FetchPage {
+
+    private static final Set<SQLDialect> NO_SUPPORT_WINDOW_COUNT = SQLDialect.supportedBy(DERBY, HSQLDB, IGNITE);
+
+    @SuppressWarnings("unchecked")
+    static final <R extends Record> Page<R> fetch(DSLContext ctx, Select<R> query) {
+        SelectQueryImpl<R> s = Tools.selectQueryImpl(query);
+
+        if (s == null || s.hasUnions())
+            return new PageImpl<>(ctx.fetch(query), ctx.fetchCount(countQuery(query)));
+
+        if (!s.getLimit().isApplicable()) {
+            Result<R> result = ctx.fetch(query);
+            return new PageImpl<>(result, result.size());
+        }
+
+        Field<Integer> total;
+
+        // COUNT(*) OVER () would count the rows before DISTINCT is applied
+        if (s.hasDistinct() || NO_SUPPORT_WINDOW_COUNT.contains(ctx.dialect()))
+            total = field(select(count()).from(new AliasedSelect<>(countQuery(query), true, true).as("t"))).as("total");
+        else
+            total = count().over().as("total");
+
+        SelectFieldList<SelectFieldOrAsterisk> select = new SelectFieldList<>();
+        select.addAll(s.getSelectResolveImplicitAsterisks());
+        boolean unknown = select.isEmpty();
+
+        if (unknown)
+            select.add(asterisk());
+
+        select.add(total);
+        Select<Record> page = (Select<Record>) s.$select(select);
+
+        // Projections of unknown tables are known only from the ResultSet
+        Result<Record> result = unknown
+            ? ctx.fetch(resultQuery("{0}", page))
+            : ctx.fetch(page);
+
+        return new PageImpl<>(
+            strip(ctx.configuration(), s, result),
+
+            // An empty page beyond the last one cannot report the total
+            !result.isEmpty()
+          ? result.get(0).get(result.fields().length - 1, int.class)
+          : s.getLimit().offsetZero()
+          ? 0
+          : ctx.fetchCount(countQuery(query))
+        );
+    }
+
+    /**
+     * The query without its <code>LIMIT .. OFFSET</code> clause.
+     */
+    private static final Select<?> countQuery(Select<?> query) {
+        SelectQueryImpl<?> s = Tools.selectQueryImpl(query);
+
+        if (s == null || !s.getLimit().isApplicable())
+            return query;
+
+        s = s.$select(new SelectFieldList<>(s.$select()));
+        s.getLimit().clear();
+        return s;
+    }
+
+    /**
+     * Remove the trailing total column from the fetched records.
+     */
+    @SuppressWarnings("unchecked")
+    private static final <R extends Record> Result<R> strip(Configuration configuration, SelectQueryImpl<R> s, Result<Record> result) {
+        Field<?>[] fields = Arrays.copyOf(result.fields(), result.fields().length - 1);
+        AbstractRow<R> row = (AbstractRow<R>) Tools.row0(fields);
+        ResultImpl<R> stripped = new ResultImpl<>(configuration, row);
+
+        for (Record record : result) {
+            AbstractRecord source = (AbstractRecord) record;
+
+            stripped.add(Tools.newRecord(true, s.getRecordType(), row, configuration).operate(target -> {
+                AbstractRecord t = (AbstractRecord) target;
+
+                for (int i = 0; i < fields.length; i++) {
+                    t.values[i] = source.values[i];
+                    t.originals[i] = source.originals[i];
+                }
+
+                return target;
+            }));
+        }
+
+        return stripped;
+    }
+
+    private static final /* record */ class PageImpl<R extends Record> implements Page<R> { private final Result<R> result; private final int totalCount; public PageImpl(Result<R> result, int totalCount) { this.result = result; this.totalCount = totalCount; } public Result<R> result() { return result; } public int totalCount() { return totalCount; } @Override public boolean equals(Object o) { if (!(o instanceof PageImpl)) return false; PageImpl<?> other = (PageImpl<?>) o; if (!java.util.Objects.equals(this.result, other.result)) return false; if (!java.util.Objects.equals(this.totalCount, other.totalCount)) return false; return true; } @Override public int hashCode() { return java.util.Objects.hash(this.result, this.totalCount); }
+        @Override
+        public String toString() {
+            return "Page [totalCount=" + totalCount + "]\n" + result;
+        }
+    }
+}
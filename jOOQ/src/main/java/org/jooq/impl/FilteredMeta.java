@@ -106,6 +106,12 @@ final class FilteredMeta extends AbstractMeta {
         this.indexFilter = indexFilter;
     }
 
+    @Override
+    public final void invalidate() {
+        super.invalidate();
+        meta.invalidate();
+    }
+
     @Override
     final List<Catalog> getCatalogs0() {
         List<Catalog> result = new ArrayList<>();
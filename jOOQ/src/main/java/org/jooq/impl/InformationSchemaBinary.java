@@ -0,0 +1,731 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.exception.IOException;
+import org.jooq.util.xml.jaxb.Catalog;
+import org.jooq.util.xml.jaxb.CheckConstraint;
+import org.jooq.util.xml.jaxb.Column;
+import org.jooq.util.xml.jaxb.Domain;
+import org.jooq.util.xml.jaxb.DomainConstraint;
+import org.jooq.util.xml.jaxb.ElementType;
+import org.jooq.util.xml.jaxb.Index;
+import org.jooq.util.xml.jaxb.IndexColumnUsage;
+import org.jooq.util.xml.jaxb.InformationSchema;
+import org.jooq.util.xml.jaxb.KeyColumnUsage;
+import org.jooq.util.xml.jaxb.Parameter;
+import org.jooq.util.xml.jaxb.ParameterMode;
+import org.jooq.util.xml.jaxb.ReferentialConstraint;
+import org.jooq.util.xml.jaxb.Routine;
+import org.jooq.util.xml.jaxb.RoutineType;
+import org.jooq.util.xml.jaxb.Schema;
+import org.jooq.util.xml.jaxb.Sequence;
+import org.jooq.util.xml.jaxb.Table;
+import org.jooq.util.xml.jaxb.TableConstraint;
+import org.jooq.util.xml.jaxb.TableConstraintType;
+import org.jooq.util.xml.jaxb.TableType;
+import org.jooq.util.xml.jaxb.View;
+
+/**
+ * A compact binary serialisation format for {@link InformationSchema}.
+ * <p>
+ * The format consists of a header followed by all the
+ * {@link InformationSchema} lists, each prefixed by its size. Strings are
+ * written only once. Repeated occurrences of the same string (e.g. catalog,
+ * schema, and table names) are written as references to the first
+ * occurrence, such that they share the same {@link String} instance after
+ * loading. Everything is read in a single pass, without any intermediary
+ * representation.
+ *
+ * @author Lukas Eder
+ */
+final class InformationSchemaBinary {
+
+    private static final byte[] MAGIC   = { 'j', 'O', 'O', 'Q', 'M' };
+    private static final int    VERSION = 1;
+
+    static final void write(InformationSchema schema, OutputStream stream) throws IOException {
+        try {
+            Writer w = new Writer(stream);
+
+            w.out.write(MAGIC);
+            w.out.writeByte(VERSION);
+
+            w.list(schema.getCatalogs(), c -> {
+                w.string(c.getCatalogName());
+                w.string(c.getComment());
+            });
+
+            w.list(schema.getSchemata(), s -> {
+                w.string(s.getCatalogName());
+                w.string(s.getSchemaName());
+                w.string(s.getComment());
+            });
+
+            w.list(schema.getSequences(), s -> {
+                w.string(s.getSequenceCatalog());
+                w.string(s.getSequenceSchema());
+                w.string(s.getSequenceName());
+                w.string(s.getDataType());
+                w.integer(s.getCharacterMaximumLength());
+                w.integer(s.getNumericPrecision());
+                w.integer(s.getNumericScale());
+                w.bigInteger(s.getStartValue());
+                w.bigInteger(s.getIncrement());
+                w.bigInteger(s.getMinimumValue());
+                w.bigInteger(s.getMaximumValue());
+                w.bool(s.isCycleOption());
+                w.bigInteger(s.getCache());
+                w.string(s.getComment());
+            });
+
+            w.list(schema.getTables(), t -> {
+                w.string(t.getTableCatalog());
+                w.string(t.getTableSchema());
+                w.string(t.getTableName());
+                w.enumeration(t.getTableType());
+                w.string(t.getComment());
+            });
+
+            w.list(schema.getViews(), v -> {
+                w.string(v.getTableCatalog());
+                w.string(v.getTableSchema());
+                w.string(v.getTableName());
+                w.string(v.getViewDefinition());
+            });
+
+            w.list(schema.getColumns(), c -> {
+                w.string(c.getTableCatalog());
+                w.string(c.getTableSchema());
+                w.string(c.getTableName());
+                w.string(c.getColumnName());
+                w.string(c.getDataType());
+                w.integer(c.getCharacterMaximumLength());
+                w.integer(c.getNumericPrecision());
+                w.integer(c.getNumericScale());
+                w.string(c.getDomainCatalog());
+                w.string(c.getDomainSchema());
+                w.string(c.getDomainName());
+                w.string(c.getUdtCatalog());
+                w.string(c.getUdtSchema());
+                w.string(c.getUdtName());
+                w.integer(c.getOrdinalPosition());
+                w.string(c.getIdentityGeneration());
+                w.bool(c.isIsNullable());
+                w.string(c.getColumnDefault());
+                w.string(c.getComment());
+                w.bool(c.isReadonly());
+            });
+
+            w.list(schema.getTableConstraints(), c -> {
+                w.string(c.getConstraintCatalog());
+                w.string(c.getConstraintSchema());
+                w.string(c.getConstraintName());
+                w.enumeration(c.getConstraintType());
+                w.string(c.getTableCatalog());
+                w.string(c.getTableSchema());
+                w.string(c.getTableName());
+                w.string(c.getComment());
+                w.bool(c.isEnforced());
+            });
+
+            w.list(schema.getKeyColumnUsages(), u -> {
+                w.string(u.getColumnName());
+                w.string(u.getConstraintCatalog());
+                w.string(u.getConstraintSchema());
+                w.string(u.getConstraintName());
+                w.integer(u.getOrdinalPosition());
+                w.string(u.getTableCatalog());
+                w.string(u.getTableSchema());
+                w.string(u.getTableName());
+            });
+
+            w.list(schema.getReferentialConstraints(), c -> {
+                w.string(c.getConstraintCatalog());
+                w.string(c.getConstraintSchema());
+                w.string(c.getConstraintName());
+                w.string(c.getUniqueConstraintCatalog());
+                w.string(c.getUniqueConstraintSchema());
+                w.string(c.getUniqueConstraintName());
+            });
+
+            w.list(schema.getCheckConstraints(), c -> {
+                w.string(c.getConstraintCatalog());
+                w.string(c.getConstraintSchema());
+                w.string(c.getConstraintName());
+                w.string(c.getCheckClause());
+            });
+
+            w.list(schema.getDomains(), d -> {
+                w.string(d.getDomainCatalog());
+                w.string(d.getDomainSchema());
+                w.string(d.getDomainName());
+                w.string(d.getDataType());
+                w.integer(d.getCharacterMaximumLength());
+                w.integer(d.getNumericPrecision());
+                w.integer(d.getNumericScale());
+                w.string(d.getDomainDefault());
+            });
+
+            w.list(schema.getDomainConstraints(), c -> {
+                w.string(c.getConstraintCatalog());
+                w.string(c.getConstraintSchema());
+                w.string(c.getConstraintName());
+                w.string(c.getDomainCatalog());
+                w.string(c.getDomainSchema());
+                w.string(c.getDomainName());
+            });
+
+            w.list(schema.getIndexes(), i -> {
+                w.string(i.getIndexCatalog());
+                w.string(i.getIndexSchema());
+                w.string(i.getIndexName());
+                w.string(i.getTableCatalog());
+                w.string(i.getTableSchema());
+                w.string(i.getTableName());
+                w.bool(i.isIsUnique());
+                w.string(i.getComment());
+            });
+
+            w.list(schema.getIndexColumnUsages(), u -> {
+                w.string(u.getIndexCatalog());
+                w.string(u.getIndexSchema());
+                w.string(u.getIndexName());
+                w.string(u.getTableCatalog());
+                w.string(u.getTableSchema());
+                w.string(u.getTableName());
+                w.string(u.getColumnName());
+                w.integer(u.getOrdinalPosition());
+                w.bool(u.isIsDescending());
+            });
+
+            w.list(schema.getRoutines(), r -> {
+                w.string(r.getSpecificCatalog());
+                w.string(r.getSpecificSchema());
+                w.string(r.getSpecificPackage());
+                w.string(r.getSpecificName());
+                w.string(r.getRoutineCatalog());
+                w.string(r.getRoutineSchema());
+                w.string(r.getRoutinePackage());
+                w.string(r.getRoutineName());
+                w.enumeration(r.getRoutineType());
+                w.string(r.getDataType());
+                w.integer(r.getCharacterMaximumLength());
+                w.integer(r.getNumericPrecision());
+                w.integer(r.getNumericScale());
+                w.string(r.getUdtCatalog());
+                w.string(r.getUdtSchema());
+                w.string(r.getUdtName());
+                w.string(r.getComment());
+            });
+
+            w.list(schema.getParameters(), p -> {
+                w.string(p.getSpecificCatalog());
+                w.string(p.getSpecificSchema());
+                w.string(p.getSpecificPackage());
+                w.string(p.getSpecificName());
+                w.integer(p.getOrdinalPosition());
+                w.enumeration(p.getParameterMode());
+                w.string(p.getParameterName());
+                w.string(p.getDataType());
+                w.integer(p.getCharacterMaximumLength());
+                w.integer(p.getNumericPrecision());
+                w.integer(p.getNumericScale());
+                w.string(p.getUdtCatalog());
+                w.string(p.getUdtSchema());
+                w.string(p.getUdtName());
+                w.string(p.getParameterDefault());
+                w.string(p.getComment());
+            });
+
+            w.list(schema.getElementTypes(), e -> {
+                w.string(e.getObjectCatalog());
+                w.string(e.getObjectSchema());
+                w.string(e.getObjectName());
+                w.string(e.getObjectType());
+                w.string(e.getDataType());
+                w.integer(e.getCharacterMaximumLength());
+                w.integer(e.getNumericPrecision());
+                w.integer(e.getNumericScale());
+                w.string(e.getUdtCatalog());
+                w.string(e.getUdtSchema());
+                w.string(e.getUdtName());
+            });
+
+            w.out.flush();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Cannot write binary meta data", e);
+        }
+    }
+
+    static final InformationSchema read(InputStream stream) throws IOException {
+        try {
+            Reader r = new Reader(stream);
+            InformationSchema result = new InformationSchema();
+
+            byte[] magic = new byte[MAGIC.length];
+            r.in.readFully(magic);
+
+            for (int i = 0; i < MAGIC.length; i++)
+                if (magic[i] != MAGIC[i])
+                    throw new java.io.IOException("Content is not in the binary meta data format");
+
+            int version = r.in.readUnsignedByte();
+            if (version != VERSION)
+                throw new java.io.IOException("Unsupported binary meta data format version: " + version);
+
+            r.list(result.getCatalogs(), () -> {
+                Catalog c = new Catalog();
+                c.setCatalogName(r.string());
+                c.setComment(r.string());
+                return c;
+            });
+
+            r.list(result.getSchemata(), () -> {
+                Schema s = new Schema();
+                s.setCatalogName(r.string());
+                s.setSchemaName(r.string());
+                s.setComment(r.string());
+                return s;
+            });
+
+            r.list(result.getSequences(), () -> {
+                Sequence s = new Sequence();
+                s.setSequenceCatalog(r.string());
+                s.setSequenceSchema(r.string());
+                s.setSequenceName(r.string());
+                s.setDataType(r.string());
+                s.setCharacterMaximumLength(r.integer());
+                s.setNumericPrecision(r.integer());
+                s.setNumericScale(r.integer());
+                s.setStartValue(r.bigInteger());
+                s.setIncrement(r.bigInteger());
+                s.setMinimumValue(r.bigInteger());
+                s.setMaximumValue(r.bigInteger());
+                s.setCycleOption(r.bool());
+                s.setCache(r.bigInteger());
+                s.setComment(r.string());
+                return s;
+            });
+
+            r.list(result.getTables(), () -> {
+                Table t = new Table();
+                t.setTableCatalog(r.string());
+                t.setTableSchema(r.string());
+                t.setTableName(r.string());
+                t.setTableType(r.enumeration(TableType.class));
+                t.setComment(r.string());
+                return t;
+            });
+
+            r.list(result.getViews(), () -> {
+                View v = new View();
+                v.setTableCatalog(r.string());
+                v.setTableSchema(r.string());
+                v.setTableName(r.string());
+                v.setViewDefinition(r.string());
+                return v;
+            });
+
+            r.list(result.getColumns(), () -> {
+                Column c = new Column();
+                c.setTableCatalog(r.string());
+                c.setTableSchema(r.string());
+                c.setTableName(r.string());
+                c.setColumnName(r.string());
+                c.setDataType(r.string());
+                c.setCharacterMaximumLength(r.integer());
+                c.setNumericPrecision(r.integer());
+                c.setNumericScale(r.integer());
+                c.setDomainCatalog(r.string());
+                c.setDomainSchema(r.string());
+                c.setDomainName(r.string());
+                c.setUdtCatalog(r.string());
+                c.setUdtSchema(r.string());
+                c.setUdtName(r.string());
+                c.setOrdinalPosition(r.integer());
+                c.setIdentityGeneration(r.string());
+                c.setIsNullable(r.bool());
+                c.setColumnDefault(r.string());
+                c.setComment(r.string());
+                c.setReadonly(r.bool());
+                return c;
+            });
+
+            r.list(result.getTableConstraints(), () -> {
+                TableConstraint c = new TableConstraint();
+                c.setConstraintCatalog(r.string());
+                c.setConstraintSchema(r.string());
+                c.setConstraintName(r.string());
+                c.setConstraintType(r.enumeration(TableConstraintType.class));
+                c.setTableCatalog(r.string());
+                c.setTableSchema(r.string());
+                c.setTableName(r.string());
+                c.setComment(r.string());
+                c.setEnforced(r.bool());
+                return c;
+            });
+
+            r.list(result.getKeyColumnUsages(), () -> {
+                KeyColumnUsage u = new KeyColumnUsage();
+                u.setColumnName(r.string());
+                u.setConstraintCatalog(r.string());
+                u.setConstraintSchema(r.string());
+                u.setConstraintName(r.string());
+                u.setOrdinalPosition(r.integer());
+                u.setTableCatalog(r.string());
+                u.setTableSchema(r.string());
+                u.setTableName(r.string());
+                return u;
+            });
+
+            r.list(result.getReferentialConstraints(), () -> {
+                ReferentialConstraint c = new ReferentialConstraint();
+                c.setConstraintCatalog(r.string());
+                c.setConstraintSchema(r.string());
+                c.setConstraintName(r.string());
+                c.setUniqueConstraintCatalog(r.string());
+                c.setUniqueConstraintSchema(r.string());
+                c.setUniqueConstraintName(r.string());
+                return c;
+            });
+
+            r.list(result.getCheckConstraints(), () -> {
+                CheckConstraint c = new CheckConstraint();
+                c.setConstraintCatalog(r.string());
+                c.setConstraintSchema(r.string());
+                c.setConstraintName(r.string());
+                c.setCheckClause(r.string());
+                return c;
+            });
+
+            r.list(result.getDomains(), () -> {
+                Domain d = new Domain();
+                d.setDomainCatalog(r.string());
+                d.setDomainSchema(r.string());
+                d.setDomainName(r.string());
+                d.setDataType(r.string());
+                d.setCharacterMaximumLength(r.integer());
+                d.setNumericPrecision(r.integer());
+                d.setNumericScale(r.integer());
+                d.setDomainDefault(r.string());
+                return d;
+            });
+
+            r.list(result.getDomainConstraints(), () -> {
+                DomainConstraint c = new DomainConstraint();
+                c.setConstraintCatalog(r.string());
+                c.setConstraintSchema(r.string());
+                c.setConstraintName(r.string());
+                c.setDomainCatalog(r.string());
+                c.setDomainSchema(r.string());
+                c.setDomainName(r.string());
+                return c;
+            });
+
+            r.list(result.getIndexes(), () -> {
+                Index i = new Index();
+                i.setIndexCatalog(r.string());
+                i.setIndexSchema(r.string());
+                i.setIndexName(r.string());
+                i.setTableCatalog(r.string());
+                i.setTableSchema(r.string());
+                i.setTableName(r.string());
+                i.setIsUnique(r.bool());
+                i.setComment(r.string());
+                return i;
+            });
+
+            r.list(result.getIndexColumnUsages(), () -> {
+                IndexColumnUsage u = new IndexColumnUsage();
+                u.setIndexCatalog(r.string());
+                u.setIndexSchema(r.string());
+                u.setIndexName(r.string());
+                u.setTableCatalog(r.string());
+                u.setTableSchema(r.string());
+                u.setTableName(r.string());
+                u.setColumnName(r.string());
+                u.setOrdinalPosition(r.integer());
+                u.setIsDescending(r.bool());
+                return u;
+            });
+
+            r.list(result.getRoutines(), () -> {
+                Routine x = new Routine();
+                x.setSpecificCatalog(r.string());
+                x.setSpecificSchema(r.string());
+                x.setSpecificPackage(r.string());
+                x.setSpecificName(r.string());
+                x.setRoutineCatalog(r.string());
+                x.setRoutineSchema(r.string());
+                x.setRoutinePackage(r.string());
+                x.setRoutineName(r.string());
+                x.setRoutineType(r.enumeration(RoutineType.class));
+                x.setDataType(r.string());
+                x.setCharacterMaximumLength(r.integer());
+                x.setNumericPrecision(r.integer());
+                x.setNumericScale(r.integer());
+                x.setUdtCatalog(r.string());
+                x.setUdtSchema(r.string());
+                x.setUdtName(r.string());
+                x.setComment(r.string());
+                return x;
+            });
+
+            r.list(result.getParameters(), () -> {
+                Parameter p = new Parameter();
+                p.setSpecificCatalog(r.string());
+                p.setSpecificSchema(r.string());
+                p.setSpecificPackage(r.string());
+                p.setSpecificName(r.string());
+                p.setOrdinalPosition(r.integer());
+                p.setParameterMode(r.enumeration(ParameterMode.class));
+                p.setParameterName(r.string());
+                p.setDataType(r.string());
+                p.setCharacterMaximumLength(r.integer());
+                p.setNumericPrecision(r.integer());
+                p.setNumericScale(r.integer());
+                p.setUdtCatalog(r.string());
+                p.setUdtSchema(r.string());
+                p.setUdtName(r.string());
+                p.setParameterDefault(r.string());
+                p.setComment(r.string());
+                return p;
+            });
+
+            r.list(result.getElementTypes(), () -> {
+                ElementType e = new ElementType();
+                e.setObjectCatalog(r.string());
+                e.setObjectSchema(r.string());
+                e.setObjectName(r.string());
+                e.setObjectType(r.string());
+                e.setDataType(r.string());
+                e.setCharacterMaximumLength(r.integer());
+                e.setNumericPrecision(r.integer());
+                e.setNumericScale(r.integer());
+                e.setUdtCatalog(r.string());
+                e.setUdtSchema(r.string());
+                e.setUdtName(r.string());
+                return e;
+            });
+
+            return result;
+        }
+
+        catch (java.io.IOException e) {
+            throw new IOException("Cannot read binary meta data", e);
+        }
+
+        // Corrupt content may also produce invalid enum literals, numbers, etc.
+        catch (RuntimeException e) {
+            throw new IOException("Cannot read binary meta data", new java.io.IOException(e));
+        }
+    }
+
+    private static final class Writer {
+        final DataOutputStream     out;
+        final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(OutputStream stream) {
+            this.out = new DataOutputStream(new BufferedOutputStream(stream));
+        }
+
+        final <T> void list(List<T> list, ThrowingConsumer<? super T, java.io.IOException> consumer) throws java.io.IOException {
+            varint(list.size());
+
+            for (T t : list)
+                consumer.accept(t);
+        }
+
+        /**
+         * Strings are encoded as <code>0</code> for <code>null</code>,
+         * <code>1</code> followed by the UTF-8 content for new strings, or
+         * <code>n + 2</code> for a reference to the n-th string.
+         */
+        final void string(String s) throws java.io.IOException {
+            if (s == null) {
+                varint(0);
+                return;
+            }
+
+            Integer i = strings.get(s);
+
+            if (i != null) {
+                varint(i + 2);
+            }
+            else {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+                strings.put(s, strings.size());
+                varint(1);
+                varint(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        final void integer(Integer i) throws java.io.IOException {
+            if (i == null) {
+                out.writeByte(0);
+            }
+            else {
+                out.writeByte(1);
+                out.writeInt(i);
+            }
+        }
+
+        final void bool(Boolean b) throws java.io.IOException {
+            out.writeByte(b == null ? 0 : b ? 1 : 2);
+        }
+
+        final void bigInteger(BigInteger b) throws java.io.IOException {
+            string(b == null ? null : b.toString());
+        }
+
+        final void enumeration(Enum<?> e) throws java.io.IOException {
+            string(e == null ? null : e.name());
+        }
+
+        final void varint(int i) throws java.io.IOException {
+            while ((i & ~0x7F) != 0) {
+                out.writeByte((i & 0x7F) | 0x80);
+                i >>>= 7;
+            }
+
+            out.writeByte(i);
+        }
+    }
+
+    private static final class Reader {
+        final DataInputStream in;
+        final List<String>    strings = new ArrayList<>();
+
+        Reader(InputStream stream) {
+            this.in = new DataInputStream(new BufferedInputStream(stream));
+        }
+
+        final <T> void list(List<T> list, ThrowingSupplier<? extends T, java.io.IOException> supplier) throws java.io.IOException {
+            int size = length();
+
+            // Corrupt content must not allocate arbitrary amounts of memory
+            if (list instanceof ArrayList)
+                ((ArrayList<T>) list).ensureCapacity(Math.min(size, 1024));
+
+            for (int i = 0; i < size; i++)
+                list.add(supplier.get());
+        }
+
+        final String string() throws java.io.IOException {
+            int i = varint();
+
+            if (i == 0)
+                return null;
+            else if (i > 1)
+                if (i - 2 < strings.size())
+                    return strings.get(i - 2);
+                else
+                    throw new java.io.IOException("Invalid string reference: " + (i - 2));
+
+            // Corrupt content must not allocate arbitrary amounts of memory
+            int length = length();
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length < length)
+                throw new EOFException();
+
+            String s = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(s);
+            return s;
+        }
+
+        final Integer integer() throws java.io.IOException {
+            return in.readByte() == 0 ? null : in.readInt();
+        }
+
+        final Boolean bool() throws java.io.IOException {
+            byte b = in.readByte();
+            return b == 0 ? null : b == 1;
+        }
+
+        final BigInteger bigInteger() throws java.io.IOException {
+            String s = string();
+            return s == null ? null : new BigInteger(s);
+        }
+
+        final <E extends Enum<E>> E enumeration(Class<E> type) throws java.io.IOException {
+            String s = string();
+            return s == null ? null : Enum.valueOf(type, s);
+        }
+
+        final int length() throws java.io.IOException {
+            int result = varint();
+
+            if (result < 0)
+                throw new java.io.IOException("Invalid length: " + result);
+
+            return result;
+        }
+
+        final int varint() throws java.io.IOException {
+            int result = 0;
+
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                result |= (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0)
+                    return result;
+            }
+
+            throw new java.io.IOException("Malformed variable length integer");
+        }
+    }
+}
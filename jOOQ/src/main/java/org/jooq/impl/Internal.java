@@ -45,6 +45,7 @@ import static org.jooq.impl.Tools.nullSafe;
 
 import java.lang.reflect.Array;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.jooq.Binding;
 import org.jooq.Check;
@@ -62,6 +63,8 @@ import org.jooq.ParamMode;
 import org.jooq.Parameter;
 // ...
 import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordUnmapper;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.Schema;
@@ -472,4 +475,27 @@ public final class Internal {
     public static final <R extends Record> Result<R> result(R record) {
         return new ResultImpl<>(Tools.configuration(record), ((AbstractRecord) record).fields);
     }
+
+    /**
+     * Register a code generated {@link RecordMapper} and
+     * {@link RecordUnmapper} for a generated POJO type of a generated table.
+     * <p>
+     * The {@link DefaultRecordMapperProvider} and the
+     * {@link DefaultRecordUnmapperProvider} provide these instead of the
+     * reflection based {@link DefaultRecordMapper} and
+     * {@link DefaultRecordUnmapper} when mapping between the POJO type and
+     * records of the table's row type.
+     */
+    public static final <R extends Record, P> void registerPojoMappers(Table<R> table, Class<P> type, RecordMapper<Record, P> mapper, RecordUnmapper<P, R> unmapper) {
+        PojoMapperRegistry.register(table, type, mapper, unmapper);
+    }
+
+    /**
+     * Register a code generated constructor reference for a generated record
+     * type, to be used instead of reflectively calling the record's no-arg
+     * constructor.
+     */
+    public static final <R extends Record> void registerRecordFactory(Class<R> type, Supplier<? extends R> factory) {
+        RecordFactoryRegistry.register(type, factory);
+    }
 }
@@ -131,6 +131,12 @@ final class Interpreter {
     private boolean                                              delayForeignKeyDeclarations;
     private final Deque<DelayedForeignKey>                       delayedForeignKeyDeclarations;
 
+    /**
+     * The number of renames so far, invalidating {@link MutableNamedList}
+     * lookups.
+     */
+    private int                                                  renames;
+
     // Caches
     private final Map<Name, MutableCatalog.InterpretedCatalog>   interpretedCatalogs    = new HashMap<>();
     private final Map<Name, MutableSchema.InterpretedSchema>     interpretedSchemas     = new HashMap<>();
@@ -405,14 +411,7 @@ final class Interpreter {
             cascade(table.uniqueKeys, null, check);
         }
 
-        Iterator<MutableTable> it = tables.iterator();
-
-        while (it.hasNext()) {
-            if (it.next().nameEquals(table.name())) {
-                it.remove();
-                break;
-            }
-        }
+        tables.remove(find(tables, table.name()));
     }
 
     private final void dropColumns(MutableTable table, List<MutableField> fields, Cascade cascade) {
@@ -636,36 +635,24 @@ final class Interpreter {
             }
 
             else {
-                Iterator<MutableForeignKey> fks = existing.foreignKeys.iterator();
-                while (fks.hasNext()) {
-                    if (fks.next().nameEquals((UnqualifiedName) impl.getUnqualifiedName())) {
-                        fks.remove();
-                        break dropConstraint;
-                    }
+                MutableForeignKey fk = find(existing.foreignKeys, impl);
+                if (fk != null) {
+                    existing.foreignKeys.remove(fk);
+                    break dropConstraint;
                 }
 
                 if (query.$dropConstraintType() != FOREIGN_KEY) {
-                    Iterator<MutableUniqueKey> uks = existing.uniqueKeys.iterator();
-
-                    while (uks.hasNext()) {
-                        MutableUniqueKey key = uks.next();
-
-                        if (key.nameEquals((UnqualifiedName) impl.getUnqualifiedName())) {
-                            cascade(key, null, query.$dropCascade());
-                            uks.remove();
-                            break dropConstraint;
-                        }
+                    MutableUniqueKey key = find(existing.uniqueKeys, impl);
+                    if (key != null) {
+                        cascade(key, null, query.$dropCascade());
+                        existing.uniqueKeys.remove(key);
+                        break dropConstraint;
                     }
 
-                    Iterator<MutableCheck> chks = existing.checks.iterator();
-
-                    while (chks.hasNext()) {
-                        MutableCheck check = chks.next();
-
-                        if (check.nameEquals((UnqualifiedName) impl.getUnqualifiedName())) {
-                            chks.remove();
-                            break dropConstraint;
-                        }
+                    MutableCheck check = find(existing.checks, impl);
+                    if (check != null) {
+                        existing.checks.remove(check);
+                        break dropConstraint;
                     }
 
                     if (existing.primaryKey != null) {
@@ -730,11 +717,18 @@ final class Interpreter {
     private final void addField(MutableTable existing, int index, UnqualifiedName name, DataType<?> dataType) {
         MutableField field = new MutableField(name, existing, dataType);
 
-        for (MutableField mf : existing.fields)
-            if (mf.nameEquals(field.name()))
-                throw columnAlreadyExists(field.qualifiedName());
-            else if (mf.type.identity() && dataType.identity())
-                throw new DataDefinitionException("Table can only have one identity: " + mf.qualifiedName());
+        MutableField duplicate = find(existing.fields, field.name());
+
+        // Report whichever problem comes first, in column order
+        if (dataType.identity()) {
+            for (MutableField mf : existing.fields)
+                if (mf == duplicate)
+                    throw columnAlreadyExists(field.qualifiedName());
+                else if (mf.type.identity())
+                    throw new DataDefinitionException("Table can only have one identity: " + mf.qualifiedName());
+        }
+        else if (duplicate != null)
+            throw columnAlreadyExists(field.qualifiedName());
 
         if (index == Integer.MAX_VALUE)
             existing.fields.add(field);
@@ -1359,9 +1353,13 @@ final class Interpreter {
     }
 
     private static final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
-        UnqualifiedName n = (UnqualifiedName) named.getUnqualifiedName();
+        return find(list, (UnqualifiedName) named.getUnqualifiedName());
+    }
+
+    private static final <M extends MutableNamed> M find(List<? extends M> list, UnqualifiedName n) {
+        if (list instanceof MutableNamedList)
+            return ((MutableNamedList<? extends M>) list).find(n);
 
-        // TODO Avoid O(N) lookups. Use Maps instead
         for (M m : list)
             if ((m = find(m, n)) != null)
                 return m;
@@ -1370,20 +1368,35 @@ final class Interpreter {
     }
 
     private static final int indexOrFail(List<? extends MutableNamed> list, Named named) {
-        int result = -1;
+        MutableNamed m = find(list, named);
 
-        // TODO Avoid O(N) lookups. Use Maps instead
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).nameEquals((UnqualifiedName) named.getUnqualifiedName())) {
-                result = i;
-                break;
-            }
-        }
-
-        if (result == -1)
+        if (m == null)
             throw notExists(named);
 
-        return result;
+        // Elements don't override equals(), so this is an identity search
+        return list.indexOf(m);
+    }
+
+    /**
+     * A key for name lookups, such that two names are equal according to
+     * {@link MutableNamed#nameEquals(UnqualifiedName)} if their keys are
+     * equal.
+     */
+    private final String lookupKey(UnqualifiedName name) {
+        switch (caseSensitivity) {
+            case ALWAYS:
+                return name.last();
+
+            case WHEN_QUOTED:
+                return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale);
+
+            case NEVER:
+                return name.last().toUpperCase(locale);
+
+            case DEFAULT:
+            default:
+                throw new IllegalStateException();
+        }
     }
 
     private static final InterpreterNameLookupCaseSensitivity caseSensitivity(Configuration configuration) {
@@ -1424,6 +1437,7 @@ final class Interpreter {
     private abstract class MutableNamed {
         private UnqualifiedName                      name;
         private String                               upper;
+        private String                               lookupKey;
         private Comment                              comment;
 
         MutableNamed(UnqualifiedName name) {
@@ -1450,8 +1464,16 @@ final class Interpreter {
         }
 
         void name(UnqualifiedName n) {
+            if (this.name != null)
+                renames++;
+
             this.name = n;
             this.upper = name.last().toUpperCase(locale);
+            this.lookupKey = Interpreter.this.lookupKey(n);
+        }
+
+        String lookupKey() {
+            return lookupKey;
         }
 
         Comment comment() {
@@ -2109,6 +2131,36 @@ final class Interpreter {
     private final class MutableNamedList<N extends MutableNamed> extends AbstractList<N> {
         private final List<N> delegate = new ArrayList<>();
 
+        /**
+         * The first element for each lookup key. It is maintained
+         * incrementally where possible, and rebuilt lazily otherwise.
+         */
+        private Map<String, N> lookup;
+        private int            lookupRenames;
+        private boolean        lookupDuplicates;
+
+        final N find(UnqualifiedName name) {
+            if (!lookupValid()) {
+                lookup = new HashMap<>();
+                lookupRenames = renames;
+                lookupDuplicates = false;
+
+                for (N n : delegate)
+                    index(n);
+            }
+
+            return lookup.get(lookupKey(name));
+        }
+
+        private final boolean lookupValid() {
+            return lookup != null && lookupRenames == renames;
+        }
+
+        private final void index(N n) {
+            if (lookup.putIfAbsent(n.lookupKey(), n) != null)
+                lookupDuplicates = true;
+        }
+
         @Override
         public N get(int index) {
             return delegate.get(index);
@@ -2121,17 +2173,32 @@ final class Interpreter {
 
         @Override
         public N set(int index, N element) {
+            lookup = null;
             return delegate.set(index, element);
         }
 
         @Override
         public void add(int index, N element) {
+            boolean append = index == delegate.size();
             delegate.add(index, element);
+
+            // Appended elements never shadow an existing element of the same name
+            if (append && lookupValid())
+                index(element);
+            else
+                lookup = null;
         }
 
         @Override
         public N remove(int index) {
             N removed = delegate.remove(index);
+
+            // With duplicate names, another element might take the removed one's place
+            if (!lookupDuplicates && lookupValid())
+                lookup.remove(removed.lookupKey());
+            else
+                lookup = null;
+
             removed.onDrop();
             return removed;
         }
@@ -38,10 +38,8 @@
 package org.jooq.impl;
 
 import static org.jooq.impl.Tools.configuration;
-import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
-import java.io.Reader;
-import java.util.Scanner;
+import java.util.stream.Stream;
 
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
@@ -98,21 +96,13 @@ final class InterpreterMetaProvider implements MetaProvider {
     }
 
     private final void loadSource(DSLContext ctx, Source source, Interpreter interpreter) {
-        Reader reader = null;
-
-        try {
-            Scanner s = new Scanner(reader = source.reader()).useDelimiter("\\A");
-
-            for (Query query : ctx.parser().parse(s.hasNext() ? s.next() : ""))
-                interpreter.accept(query);
+        try (Stream<Query> queries = ctx.parser().parseStream(source)) {
+            queries.forEach(interpreter::accept);
         }
         catch (ParserException e) {
             log.error("An exception occurred while parsing a DDL script: " + e.getMessage()
                 + ". Please report this error to https://github.com/jOOQ/jOOQ/issues/new", e);
             throw e;
         }
-        finally {
-            safeClose(reader);
-        }
     }
 }
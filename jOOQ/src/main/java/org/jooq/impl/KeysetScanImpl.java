@@ -0,0 +1,253 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.blocking;
+import static org.jooq.impl.Tools.map;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.KeysetScan;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Select;
+
+/**
+ * The implementation of {@link DSLContext#fetchKeyset(Select, int)}.
+ *
+ * @author Lukas Eder
+ */
+final class KeysetScanImpl<R extends Record> implements KeysetScan<R> {
+
+    private final DSLContext                  ctx;
+    private final SelectQueryImpl<R>          query;
+    private final List<Field<?>>              keys;
+    private final DataType<?>[]               types;
+    private final int                         chunkSize;
+    private boolean                           prefetch;
+    private Object[]                          checkpoint;
+    private Iterator<Result<R>>               iterator;
+
+    KeysetScanImpl(DSLContext ctx, Select<R> query, int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+
+        SelectQueryImpl<R> s = Tools.selectQueryImpl(query);
+
+        if (s == null)
+            throw new IllegalArgumentException("Query is not supported: " + query);
+        else if (s.getOrderBy().isEmpty())
+            throw new IllegalArgumentException("Query has no ORDER BY clause: " + query);
+        else if (s.getLimit().isApplicable())
+            throw new IllegalArgumentException("Query must not have a LIMIT clause: " + query);
+
+        this.ctx = ctx;
+        this.query = s;
+        this.keys = s.getOrderBy().fields();
+        this.types = map(keys, (Field<?> f) -> f.getDataType(), DataType[]::new);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public final KeysetScan<R> after(Object... c) {
+        if (iterator != null)
+            throw new IllegalStateException("Scan is already being iterated");
+        else if (c != null && c.length != keys.size())
+            throw new IllegalArgumentException("Checkpoint must have " + keys.size() + " values: " + c.length);
+
+        this.checkpoint = c;
+        return this;
+    }
+
+    @Override
+    public final KeysetScan<R> prefetch(boolean p) {
+        this.prefetch = p;
+        return this;
+    }
+
+    @Override
+    public final Object[] checkpoint() {
+        return checkpoint == null ? null : checkpoint.clone();
+    }
+
+    @Override
+    public final Iterator<Result<R>> iterator() {
+        if (iterator == null)
+            iterator = new ChunkIterator();
+
+        return iterator;
+    }
+
+    @Override
+    public final Stream<Result<R>> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(() -> close());
+    }
+
+    @Override
+    public final void close() {
+        if (iterator == null)
+            iterator = new ChunkIterator();
+
+        ((ChunkIterator) iterator).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Result<R> fetch(Object[] after) {
+        SelectQueryImpl<R> s = (SelectQueryImpl<R>) query.$select(new SelectFieldList<>(query.$select()));
+
+        if (after != null) {
+            s.getSeek().clear();
+            s.addSeekAfter(Tools.fields(after, types));
+        }
+
+        s.addLimit(chunkSize);
+        return ctx.fetch(s);
+    }
+
+    private final Object[] key(Record record) {
+        return map(keys, (Field<?> f) -> record.get(f), Object[]::new);
+    }
+
+    private final class ChunkIterator implements Iterator<Result<R>> {
+
+        /**
+         * The chunk that has been fetched, but not yet returned.
+         */
+        private Result<R>                     next;
+
+        /**
+         * The chunk that is being prefetched after {@link #next}.
+         */
+        private CompletableFuture<Result<R>>  pending;
+
+        /**
+         * The key of the last record of the last fetched chunk.
+         */
+        private Object[]                      fetched = checkpoint;
+        private boolean                       done;
+
+        @Override
+        public final boolean hasNext() {
+            if (next == null && !done)
+                next = fetchNext();
+
+            return next != null;
+        }
+
+        @Override
+        public final Result<R> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Result<R> result = next;
+            next = null;
+            checkpoint = key(result.get(result.size() - 1));
+            return result;
+        }
+
+        private final Result<R> fetchNext() {
+            Result<R> result;
+
+            if (pending != null) {
+                try {
+                    result = pending.join();
+                }
+                catch (CompletionException e) {
+                    done = true;
+
+                    if (e.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) e.getCause();
+                    else
+                        throw e;
+                }
+                finally {
+                    pending = null;
+                }
+            }
+            else
+                result = fetch(fetched);
+
+            if (result.isEmpty()) {
+                done = true;
+                return null;
+            }
+
+            fetched = key(result.get(result.size() - 1));
+
+            // A partial chunk is the last one
+            if (result.size() < chunkSize)
+                done = true;
+            else if (prefetch) {
+                Object[] after = fetched;
+                pending = CompletableFuture.supplyAsync(
+                    blocking(() -> fetch(after)),
+                    Tools.configuration(ctx.configuration()).executorProvider().provide()
+                );
+            }
+
+            return result;
+        }
+
+        final void close() {
+            done = true;
+            next = null;
+
+            if (pending != null) {
+                pending.cancel(false);
+                pending = null;
+            }
+        }
+    }
+}
@@ -164,6 +164,7 @@ final class Keywords {
     static final Keyword K_EXCEPT                   = keyword("except");
     static final Keyword K_EXCEPTION                = keyword("exception");
     static final Keyword K_EXCLUDE                  = keyword("exclude");
+    static final Keyword K_EXCLUDED                 = keyword("excluded");
     static final Keyword K_EXEC                     = keyword("exec");
     static final Keyword K_EXECUTE                  = keyword("execute");
     static final Keyword K_EXECUTE_BLOCK            = keyword("execute block");
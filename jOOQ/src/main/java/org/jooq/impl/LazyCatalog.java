@@ -37,6 +37,8 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.Tools.getMappedCatalog;
+
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -88,7 +90,10 @@ public final class LazyCatalog extends AbstractNamed implements Catalog {
 
     @Override
     public final void accept(Context<?> ctx) {
-        ctx.visit(catalog());
+
+        // Render the catalog like CatalogImpl does, without initialising it
+        Catalog mappedCatalog = getMappedCatalog(ctx, this);
+        ctx.visit(mappedCatalog != null ? mappedCatalog.getUnqualifiedName() : getUnqualifiedName());
     }
 
     // -------------------------------------------------------------------------
@@ -37,6 +37,9 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.Tools.getMappedCatalog;
+import static org.jooq.impl.Tools.getMappedSchema;
+
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -69,12 +72,25 @@ import org.jooq.QueryPart;
 public final class LazySchema extends AbstractNamed implements Schema {
 
     final LazySupplier<Schema> supplier;
+    final Catalog              catalog;
     transient Schema           schema;
 
     public LazySchema(Name name, Comment comment, LazySupplier<Schema> supplier) {
         super(name, comment);
 
         this.supplier = supplier;
+        this.catalog = null;
+    }
+
+    /**
+     * Create a lazy schema whose catalog is known upfront, such that the
+     * schema can be rendered without initialising it.
+     */
+    public LazySchema(Name name, Comment comment, LazySupplier<Schema> supplier, Catalog catalog) {
+        super(qualify(catalog, name), comment);
+
+        this.supplier = supplier;
+        this.catalog = catalog;
     }
 
     private final Schema schema() {
@@ -96,7 +112,22 @@ public final class LazySchema extends AbstractNamed implements Schema {
 
     @Override
     public final void accept(Context<?> ctx) {
-        ctx.visit(schema());
+        if (catalog == null) {
+            ctx.visit(schema());
+        }
+
+        // Render the schema like SchemaImpl does, without initialising it
+        else {
+            if (ctx.qualifyCatalog()) {
+                Catalog mappedCatalog = getMappedCatalog(ctx, catalog);
+
+                if (mappedCatalog != null && !"".equals(mappedCatalog.getName()))
+                    ctx.visit(mappedCatalog).sql('.');
+            }
+
+            Schema mappedSchema = getMappedSchema(ctx, this);
+            ctx.visit(mappedSchema != null ? mappedSchema.getUnqualifiedName() : getUnqualifiedName());
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -105,7 +136,7 @@ public final class LazySchema extends AbstractNamed implements Schema {
 
     @Override
     public final Catalog getCatalog() {
-        return schema().getCatalog();
+        return catalog != null ? catalog : schema().getCatalog();
     }
 
     @Override
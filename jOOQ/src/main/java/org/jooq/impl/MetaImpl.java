@@ -95,6 +95,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.jooq.*;
@@ -132,6 +133,10 @@ final class MetaImpl extends AbstractMeta {
 
 
 
+    private static final String          BULK_COLUMNS                     = "columns";
+    private static final String          BULK_PRIMARY_KEYS                = "primary keys";
+    private static final String          BULK_IMPORTED_KEYS               = "imported keys";
+    private static final String          BULK_INDEX_INFO                  = "indexes";
     private static final Pattern         P_SYSINDEX_DERBY                 = Pattern.compile("^(?i:SQL\\d{14,}).*$");
     private static final Pattern         P_SYSINDEX_H2                    = Pattern.compile("^(?i:PRIMARY_KEY_|UK_INDEX_|FK_INDEX_).*$");
     private static final Pattern         P_SYSINDEX_HSQLDB                = Pattern.compile("^(?i:SYS_IDX_(?:PK|UK|FK)_).*$");
@@ -249,6 +254,147 @@ final class MetaImpl extends AbstractMeta {
         return result;
     }
 
+    /**
+     * Whether meta data should be loaded in bulk for all tables of a schema.
+     */
+    final boolean bulkLoading() {
+
+        // SQLite JDBC's DatabaseMetaData methods can only return a single
+        // table's meta data
+        return TRUE.equals(settings().isMetaBulkLoading()) && family() != SQLITE;
+    }
+
+    final Result<Record> fetchPrimaryKeys(Catalog catalog, Schema schema, String table) {
+        return meta(meta -> {
+            try (ResultSet rs = catalogSchema(catalog, schema, (c, s) -> meta.getPrimaryKeys(c, s, table))) {
+                return dsl().fetch(
+                    rs,
+                    String.class, // TABLE_CAT
+                    String.class, // TABLE_SCHEM
+                    String.class, // TABLE_NAME
+                    String.class, // COLUMN_NAME
+                    int.class,    // KEY_SEQ
+                    String.class  // PK_NAME
+                );
+            }
+        });
+    }
+
+    final Result<Record> fetchImportedKeys(Catalog catalog, Schema schema, String table) {
+        return meta(meta -> {
+            try (ResultSet rs = catalogSchema(catalog, schema, (c, s) -> meta.getImportedKeys(c, s, table))) {
+                return dsl().fetch(
+                    rs,
+                    String.class,  // PKTABLE_CAT
+                    String.class,  // PKTABLE_SCHEM
+                    String.class,  // PKTABLE_NAME
+                    String.class,  // PKCOLUMN_NAME
+                    String.class,  // FKTABLE_CAT
+
+                    String.class,  // FKTABLE_SCHEM
+                    String.class,  // FKTABLE_NAME
+                    String.class,  // FKCOLUMN_NAME
+                    Short.class,   // KEY_SEQ
+                    Short.class,   // UPDATE_RULE
+
+                    Short.class,   // DELETE_RULE
+                    String.class,  // FK_NAME
+                    String.class   // PK_NAME
+                );
+            }
+        });
+    }
+
+    final Result<Record> fetchIndexInfo(Catalog catalog, Schema schema, String table) {
+        return meta(meta -> {
+            try (ResultSet rs = catalogSchema(catalog, schema, (c, s) -> meta.getIndexInfo(c, s, table, false, true))) {
+                return dsl().fetch(
+                    rs,
+                    String.class,  // TABLE_CAT
+                    String.class,  // TABLE_SCHEM
+                    String.class,  // TABLE_NAME
+                    boolean.class, // NON_UNIQUE
+                    String.class,  // INDEX_QUALIFIER
+                    String.class,  // INDEX_NAME
+                    int.class,     // TYPE
+                    int.class,     // ORDINAL_POSITION
+                    String.class,  // COLUMN_NAME
+                    String.class,  // ASC_OR_DESC
+                    long.class,    // CARDINALITY
+                    long.class,    // PAGES
+                    String.class   // FILTER_CONDITION
+                );
+            }
+        });
+    }
+
+    final Result<Record> getColumns0(final String catalog, final String schema, final String table) {
+        return meta(meta -> {
+            try (ResultSet rs = catalogSchema(catalog, schema, (c, s) -> meta.getColumns(c, s, table, "%"))) {
+                // Work around a bug in the SQL Server JDBC driver by
+                // coercing data types to the expected types
+                // The bug was reported here:
+                // https://connect.microsoft.com/SQLServer/feedback/details/775425/jdbc-4-0-databasemetadata-getcolumns-returns-a-resultset-whose-resultsetmetadata-is-inconsistent
+
+                // [#9740] TODO: Make this call lenient with respect to
+                //         column count, filling unavailable columns with
+                //         default values.
+                return rs.getMetaData().getColumnCount() < GET_COLUMNS_EXTENDED.length
+                        ? dsl().fetch(rs, GET_COLUMNS_SHORT)
+                        : dsl().fetch(rs, GET_COLUMNS_EXTENDED);
+            }
+        });
+    }
+
+    /**
+     * The result of a bulk {@link DatabaseMetaData} call, grouped by table
+     * name.
+     * <p>
+     * The <code>schemaPattern</code> argument of {@link DatabaseMetaData}
+     * methods is a <code>LIKE</code> pattern, and an absent schema matches
+     * all schemas, so only the records of the exact catalog and schema are
+     * retained, before grouping them by table name.
+     */
+    private static final class BulkResult {
+        final Result<Record>              result;
+        final Map<String, Result<Record>> tables;
+
+        @SuppressWarnings("unchecked")
+        BulkResult(Result<Record> result, int tableName, String catalog, String schema, boolean inverseSchemaCatalog) {
+            Field<String> c = (Field<String>) result.field(tableName - 2);
+            Field<String> s = (Field<String>) result.field(tableName - 1);
+
+            // [#2760] MySQL JDBC confuses "catalog" and "schema"
+            if (inverseSchemaCatalog) {
+                Field<String> x = c;
+                c = s;
+                s = x;
+            }
+
+            Result<Record> filtered = new ResultImpl<>(result.configuration(), result.fields());
+            for (Record record : result)
+                if ((isEmpty(catalog) || catalog.equals(record.get(c)))
+                        && defaultIfEmpty(schema, "").equals(defaultIfEmpty(record.get(s), "")))
+                    filtered.add(record);
+
+            this.result = filtered;
+            this.tables = filtered.intoGroups((Field<String>) result.field(tableName));
+        }
+
+        /**
+         * A modifiable copy of a table's records, which may be empty.
+         */
+        final Result<Record> copy(String table) {
+            Result<Record> copy = new ResultImpl<>(result.configuration(), result.fields());
+            Result<Record> records = tables.get(table);
+
+            if (records != null)
+                copy.addAll(records);
+
+            return copy;
+        }
+    }
+
     private final class MetaCatalog extends CatalogImpl {
 
         MetaCatalog(String name) {
@@ -323,12 +469,31 @@ final class MetaImpl extends AbstractMeta {
         private transient volatile Map<Name, Result<Record>> ukCache;
         private transient volatile Map<Name, Result<Record>> sequenceCache;
 
+        // Meta data that is loaded in bulk for all tables of the schema
+        private transient volatile List<Table<?>>            bulkTables;
+        private transient volatile BulkResult                bulkColumns;
+        private transient volatile BulkResult                bulkPrimaryKeys;
+        private transient volatile BulkResult                bulkImportedKeys;
+        private transient volatile BulkResult                bulkIndexInfo;
+        private transient volatile Set<String>               bulkUnsupported;
+
         MetaSchema(String name, Catalog catalog) {
             super(name, catalog);
         }
 
         @Override
         public final synchronized List<Table<?>> getTables() {
+            if (bulkLoading()) {
+                if (bulkTables == null)
+                    bulkTables = getTables0();
+
+                return bulkTables;
+            }
+
+            return getTables0();
+        }
+
+        private final List<Table<?>> getTables0() {
             Result<Record> tables = meta(meta -> {
                 String[] types;
 
@@ -425,6 +590,84 @@ final class MetaImpl extends AbstractMeta {
             });
         }
 
+        /**
+         * Get the columns of a table, loading the columns of all tables of
+         * this schema in a single call, in bulk loading mode.
+         */
+        final synchronized Result<Record> columns(String table) {
+            if (bulkColumns == null && bulkLoadingSupported(BULK_COLUMNS))
+                bulkColumns = bulk(BULK_COLUMNS, 2, () -> getColumns0(catalogName(), getName(), "%"));
+
+            return bulkColumns != null
+                ? bulkColumns.tables.get(table)
+                : getColumns0(catalogName(), getName(), table);
+        }
+
+        /**
+         * Get the primary key columns of a table, loading the primary key
+         * columns of all tables of this schema in a single call, in bulk
+         * loading mode.
+         */
+        final synchronized Result<Record> primaryKeys(String table) {
+            if (bulkPrimaryKeys == null && bulkLoadingSupported(BULK_PRIMARY_KEYS))
+                bulkPrimaryKeys = bulk(BULK_PRIMARY_KEYS, 2, () -> fetchPrimaryKeys(getCatalog(), this, null));
+
+            return bulkPrimaryKeys != null
+                ? bulkPrimaryKeys.copy(table)
+                : fetchPrimaryKeys(getCatalog(), this, table);
+        }
+
+        /**
+         * Get the imported keys of a table, loading the imported keys of all
+         * tables of this schema in a single call, in bulk loading mode.
+         */
+        final synchronized Result<Record> importedKeys(String table) {
+            if (bulkImportedKeys == null && bulkLoadingSupported(BULK_IMPORTED_KEYS))
+                bulkImportedKeys = bulk(BULK_IMPORTED_KEYS, 6, () -> fetchImportedKeys(getCatalog(), this, null));
+
+            return bulkImportedKeys != null
+                ? bulkImportedKeys.copy(table)
+                : fetchImportedKeys(getCatalog(), this, table);
+        }
+
+        /**
+         * Get the indexes of a table, loading the indexes of all tables of
+         * this schema in a single call, in bulk loading mode.
+         */
+        final synchronized Result<Record> indexInfo(String table) {
+            if (bulkIndexInfo == null && bulkLoadingSupported(BULK_INDEX_INFO))
+                bulkIndexInfo = bulk(BULK_INDEX_INFO, 2, () -> fetchIndexInfo(getCatalog(), this, null));
+
+            return bulkIndexInfo != null
+                ? bulkIndexInfo.copy(table)
+                : fetchIndexInfo(getCatalog(), this, table);
+        }
+
+        private final String catalogName() {
+            return getCatalog() != null ? getCatalog().getName() : null;
+        }
+
+        private final boolean bulkLoadingSupported(String category) {
+            return bulkLoading() && (bulkUnsupported == null || !bulkUnsupported.contains(category));
+        }
+
+        private final BulkResult bulk(String category, int tableName, Supplier<Result<Record>> supplier) {
+            try {
+                return new BulkResult(supplier.get(), tableName, catalogName(), getName(), inverseSchemaCatalog);
+            }
+
+            // Not all JDBC drivers support omitting the table name
+            catch (DataAccessException e) {
+                log.debug("Bulk loading", "Cannot load " + category + " of schema " + this + " in bulk. Loading them per table instead.", e);
+
+                if (bulkUnsupported == null)
+                    bulkUnsupported = new HashSet<>();
+
+                bulkUnsupported.add(category);
+                return null;
+            }
+        }
+
         private final Result<Record> getUks(String catalog, String schema, String table) {
             if (ukCache == null)
                 if (family() == SQLITE)
@@ -617,12 +860,15 @@ final class MetaImpl extends AbstractMeta {
 
     private final class MetaTable extends TableImpl<Record> {
         private transient volatile Map<Name, Result<Record>> columnCache;
+        private final MetaSchema schema;
         private final Result<Record> uks;
         private volatile boolean inited = false;
 
-        MetaTable(String name, Schema schema, Result<Record> columns, Result<Record> uks, String remarks, TableType tableType) {
+        MetaTable(String name, MetaSchema schema, Result<Record> columns, Result<Record> uks, String remarks, TableType tableType) {
             super(name(name), schema, null, null, null, null, comment(remarks), TableOptions.of(tableType));
 
+            this.schema = schema;
+
             // Possible scenarios for columns being null:
             // - The "table" is in fact a SYNONYM
             if (columns != null)
@@ -636,26 +882,7 @@ final class MetaImpl extends AbstractMeta {
             // See https://github.com/h2database/h2database/issues/3236
             return ignoreNPE(
                 () -> {
-                    Result<Record> result = removeSystemIndexes(meta(meta -> {
-                        try (ResultSet rs = catalogSchema(getCatalog(), getSchema(), (c, s) -> meta.getIndexInfo(c, s, getName(), false, true))) {
-                            return dsl().fetch(
-                                rs,
-                                String.class,  // TABLE_CAT
-                                String.class,  // TABLE_SCHEM
-                                String.class,  // TABLE_NAME
-                                boolean.class, // NON_UNIQUE
-                                String.class,  // INDEX_QUALIFIER
-                                String.class,  // INDEX_NAME
-                                int.class,     // TYPE
-                                int.class,     // ORDINAL_POSITION
-                                String.class,  // COLUMN_NAME
-                                String.class,  // ASC_OR_DESC
-                                long.class,    // CARDINALITY
-                                long.class,    // PAGES
-                                String.class   // FILTER_CONDITION
-                            );
-                        }
-                    }));
+                    Result<Record> result = removeSystemIndexes(schema.indexInfo(getName()));
 
                     // Sort by INDEX_NAME (5), ORDINAL_POSITION (7)
                     result.sortAsc(7).sortAsc(5);
@@ -736,19 +963,7 @@ final class MetaImpl extends AbstractMeta {
 
 
 
-            Result<Record> result = meta(meta -> {
-                try (ResultSet rs = catalogSchema(getCatalog(), getSchema(), (c, s) -> meta.getPrimaryKeys(c, s, getName()))) {
-                    return dsl().fetch(
-                        rs,
-                        String.class, // TABLE_CAT
-                        String.class, // TABLE_SCHEM
-                        String.class, // TABLE_NAME
-                        String.class, // COLUMN_NAME
-                        int.class,    // KEY_SEQ
-                        String.class  // PK_NAME
-                    );
-                }
-            });
+            Result<Record> result = schema.primaryKeys(getName());
 
             // Sort by KEY_SEQ
             result.sortAsc(4);
@@ -758,28 +973,7 @@ final class MetaImpl extends AbstractMeta {
         @Override
         @SuppressWarnings("unchecked")
         public final List<ForeignKey<Record, ?>> getReferences() {
-            Result<Record> result = meta(meta -> {
-                try (ResultSet rs = catalogSchema(getCatalog(), getSchema(), (c, s) -> meta.getImportedKeys(c, s, getName()))) {
-                    return dsl().fetch(
-                        rs,
-                        String.class,  // PKTABLE_CAT
-                        String.class,  // PKTABLE_SCHEM
-                        String.class,  // PKTABLE_NAME
-                        String.class,  // PKCOLUMN_NAME
-                        String.class,  // FKTABLE_CAT
-
-                        String.class,  // FKTABLE_SCHEM
-                        String.class,  // FKTABLE_NAME
-                        String.class,  // FKCOLUMN_NAME
-                        Short.class,   // KEY_SEQ
-                        Short.class,   // UPDATE_RULE
-
-                        Short.class,   // DELETE_RULE
-                        String.class,  // FK_NAME
-                        String.class   // PK_NAME
-                    );
-                }
-            });
+            Result<Record> result = schema.importedKeys(getName());
 
             Map<Record, Result<Record>> groups = result.intoGroups(new Field[] {
                 result.field(inverseSchemaCatalog ? 1 : 0),
@@ -1088,6 +1282,10 @@ final class MetaImpl extends AbstractMeta {
         @SuppressWarnings("unchecked")
         private final Result<Record> getColumns(String catalog, String schema, String table) {
 
+            // All of the schema's tables share the columns loaded in bulk
+            if (bulkLoading())
+                return this.schema.columns(table);
+
             // SQLite JDBC's DatabaseMetaData.getColumns() can only return a single
             // table's columns
             if (columnCache == null && family() != SQLITE) {
@@ -1108,24 +1306,6 @@ final class MetaImpl extends AbstractMeta {
             else
                 return getColumns0(catalog, schema, table);
         }
-
-        private final Result<Record> getColumns0(final String catalog, final String schema, final String table) {
-            return meta(meta -> {
-                try (ResultSet rs = catalogSchema(catalog, schema, (c, s) -> meta.getColumns(c, s, table, "%"))) {
-                    // Work around a bug in the SQL Server JDBC driver by
-                    // coercing data types to the expected types
-                    // The bug was reported here:
-                    // https://connect.microsoft.com/SQLServer/feedback/details/775425/jdbc-4-0-databasemetadata-getcolumns-returns-a-resultset-whose-resultsetmetadata-is-inconsistent
-
-                    // [#9740] TODO: Make this call lenient with respect to
-                    //         column count, filling unavailable columns with
-                    //         default values.
-                    return rs.getMetaData().getColumnCount() < GET_COLUMNS_EXTENDED.length
-                            ? dsl().fetch(rs, GET_COLUMNS_SHORT)
-                            : dsl().fetch(rs, GET_COLUMNS_EXTENDED);
-                }
-            });
-        }
     }
 
     private final class MetaUniqueKey extends AbstractKey<Record> implements UniqueKey<Record> {
@@ -0,0 +1,267 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.jooq.Clause;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Delete;
+import org.jooq.Field;
+import org.jooq.Insert;
+import org.jooq.Merge;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.QueryPart;
+import org.jooq.QueryPartInternal;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.Update;
+import org.jooq.impl.QOM.UEmptyQuery;
+
+/**
+ * An immutable parse result in the {@link CacheType#CACHE_PARSER}.
+ * <p>
+ * The parsed query is never handed out to callers. Each lookup produces a new
+ * {@link Query}, which renders the parsed query with fresh copies of its
+ * {@link Param} values, holding the caller's bind values.
+ *
+ * @author Lukas Eder
+ */
+final class ParserCacheValue {
+
+    final Configuration configuration;
+    final Query         template;
+    final Val<?>[]          params;
+    final int[]             bindIndexes;
+    final ConvertedVal<?>[] converted;
+
+    private ParserCacheValue(
+        Configuration configuration,
+        Query template,
+        Val<?>[] params,
+        int[] bindIndexes,
+        ConvertedVal<?>[] converted
+    ) {
+        this.configuration = configuration;
+        this.template = template;
+        this.params = params;
+        this.bindIndexes = bindIndexes;
+        this.converted = converted;
+    }
+
+    /**
+     * Create a cache value from a parsed query, or return <code>null</code> if
+     * the query cannot be cached.
+     * <p>
+     * Only {@link Select} and DML statements without a <code>RETURNING</code>
+     * clause can be cached, as those can be executed through a generic
+     * {@link Query} or {@link org.jooq.ResultQuery} without any loss. All of
+     * their {@link Param} values must be reachable for substitution, and each
+     * binding must map to such a value.
+     */
+    static final ParserCacheValue of(
+        Configuration configuration,
+        Query parsed,
+        Map<Param<?>, Integer> bindings,
+        int bindingCount
+    ) {
+        if (!(parsed instanceof Select
+            || parsed instanceof Insert
+            || parsed instanceof Update
+            || parsed instanceof Delete
+            || parsed instanceof Merge))
+            return null;
+
+        ParamCollector collector = new ParamCollector(configuration, true);
+        collector.visit(parsed);
+
+        Map<Val<?>, Integer> indexes = new IdentityHashMap<>();
+        List<ConvertedVal<?>> converted = new ArrayList<>();
+        BitSet bound = new BitSet();
+
+        for (Entry<String, Param<?>> e : collector.resultList) {
+            Param<?> param = e.getValue();
+            Val<?> val;
+
+            if (param instanceof Val)
+                val = (Val<?>) param;
+            else if (param instanceof ConvertedVal && ((ConvertedVal<?>) param).delegate instanceof Val) {
+                converted.add((ConvertedVal<?>) param);
+                val = (Val<?>) ((ConvertedVal<?>) param).delegate;
+            }
+            else
+                return null;
+
+            Integer index = bindings.get(val);
+
+            // Bind values may have been copied or converted by the parser
+            if (index == null && bindingCount > 0 && !val.isInline())
+                return null;
+            else if (index != null)
+                bound.set(index);
+
+            indexes.put(val, index == null ? -1 : index);
+        }
+
+        if (bound.cardinality() != bindingCount)
+            return null;
+
+        Val<?>[] params = new Val[indexes.size()];
+        int[] bindIndexes = new int[indexes.size()];
+        int i = 0;
+
+        for (Entry<Val<?>, Integer> e : indexes.entrySet()) {
+            params[i] = e.getKey();
+            bindIndexes[i++] = e.getValue();
+        }
+
+        return new ParserCacheValue(configuration, parsed, params, bindIndexes, converted.toArray(new ConvertedVal[0]));
+    }
+
+    /**
+     * Produce a new query with the argument bind values.
+     */
+    final Query query(Object[] bindings) {
+        Map<QueryPart, QueryPart> substitutes = new IdentityHashMap<>();
+
+        for (int i = 0; i < params.length; i++)
+            substitutes.put(params[i], params[i].copy(bindIndexes[i] >= 0 ? bindings[bindIndexes[i]] : params[i].getValue()));
+
+        // ConvertedVal instances must delegate to the substituted values
+        for (ConvertedVal<?> c : converted)
+            substitutes.put(c, new ConvertedVal<>((AbstractParamX<?>) substitutes.get(c.delegate), c.getDataType()));
+
+        return template instanceof Select
+            ? new CachedResultQuery(this, substitutes)
+            : new CachedQuery(this, substitutes);
+    }
+
+    static final void accept(Context<?> ctx, Query template, Map<QueryPart, QueryPart> substitutes) {
+        if (ctx instanceof AbstractContext) {
+            AbstractContext<?> c = (AbstractContext<?>) ctx;
+            Map<QueryPart, QueryPart> previous = c.substitutes;
+
+            try {
+                c.substitutes = substitutes;
+                ctx.visit(template);
+            }
+            finally {
+                c.substitutes = previous;
+            }
+        }
+        else
+            ctx.visit(template);
+    }
+
+    /**
+     * A cached DML statement.
+     */
+    static final class CachedQuery extends AbstractRowCountQuery implements UEmptyQuery {
+
+        final Query                     template;
+        final Map<QueryPart, QueryPart> substitutes;
+
+        CachedQuery(ParserCacheValue value, Map<QueryPart, QueryPart> substitutes) {
+            super(value.configuration);
+
+            this.template = value.template;
+            this.substitutes = substitutes;
+        }
+
+        @Override
+        public final void accept(Context<?> ctx) {
+            ParserCacheValue.accept(ctx, template, substitutes);
+        }
+
+        @Override
+        public final Clause[] clauses(Context<?> ctx) {
+            return ((QueryPartInternal) template).clauses(ctx);
+        }
+    }
+
+    /**
+     * A cached {@link Select} statement.
+     */
+    static final class CachedResultQuery extends AbstractResultQuery<Record> implements UEmptyQuery {
+
+        final ResultQueryTrait<?>       template;
+        final Map<QueryPart, QueryPart> substitutes;
+
+        CachedResultQuery(ParserCacheValue value, Map<QueryPart, QueryPart> substitutes) {
+            super(value.configuration);
+
+            this.template = (ResultQueryTrait<?>) value.template;
+            this.substitutes = substitutes;
+        }
+
+        @Override
+        public final void accept(Context<?> ctx) {
+            ParserCacheValue.accept(ctx, template, substitutes);
+        }
+
+        @Override
+        public final Clause[] clauses(Context<?> ctx) {
+            return template.clauses(ctx);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        final Class<? extends Record> getRecordType0() {
+            return (Class<? extends Record>) template.getRecordType();
+        }
+
+        @Override
+        public final Field<?>[] getFields(ResultSetMetaData meta) throws SQLException {
+            return template.getFields(meta);
+        }
+
+        @Override
+        public final Field<?>[] getFields() {
+            return template.getFields();
+        }
+    }
+}
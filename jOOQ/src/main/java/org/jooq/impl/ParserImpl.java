@@ -69,6 +69,7 @@ import static org.jooq.VisitListener.onVisitStart;
 import static org.jooq.conf.ParseWithMetaLookups.IGNORE_ON_FAILURE;
 import static org.jooq.conf.ParseWithMetaLookups.THROW_ON_FAILURE;
 import static org.jooq.conf.SettingsTools.parseLocale;
+import static org.jooq.impl.CacheType.CACHE_PARSER;
 import static org.jooq.impl.AbstractName.NO_NAME;
 import static org.jooq.impl.DSL.abs;
 import static org.jooq.impl.DSL.acos;
@@ -425,8 +426,10 @@ import static org.jooq.impl.Tools.selectQueryImpl;
 import static org.jooq.impl.Tools.updateQueryImpl;
 import static org.jooq.impl.Transformations.transformAppendMissingTableReferences;
 import static org.jooq.tools.StringUtils.defaultIfNull;
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -437,12 +440,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
@@ -452,6 +460,8 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.AggregateFilterStep;
 import org.jooq.AggregateFunction;
@@ -612,6 +622,7 @@ import org.jooq.SelectFieldOrAsterisk;
 import org.jooq.Sequence;
 import org.jooq.SortField;
 import org.jooq.SortOrder;
+import org.jooq.Source;
 import org.jooq.Statement;
 import org.jooq.Table;
 import org.jooq.TableField;
@@ -655,6 +666,7 @@ import org.jooq.conf.ParseWithMetaLookups;
 import org.jooq.conf.RenderKeywordCase;
 import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.RenderQuotedNames;
+import org.jooq.conf.Settings;
 import org.jooq.impl.QOM.DocumentOrContent;
 import org.jooq.impl.QOM.JSONOnNull;
 // ...
@@ -691,6 +703,96 @@ final class ParserImpl implements Parser {
         return new DefaultParseContext(dsl, meta, metaLookups, sql, bindings);
     }
 
+    /**
+     * Look up a parse result in the {@link CacheType#CACHE_PARSER}, if the
+     * result does not depend on anything other than the SQL string, the types
+     * of the bind values, and the configuration.
+     * <p>
+     * Cached parse results are never shared. Each call produces a new
+     * {@link Query} from the immutable {@link ParserCacheValue}, with the
+     * caller's bind values substituted. Parse results that cannot be
+     * reproduced this way are not cached, only the fact that they cannot be
+     * cached is remembered.
+     */
+    @SuppressWarnings("unchecked")
+    private final <Q extends Query> Q cached(String type, String sql, Object[] bindings, Function<DefaultParseContext, Q> parse) {
+        Configuration configuration = dsl.configuration();
+
+        if (meta != null || sql == null || configuration.data("org.jooq.parser.param-collector") != null)
+            return parse.apply(ctx(sql, bindings));
+
+        Map<Object, Object> cache = Cache.cache(configuration, CACHE_PARSER);
+        if (cache == null)
+            return parse.apply(ctx(sql, bindings));
+
+        // [#11074] Bindings can be Param or even Field types
+        List<Class<?>> types = new ArrayList<>(bindings.length);
+        for (Object binding : bindings)
+            if (binding instanceof QueryPart)
+                return parse.apply(ctx(sql, bindings));
+            else
+                types.add(binding == null ? null : binding.getClass());
+
+        // Parsing runs outside of any locks. Concurrent callers may parse the
+        // same SQL string more than once, but they all produce equivalent
+        // results.
+        Object key = Cache.key(Cache.key(type, sql), Cache.key(types, key(configuration)));
+        Object result = cache.get(key);
+
+        if (result == NOT_CACHEABLE)
+            return parse.apply(ctx(sql, bindings));
+
+        if (result == null) {
+            DefaultParseContext ctx = ctx(sql, bindings);
+            Q parsed = parse.apply(ctx);
+            ParserCacheValue value = ParserCacheValue.of(configuration, parsed, ctx.bindIndexes, bindings.length);
+
+            if (value == null) {
+                cache.put(key, NOT_CACHEABLE);
+                return parsed;
+            }
+
+            cache.putIfAbsent(key, value);
+            result = value;
+        }
+
+        return (Q) ((ParserCacheValue) result).query(bindings);
+    }
+
+    /**
+     * A marker for SQL strings whose parse results cannot be cached.
+     */
+    private static final Object NOT_CACHEABLE = new Object();
+
+    /**
+     * The configuration and the {@link Settings} that influence parsing.
+     * <p>
+     * Parsed queries are attached to the configuration, so they must not be
+     * shared with derived configurations, which share the cache.
+     */
+    private static final Object key(Configuration configuration) {
+        Settings settings = configuration.settings();
+
+        return asList(
+            configuration,
+            settings.getParseDialect(),
+            parseLocale(settings),
+            settings.getParseDateFormat(),
+            settings.getParseTimestampFormat(),
+            settings.getParseNamedParamPrefix(),
+            settings.getParseNameCase(),
+            settings.getParseAppendMissingTableReferences(),
+            settings.isParseSetCommands(),
+            settings.getParseUnsupportedSyntax(),
+            settings.getParseUnknownFunctions(),
+            settings.isParseIgnoreComments(),
+            settings.getParseIgnoreCommentStart(),
+            settings.getParseIgnoreCommentStop(),
+            settings.isParseRetainCommentsBetweenQueries(),
+            new ArrayList<>(settings.getParseSearchPath())
+        );
+    }
+
     @Override
     public final Queries parse(String sql) {
         return parse(sql, EMPTY_OBJECT);
@@ -701,6 +803,44 @@ final class ParserImpl implements Parser {
         return ctx(sql, bindings).parse();
     }
 
+    @Override
+    public final Stream<Query> parseStream(Reader reader) {
+        DefaultParseContext ctx = new DefaultParseContext(dsl, meta, metaLookups, reader);
+
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new Iterator<Query>() {
+                    Query next;
+
+                    @Override
+                    public boolean hasNext() {
+                        if (next == null)
+                            next = ctx.parseNext();
+
+                        return next != null;
+                    }
+
+                    @Override
+                    public Query next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+
+                        Query result = next;
+                        next = null;
+                        return result;
+                    }
+                },
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(() -> safeClose(reader));
+    }
+
+    @Override
+    public final Stream<Query> parseStream(Source source) {
+        return parseStream(source.reader());
+    }
+
     @Override
     public final Query parseQuery(String sql) {
         return parseQuery(sql, EMPTY_OBJECT);
@@ -708,7 +848,7 @@ final class ParserImpl implements Parser {
 
     @Override
     public final Query parseQuery(String sql, Object... bindings) {
-        return ctx(sql, bindings).parseQuery0();
+        return cached("query", sql, bindings, DefaultParseContext::parseQuery0);
     }
 
     @Override
@@ -744,7 +884,7 @@ final class ParserImpl implements Parser {
 
     @Override
     public final ResultQuery<?> parseResultQuery(String sql, Object... bindings) {
-        return ctx(sql, bindings).parseResultQuery0();
+        return cached("resultQuery", sql, bindings, DefaultParseContext::parseResultQuery0);
     }
 
     @Override
@@ -818,6 +958,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
 
 
     static final Set<SQLDialect>         SUPPORTS_HASH_COMMENT_SYNTAX  = SQLDialect.supportedBy(MARIADB, MYSQL);
+    static final int                     MAX_LOOKAHEAD                 = 1 << 24;
 
     final Queries parse() {
         return wrap(() -> {
@@ -852,6 +993,157 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         });
     }
 
+    /**
+     * Parse the next query of a script read lazily from a {@link Reader}, or
+     * return <code>null</code> at the end of the script.
+     * <p>
+     * Only a window of the script is kept in {@link #sql}. A query is accepted
+     * only if it is terminated by a delimiter within the window, or if the end
+     * of the script has been reached. Otherwise, the window is extended and
+     * the query is parsed again.
+     */
+    final Query parseNext() {
+        if (pending != null) {
+            Query result = pending;
+            pending = null;
+            return result;
+        }
+
+        return wrap(() -> {
+            for (;;) {
+                int start = position;
+                Runnable restore = snapshot();
+
+                try {
+                    parseWhitespaceIf();
+                    int p = positionBeforeWhitespace;
+                    parseDelimiterSpecifications();
+
+                    while (parseDelimiterIf(false))
+                        p = positionBeforeWhitespace;
+
+                    Query comments = null;
+                    if (TRUE.equals(settings().isParseRetainCommentsBetweenQueries()) && p < position) {
+                        for (int i = p; i < position; i++) {
+                            if (character(i) != ' ') {
+                                comments = new IgnoreQuery(substring(p, position));
+                                break;
+                            }
+                        }
+                    }
+
+                    if (done()) {
+                        if (reader == null)
+                            return null;
+                    }
+                    else {
+                        Query query = patchParsedQuery(parseQuery(false, false));
+
+                        if (query == IGNORE_NO_DELIMITER
+                                ? reader == null || position < sql.length
+                                : parseDelimiterIf(false) || reader == null) {
+
+                            // Whitespace and comments after the delimiter may be
+                            // incomplete, they're parsed again with the next query
+                            position(positionBeforeWhitespace);
+
+                            if (query == IGNORE || query == IGNORE_NO_DELIMITER)
+                                query = null;
+
+                            if (comments == null && query == null)
+                                continue;
+                            else if (comments == null)
+                                return query;
+
+                            pending = query;
+                            return comments;
+                        }
+                    }
+                }
+                catch (ParserException e) {
+
+                    // Errors may be caused by the end of the window, e.g. in an
+                    // unterminated string literal, unless enough of the script
+                    // has been read after the error position
+                    if (reader == null || sql.length - (e.position() - offset) > MAX_LOOKAHEAD)
+                        throw e;
+                }
+
+                restore.run();
+                read(start);
+            }
+        });
+    }
+
+    /**
+     * Capture the state that a failed or incomplete parse attempt may modify,
+     * to be able to parse a query again from the same position.
+     */
+    private final Runnable snapshot() {
+        int p = position;
+        String d = delimiter;
+        int b = bindIndex;
+        Map<String, Param<?>> params = new LinkedHashMap<>(bindParams);
+        ScopeStack<Name, Table<?>> tables = tableScope.copy();
+        ScopeStack<Name, Field<?>> fields = fieldScope.copy();
+        ScopeStack<Name, FieldProxy<?>> lookups = lookupFields.copy();
+        boolean clear = scopeClear;
+        LanguageContext l = languageContext;
+        EnumSet<FunctionKeyword> f = EnumSet.copyOf(forbidden);
+        boolean h = ignoreHints;
+        boolean m = metaLookupsForceIgnore;
+
+        return () -> {
+            position(p);
+            delimiter(d);
+            bindIndex = b;
+            bindParams.clear();
+            bindParams.putAll(params);
+            tableScope.restore(tables);
+            fieldScope.restore(fields);
+            lookupFields.restore(lookups);
+            scopeClear = clear;
+            languageContext = l;
+            forbidden = f;
+            ignoreHints = h;
+            metaLookupsForceIgnore = m;
+        };
+    }
+
+    /**
+     * Discard the window before <code>start</code> and read more of the script
+     * into the window.
+     */
+    private final void read(int start) {
+        int length = sql.length - start;
+        char[] buffer = Arrays.copyOfRange(sql, start, start + length + Math.max(length, 65536));
+
+        try {
+            int read = 0;
+
+            for (int r; length + read < buffer.length && (r = reader.read(buffer, length + read, buffer.length - length - read)) != -1;)
+                read += r;
+
+            if (length + read < buffer.length) {
+                safeClose(reader);
+                reader = null;
+                buffer = Arrays.copyOf(buffer, length + read);
+            }
+        }
+        catch (java.io.IOException e) {
+            throw new org.jooq.exception.IOException("Could not read script", e);
+        }
+
+        int[] line = line(start);
+        lineOffset = line[0] - 1;
+        columnOffset = line[1] - 1;
+
+        sql = buffer;
+        offset += start;
+        position = 0;
+        positionBeforeWhitespace = 0;
+    }
+
     private static final Pattern P_SEARCH_PATH = Pattern.compile("(?i:select\\s+(pg_catalog\\s*\\.\\s*)?set_config\\s*\\(\\s*'search_path'\\s*,\\s*'([^']*)'\\s*,\\s*\\w+\\s*\\))");
 
     private final Query patchParsedQuery(Query query) {
@@ -12279,6 +12571,9 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
 
         Param<?> param = DSL.param(paramName, binding);
 
+        if (bindings.length > 0)
+            bindIndexes.put(param, bindIndex - 1);
+
         if (bindParamListener != null)
             bindParams.put(paramName, param);
 
@@ -13349,7 +13644,42 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         if (sql.length < p + length)
             return false;
 
-        int skip = afterWhitespace(p, peekIntoParens) - p;
+        // Most keywords can be rejected or accepted by comparing their length
+        // with the identifier token at the current position, which is
+        // delimited only once per position
+        token(peekIntoParens);
+        int tokenLength = tokenEnd - tokenStart;
+
+        if (tokenLength > length)
+            return false;
+
+        if (tokenLength < length) {
+            char c = keyword.charAt(tokenLength);
+
+            if (c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_')
+                return false;
+        }
+        else {
+            for (int i = 0; i < length; i++)
+                if (upper(sql[tokenStart + i]) != keyword.charAt(i))
+                    return false;
+
+            if (character(tokenEnd) == '.')
+                return false;
+
+            if (requireFunction)
+                if (character(afterWhitespace(tokenEnd)) != '(')
+                    return false;
+
+            if (updatePosition) {
+                positionInc(tokenEnd - p);
+                parseWhitespaceIf();
+            }
+
+            return true;
+        }
+
+        int skip = tokenStart - p;
 
         for (int i = 0; i < length; i++) {
             char c = keyword.charAt(i);
@@ -13389,6 +13719,34 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         return true;
     }
 
+    /**
+     * Delimit the identifier token after the whitespace at the current
+     * position in {@link #tokenStart} and {@link #tokenEnd}.
+     */
+    private final void token(boolean peekIntoParens) {
+        int p = position();
+
+        if (tokenSql != sql
+                || tokenPosition != p
+                || tokenPeekIntoParens != peekIntoParens
+                || tokenIgnoreHints != ignoreHints
+                || tokenDelimiter != delimiter) {
+            int start = afterWhitespace(p, peekIntoParens);
+            int end = start;
+
+            while (end < sql.length && isIdentifierPart(sql[end]))
+                end++;
+
+            tokenSql = sql;
+            tokenPosition = p;
+            tokenPeekIntoParens = peekIntoParens;
+            tokenIgnoreHints = ignoreHints;
+            tokenDelimiter = delimiter;
+            tokenStart = start;
+            tokenEnd = end;
+        }
+    }
+
     private final boolean parseWhitespaceIf() {
         positionBeforeWhitespace = position();
         position(afterWhitespace(positionBeforeWhitespace));
@@ -13750,6 +14108,18 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     private final Locale                          locale;
     private final Meta                            meta;
     private char[]                                sql;
+    private Reader                                reader;
+    private long                                  offset;
+    private int                                   lineOffset;
+    private int                                   columnOffset;
+    private Query                                 pending;
+    private char[]                                tokenSql;
+    private int                                   tokenPosition          = -1;
+    private boolean                               tokenPeekIntoParens;
+    private boolean                               tokenIgnoreHints;
+    private String                                tokenDelimiter;
+    private int                                   tokenStart;
+    private int                                   tokenEnd;
     private final ParseWithMetaLookups            metaLookups;
     private boolean                               metaLookupsForceIgnore;
     private final Consumer<Param<?>>              bindParamListener;
@@ -13759,6 +14129,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     private final Object[]                        bindings;
     private int                                   bindIndex              = 0;
     private final Map<String, Param<?>>           bindParams             = new LinkedHashMap<>();
+    final Map<Param<?>, Integer>                  bindIndexes            = new IdentityHashMap<>();
     private String                                delimiter              = ";";
     private final ScopeStack<Name, Table<?>>      tableScope             = new ScopeStack<>(null);
     private final ScopeStack<Name, Field<?>>      fieldScope             = new ScopeStack<>(null);
@@ -13808,6 +14179,17 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         parseWhitespaceIf();
     }
 
+    DefaultParseContext(
+        DSLContext dsl,
+        Meta meta,
+        ParseWithMetaLookups metaLookups,
+        Reader reader
+    ) {
+        this(dsl, meta, metaLookups, null, EMPTY_OBJECT);
+
+        this.reader = reader;
+    }
+
     @Override
     public final SQLDialect parseDialect() {
         SQLDialect result = settings().getParseDialect();
@@ -13915,8 +14297,8 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     }
 
     private final ParserException init(ParserException e) {
-        int[] line = line();
-        return e.position(position).line(line[0]).column(line[1]);
+        int[] line = line(position);
+        return e.position((int) Math.min(Integer.MAX_VALUE, offset + position)).line(line[0]).column(line[1]);
     }
 
     private final Object nextBinding() {
@@ -13928,11 +14310,11 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
             throw exception("No binding provided for bind index " + bindIndex);
     }
 
-    private final int[] line() {
-        int line = 1;
-        int column = 1;
+    private final int[] line(int p) {
+        int line = 1 + lineOffset;
+        int column = 1 + columnOffset;
 
-        for (int i = 0; i < position; i++) {
+        for (int i = 0; i < p; i++) {
             if (sql[i] == '\r') {
                 line++;
                 column = 1;
@@ -14130,7 +14512,7 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
     }
 
     private final String mark() {
-        int[] line = line();
+        int[] line = line(position);
         return "[" + line[0] + ":" + line[1] + "] "
               + (position > 50 ? "..." : "")
               + substring(Math.max(0, position - 50), position)
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordType;
+import org.jooq.RecordUnmapper;
+import org.jooq.Table;
+
+/**
+ * A registry of code generated, reflection free {@link RecordMapper} and
+ * {@link RecordUnmapper} implementations for generated POJO types.
+ * <p>
+ * Generated tables register their mappers when they are initialised. The
+ * {@link DefaultRecordMapperProvider} and the
+ * {@link DefaultRecordUnmapperProvider} use a registered mapper only if the
+ * requested POJO type is exactly the registered type, and if the requested
+ * {@link RecordType} has the same field names and types as the registered
+ * table, in the same order. In all other cases, the reflection based
+ * {@link DefaultRecordMapper} and {@link DefaultRecordUnmapper} are used.
+ *
+ * @author Lukas Eder
+ */
+final class PojoMapperRegistry {
+
+    private static final Map<Class<?>, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    static final <R extends Record, P> void register(
+        Table<R> table,
+        Class<P> type,
+        RecordMapper<? super Record, ? extends P> mapper,
+        RecordUnmapper<? super P, ? extends R> unmapper
+    ) {
+        ENTRIES.put(type, new Entry(table.fields(), mapper, unmapper));
+    }
+
+    @SuppressWarnings("unchecked")
+    static final <R extends Record, E> RecordMapper<R, E> mapper(RecordType<R> rowType, Class<? extends E> type) {
+        Entry entry = ENTRIES.get(type);
+        return entry != null && entry.mapper != null && entry.matches(rowType) ? (RecordMapper<R, E>) entry.mapper : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static final <E, R extends Record> RecordUnmapper<E, R> unmapper(Class<? extends E> type, RecordType<R> rowType) {
+        Entry entry = ENTRIES.get(type);
+        return entry != null && entry.unmapper != null && entry.matches(rowType) ? (RecordUnmapper<E, R>) entry.unmapper : null;
+    }
+
+    private static final class Entry {
+        final Field<?>[]            fields;
+        final RecordMapper<?, ?>    mapper;
+        final RecordUnmapper<?, ?>  unmapper;
+
+        Entry(Field<?>[] fields, RecordMapper<?, ?> mapper, RecordUnmapper<?, ?> unmapper) {
+            this.fields = fields;
+            this.mapper = mapper;
+            this.unmapper = unmapper;
+        }
+
+        final boolean matches(RecordType<?> rowType) {
+            if (rowType.size() != fields.length)
+                return false;
+
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = rowType.field(i);
+
+                if (f.getType() != fields[i].getType() || !f.getName().equals(fields[i].getName()))
+                    return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jooq.Record;
+
+/**
+ * A registry of code generated, reflection free record constructors.
+ * <p>
+ * Generated tables and UDTs register constructor references to their records
+ * when they are initialised, such that jOOQ can create new records without
+ * looking up and calling their constructors reflectively. This is faster,
+ * and doesn't require any reflection configuration in native images. Record
+ * types that aren't registered are constructed reflectively.
+ *
+ * @author Lukas Eder
+ */
+final class RecordFactoryRegistry {
+
+    private static final Map<Class<?>, Supplier<?>> FACTORIES = new ConcurrentHashMap<>();
+
+    static final <R extends Record> void register(Class<R> type, Supplier<? extends R> factory) {
+        FACTORIES.put(type, factory);
+    }
+
+    /**
+     * Get the registered factory for a record type, or <code>null</code> if
+     * no such factory has been registered.
+     */
+    @SuppressWarnings("unchecked")
+    static final <R extends Record> Supplier<R> factory(Class<? extends R> type) {
+        return (Supplier<R>) FACTORIES.get(type);
+    }
+
+    /**
+     * Create a new record using the registered factory, or the record's no-arg
+     * constructor, if no factory has been registered.
+     */
+    static final <R extends Record> R newInstance(Class<R> type) throws ReflectiveOperationException {
+        Supplier<R> factory = factory(type);
+        return factory != null ? factory.get() : type.getDeclaredConstructor().newInstance();
+    }
+}
@@ -246,6 +246,28 @@ final class ScopeStack<K, V> implements Iterable<V> {
         trim();
     }
 
+    /**
+     * Create a copy of this stack, which can be used to {@link #restore(ScopeStack)}
+     * this stack's scopes later on.
+     */
+    final ScopeStack<K, V> copy() {
+        ScopeStack<K, V> result = new ScopeStack<>(constructor);
+        result.restore(this);
+        return result;
+    }
+
+    /**
+     * Replace the scopes of this stack by the scopes of another stack.
+     */
+    final void restore(ScopeStack<K, V> other) {
+        scopeLevel = other.scopeLevel;
+        stack = null;
+
+        if (other.stack != null)
+            for (Map.Entry<K, List<V>> entry : other.stack.entrySet())
+                stack().put(entry.getKey(), new ArrayList<>(entry.getValue()));
+    }
+
     @Override
     public String toString() {
         return stack().toString();
@@ -3115,6 +3115,10 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return !unionOp.isEmpty();
     }
 
+    final boolean hasDistinct() {
+        return distinct || Tools.isNotEmpty(distinctOn);
+    }
+
     private final boolean unionOpNesting() {
         if (unionOp.size() > 1)
             return true;
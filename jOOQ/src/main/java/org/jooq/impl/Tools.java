@@ -1200,6 +1200,12 @@ final class Tools {
 
         // Any generated record
         else {
+            Supplier<R> factory = RecordFactoryRegistry.factory(type);
+
+            // Code generated record constructor references don't need any reflection
+            if (factory != null)
+                return factory;
+
             try {
 
                 // [#919] Allow for accessing non-public constructors
@@ -5898,7 +5904,7 @@ final class Tools {
 
     private static final EmbeddableRecord<?> newInstance(Class<? extends EmbeddableRecord<?>> type) {
         try {
-            return type.getDeclaredConstructor().newInstance();
+            return RecordFactoryRegistry.newInstance(type);
         }
         catch (Exception e) {
             throw new MappingException("Cannot create EmbeddableRecord type", e);
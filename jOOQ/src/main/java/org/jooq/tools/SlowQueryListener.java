@@ -0,0 +1,255 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Explain;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListener;
+
+/**
+ * An {@link ExecuteListener} that runs {@link DSLContext#explain(org.jooq.Query)}
+ * on queries whose execution exceeds a threshold.
+ * <p>
+ * The slow query is rendered with inlined bind values on the executing thread,
+ * and then explained on a background thread, using a separate
+ * {@link Configuration}, which should provide its own JDBC connections, e.g.
+ * through a {@link javax.sql.DataSource}. The outcome is passed to a
+ * {@link Consumer}, which logs it by default.
+ * <p>
+ * Only {@link Select} statements are explained, as some dialects (e.g.
+ * {@link org.jooq.SQLDialect#H2}) execute the explained statement. This
+ * excludes other {@link org.jooq.ResultQuery} types, such as
+ * <code>DELETE .. RETURNING</code> or plain SQL queries, even if they fetch
+ * results like a <code>SELECT</code>. To limit the overhead on the database, at most
+ * <code>maxExplainsPerMinute</code> queries are explained, and queries are
+ * dropped while the background thread is busy with a backlog of pending
+ * queries. Dropped queries are logged, and don't count towards
+ * <code>maxExplainsPerMinute</code>.
+ * <p>
+ * The execution time is measured between
+ * {@link ExecuteListener#executeStart(ExecuteContext)} and
+ * {@link ExecuteListener#executeEnd(ExecuteContext)}, i.e. it does not include
+ * rendering, binding, or fetching.
+ *
+ * @author Lukas Eder
+ */
+public class SlowQueryListener extends DefaultExecuteListener {
+
+    private static final JooqLogger          log     = JooqLogger.getLogger(SlowQueryListener.class);
+    private static final String              START   = "org.jooq.tools.SlowQueryListener.START";
+    private static final int                 PENDING = 16;
+
+    private final Configuration              explainConfiguration;
+    private final long                       thresholdNanos;
+    private final int                        maxExplainsPerMinute;
+    private final Consumer<? super SlowQuery> consumer;
+    private final ThreadPoolExecutor         executor;
+    private long                             windowStart;
+    private int                              windowCount;
+
+    /**
+     * Create a listener that logs the plans of queries that take longer than
+     * <code>thresholdMillis</code>, explaining at most 10 queries per minute.
+     */
+    public SlowQueryListener(Configuration explainConfiguration, long thresholdMillis) {
+        this(explainConfiguration, thresholdMillis, TimeUnit.MILLISECONDS, 10, SlowQueryListener::log);
+    }
+
+    /**
+     * Create a listener that passes the plans of queries that take longer than
+     * <code>threshold</code> to a <code>consumer</code>.
+     */
+    public SlowQueryListener(
+        Configuration explainConfiguration,
+        long threshold,
+        TimeUnit unit,
+        int maxExplainsPerMinute,
+        Consumer<? super SlowQuery> consumer
+    ) {
+        this.explainConfiguration = explainConfiguration;
+        this.thresholdNanos = unit.toNanos(threshold);
+        this.maxExplainsPerMinute = maxExplainsPerMinute;
+        this.consumer = consumer;
+        this.executor = new ThreadPoolExecutor(
+            1, 1, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(PENDING),
+            r -> {
+                Thread thread = new Thread(r, "jooq-slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            },
+
+            // Queries that are dropped don't count towards the rate limit
+            (r, e) -> {
+                release();
+                log.info("Slow query", "Not explaining slow query, as too many slow queries are pending");
+            }
+        );
+
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(START, System.nanoTime());
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        Object start = ctx.data(START);
+
+        if (!(start instanceof Long) || !(ctx.query() instanceof Select))
+            return;
+
+        long nanos = System.nanoTime() - (Long) start;
+        if (nanos < thresholdNanos || !permit())
+            return;
+
+        // The query may be modified or reused after its execution, so the
+        // background thread only sees a snapshot of its SQL string
+        String sql = ctx.sql();
+        String inlined = ctx.dsl().renderInlined(ctx.query());
+        Instant timestamp = Instant.now();
+
+        executor.execute(() -> {
+            try {
+                Explain explain = explainConfiguration.dsl().explain(DSL.resultQuery(inlined));
+                consumer.accept(new SlowQuery(sql, inlined, timestamp, nanos, explain));
+            }
+            catch (RuntimeException e) {
+                log.info("Could not explain slow query", inlined, e);
+            }
+        });
+    }
+
+    private final synchronized boolean permit() {
+        long now = System.nanoTime();
+
+        if (windowCount == 0 || now - windowStart > TimeUnit.MINUTES.toNanos(1)) {
+            windowStart = now;
+            windowCount = 0;
+        }
+
+        return windowCount++ < maxExplainsPerMinute;
+    }
+
+    private final synchronized void release() {
+        if (windowCount > 0)
+            windowCount--;
+    }
+
+    private static final void log(SlowQuery query) {
+        log.info("Slow query", query);
+    }
+
+    /**
+     * A slow query and its plan.
+     */
+    public static final class SlowQuery {
+
+        private final String  sql;
+        private final String  inlinedSQL;
+        private final Instant timestamp;
+        private final long    executionNanos;
+        private final Explain explain;
+
+        SlowQuery(String sql, String inlinedSQL, Instant timestamp, long executionNanos, Explain explain) {
+            this.sql = sql;
+            this.inlinedSQL = inlinedSQL;
+            this.timestamp = timestamp;
+            this.executionNanos = executionNanos;
+            this.explain = explain;
+        }
+
+        /**
+         * The SQL string as it was executed, possibly with bind variable
+         * placeholders.
+         */
+        public final String sql() {
+            return sql;
+        }
+
+        /**
+         * The SQL string with inlined bind values, as it was explained.
+         */
+        public final String inlinedSQL() {
+            return inlinedSQL;
+        }
+
+        /**
+         * The time when the slow execution ended.
+         */
+        public final Instant timestamp() {
+            return timestamp;
+        }
+
+        /**
+         * The execution time in the given unit.
+         */
+        public final long executionTime(TimeUnit unit) {
+            return unit.convert(executionNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * The plan, including estimated rows and cost.
+         */
+        public final Explain explain() {
+            return explain;
+        }
+
+        @Override
+        public String toString() {
+            return "Executed in " + executionTime(TimeUnit.MILLISECONDS) + "ms at " + timestamp
+                + ", rows: " + explain.rows()
+                + ", cost: " + explain.cost()
+                + "\n" + inlinedSQL
+                + "\n" + explain.plan();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.exception.DataAccessException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class BatchBulkMergeTest {
+
+    private Connection connection;
+    private DSLContext ctx;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batch-bulk-merge-test");
+        ctx = DSL.using(connection, SQLDialect.H2);
+        ctx.execute("create table t (id int primary key, v varchar(10))");
+        ctx.execute("insert into t values (1, 'old'), (2, 'old')");
+        ctx.execute("create table u (id int primary key, v varchar(10) unique)");
+        ctx.execute("insert into u values (1, 'a')");
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        ctx.execute("drop table t");
+        ctx.execute("drop table u");
+        connection.close();
+    }
+
+    @Test
+    public void testMultipleRowsPerChunk() {
+        List<TRecord> records = new ArrayList<>();
+
+        for (int i = 1; i <= 7; i++) {
+            TRecord record = ctx.newRecord(T.T);
+            record.set(T.T.ID, i);
+            record.set(T.T.V, "new" + i);
+            records.add(record);
+        }
+
+        // Two full chunks of 3 records, and one remaining record
+        ctx.batchMerge(3, records).execute();
+
+        assertEquals(7, ctx.fetchCount(T.T));
+
+        for (int i = 1; i <= 7; i++)
+            assertEquals("new" + i, v(i));
+    }
+
+    @Test
+    public void testGroupsByChangedFields() {
+        TRecord r1 = ctx.newRecord(T.T);
+        r1.set(T.T.ID, 1);
+
+        TRecord r2 = ctx.newRecord(T.T);
+        r2.set(T.T.ID, 2);
+        r2.set(T.T.V, "new");
+
+        TRecord r3 = ctx.newRecord(T.T);
+        r3.set(T.T.ID, 3);
+
+        ctx.batchMerge(10, r1, r2, r3).execute();
+
+        assertEquals(3, ctx.fetchCount(T.T));
+        assertEquals("old", v(1));
+        assertEquals("new", v(2));
+        assertNull(v(3));
+    }
+
+    @Test
+    public void testDuplicateDetectionByPrimaryKeyOnly() {
+        URecord r1 = ctx.newRecord(U.U);
+        r1.set(U.U.ID, 1);
+        r1.set(U.U.V, "b");
+
+        URecord r2 = ctx.newRecord(U.U);
+        r2.set(U.U.ID, 2);
+        r2.set(U.U.V, "a");
+
+        // The MERGE emulation must not match the existing row by its unique
+        // key, so this is a new row, which violates the unique key
+        try {
+            ctx.batchMerge(10, r2).execute();
+            fail();
+        }
+        catch (DataAccessException expected) {}
+
+        r2.set(U.U.V, "c");
+        ctx.batchMerge(10, r1, r2).execute();
+
+        assertEquals(asList("b", "c"), ctx.fetchValues(select(U.U.V).from(U.U).orderBy(U.U.ID)));
+    }
+
+    private String v(int id) {
+        return ctx.fetchValue(select(T.T.V).from(T.T).where(T.T.ID.eq(id)));
+    }
+
+    public static class T extends TableImpl<TRecord> {
+
+        public static final T                   T  = new T();
+
+        public final TableField<TRecord, Integer> ID = createField(name("ID"), SQLDataType.INTEGER.nullable(false), this);
+        public final TableField<TRecord, String>  V  = createField(name("V"), SQLDataType.VARCHAR(10), this);
+
+        T() {
+            super(name("T"));
+        }
+
+        @Override
+        public Class<TRecord> getRecordType() {
+            return TRecord.class;
+        }
+
+        @Override
+        public UniqueKey<TRecord> getPrimaryKey() {
+            return Internal.createUniqueKey(this, ID);
+        }
+    }
+
+    public static class TRecord extends UpdatableRecordImpl<TRecord> {
+
+        public TRecord() {
+            super(T.T);
+        }
+    }
+
+    public static class U extends TableImpl<URecord> {
+
+        public static final U                   U  = new U();
+
+        public final TableField<URecord, Integer> ID = createField(name("ID"), SQLDataType.INTEGER.nullable(false), this);
+        public final TableField<URecord, String>  V  = createField(name("V"), SQLDataType.VARCHAR(10), this);
+
+        U() {
+            super(name("U"));
+        }
+
+        @Override
+        public Class<URecord> getRecordType() {
+            return URecord.class;
+        }
+
+        @Override
+        public UniqueKey<URecord> getPrimaryKey() {
+            return Internal.createUniqueKey(this, ID);
+        }
+
+        @Override
+        public List<UniqueKey<URecord>> getUniqueKeys() {
+            return asList(Internal.createUniqueKey(this, V));
+        }
+    }
+
+    public static class URecord extends UpdatableRecordImpl<URecord> {
+
+        public URecord() {
+            super(U.U);
+        }
+    }
+}
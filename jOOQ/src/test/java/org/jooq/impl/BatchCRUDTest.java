@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.name;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Identity;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.conf.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class BatchCRUDTest {
+
+    private Connection connection;
+    private DSLContext ctx;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batch-crud-test");
+        ctx = DSL.using(connection, SQLDialect.H2, new Settings().withReturnIdentityOnBatchStore(true));
+        ctx.execute("create table t (id int generated by default as identity primary key, v varchar(10))");
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        ctx.execute("drop table t");
+        connection.close();
+    }
+
+    @Test
+    public void testBatchInsertReturnsIdentities() {
+        List<TRecord> records = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            TRecord record = ctx.newRecord(T.T);
+            record.set(T.T.V, "v" + i);
+            records.add(record);
+        }
+
+        ctx.batchInsert(records).execute();
+
+        for (int i = 0; i < 5; i++)
+            assertEquals(ctx.fetchValue("select id from t where v = ?", "v" + i), records.get(i).get(T.T.ID));
+    }
+
+    @Test
+    public void testBatchStoreReturnsIdentities() {
+        List<TRecord> records = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            TRecord record = ctx.newRecord(T.T);
+            record.set(T.T.V, "v" + i);
+            records.add(record);
+        }
+
+        ctx.batchStore(records).execute();
+
+        for (int i = 0; i < 3; i++)
+            assertEquals(ctx.fetchValue("select id from t where v = ?", "v" + i), records.get(i).get(T.T.ID));
+    }
+
+    @Test
+    public void testBatchInsertWithoutSetting() {
+        TRecord record = ctx.newRecord(T.T);
+        record.set(T.T.V, "v");
+
+        DSL.using(connection, SQLDialect.H2).batchInsert(record).execute();
+        assertNull(record.get(T.T.ID));
+    }
+
+    public static class T extends TableImpl<TRecord> {
+
+        public static final T                   T  = new T();
+
+        public final TableField<TRecord, Integer> ID = createField(name("ID"), SQLDataType.INTEGER.identity(true), this);
+        public final TableField<TRecord, String>  V  = createField(name("V"), SQLDataType.VARCHAR(10), this);
+
+        T() {
+            super(name("T"));
+        }
+
+        @Override
+        public Class<TRecord> getRecordType() {
+            return TRecord.class;
+        }
+
+        @Override
+        public Identity<TRecord, ?> getIdentity() {
+            return Internal.createIdentity(this, ID);
+        }
+
+        @Override
+        public UniqueKey<TRecord> getPrimaryKey() {
+            return Internal.createUniqueKey(this, ID);
+        }
+    }
+
+    public static class TRecord extends UpdatableRecordImpl<TRecord> {
+
+        public TRecord() {
+            super(T.T);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.ContentType.INCREMENT;
+import static org.jooq.impl.Migrations.file;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.jooq.Commit;
+import org.jooq.DSLContext;
+import org.jooq.Meta;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class CommitImplTest {
+
+    private static DSLContext ctx(Settings settings) {
+        return DSL.using(SQLDialect.H2, settings);
+    }
+
+    private static Commit v1(DSLContext ctx, String content) {
+        return ctx.commit("init").commit("v1", file("v1/a.sql", content, INCREMENT));
+    }
+
+    @Test
+    public void testCacheHit() {
+        DSLContext ctx = ctx(new Settings());
+        Commit v1 = v1(ctx, "create table t (i int);");
+        Meta meta = v1.meta();
+
+        assertEquals(1, meta.getTables("T").size());
+        assertSame(meta, v1.meta());
+
+        // Equal commits share the same cached state
+        assertSame(meta, v1(ctx, "create table t (i int);").meta());
+    }
+
+    @Test
+    public void testCacheHitIncremental() {
+        DSLContext ctx = ctx(new Settings());
+        Commit v1 = v1(ctx, "create table t (i int);");
+        Commit v2 = v1.commit("v2", file("v2/b.sql", "create table u (i int);", INCREMENT));
+
+        Meta meta = v2.meta();
+        assertEquals(1, meta.getTables("T").size());
+        assertEquals(1, meta.getTables("U").size());
+        assertSame(meta, v2.meta());
+    }
+
+    @Test
+    public void testCacheMissOnChangedState() {
+        DSLContext ctx = ctx(new Settings());
+        Commit v1 = v1(ctx, "create table t (i int);");
+        Meta meta = v1.meta();
+
+        // A different content with the same commit ID and path
+        Meta other = v1(ctx, "create table u (i int);").meta();
+        assertNotSame(meta, other);
+        assertEquals(0, other.getTables("T").size());
+        assertEquals(1, other.getTables("U").size());
+
+        // The same commit ID and content with a different history
+        Commit v0 = ctx.commit("init").commit("v0", file("v0/x.sql", "create table x (i int);", INCREMENT));
+        Meta child = v0.commit("v1", file("v1/a.sql", "create table t (i int);", INCREMENT)).meta();
+        assertNotSame(meta, child);
+        assertEquals(1, child.getTables("X").size());
+        assertEquals(1, child.getTables("T").size());
+
+        assertSame(meta, v1.meta());
+    }
+
+    @Test
+    public void testLRUEviction() {
+        // The parent commit's state, on which the others are interpreted
+        // incrementally, is cached as well
+        DSLContext ctx = ctx(new Settings().withCacheMigrationStatesLRUCacheSize(3));
+        Commit c1 = v1(ctx, "create table t1 (i int);");
+        Commit c2 = v1(ctx, "create table t2 (i int);");
+        Commit c3 = v1(ctx, "create table t3 (i int);");
+
+        Meta m1 = c1.meta();
+        Meta m2 = c2.meta();
+        assertSame(m1, c1.meta());
+
+        // c1 was accessed more recently than c2, so c2 is evicted
+        Meta m3 = c3.meta();
+        assertSame(m1, c1.meta());
+        assertSame(m3, c3.meta());
+
+        Meta m2Again = c2.meta();
+        assertNotSame(m2, m2Again);
+        assertEquals(1, m2Again.getTables("T2").size());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        DSLContext ctx = ctx(new Settings().withCacheMigrationStates(false));
+        Commit v1 = v1(ctx, "create table t (i int);");
+
+        assertNotSame(v1.meta(), v1.meta());
+    }
+
+    @Test
+    public void testCacheDirectory() throws Exception {
+        Path directory = Files.createTempDirectory("jooq-migration-states");
+
+        try {
+            Settings settings = new Settings().withMigrationStateCacheDirectory(directory.toString());
+            Meta meta = v1(ctx(settings), "create table t (i int);").meta();
+
+            try (Stream<Path> files = Files.list(directory)) {
+                assertTrue(files.anyMatch(p -> p.toString().endsWith(".sql")));
+            }
+
+            // A new configuration has an empty in-memory cache, but reads the
+            // state from the directory
+            Meta read = v1(ctx(settings), "create table t (i int);").meta();
+            assertNotSame(meta, read);
+            assertEquals(meta.ddl().toString(), read.ddl().toString());
+        }
+        finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+}
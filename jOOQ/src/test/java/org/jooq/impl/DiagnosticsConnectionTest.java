@@ -0,0 +1,320 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DiagnosticsConnection.DUPLICATE_SQL;
+import static org.jooq.impl.DiagnosticsConnection.DUP_STRIPES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.Configuration;
+import org.jooq.DiagnosticsContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class DiagnosticsConnectionTest {
+
+    private Connection connection;
+    private Listener   listener;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:diagnostics-connection-test");
+        connection.createStatement().execute("create table t (a int)");
+        listener = new Listener();
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        connection.createStatement().execute("drop table t");
+        connection.close();
+    }
+
+    private final Configuration configuration(Settings settings) {
+        return new DefaultConfiguration()
+            .set(connection)
+            .set(SQLDialect.H2)
+            .set(settings)
+            .set(listener);
+    }
+
+    /**
+     * A SQL string that has not been analysed by any other test, as the
+     * duplicate statements are tracked globally.
+     */
+    private final String sql(String test, int i, int value) {
+        return "select a as " + test + "_" + i + " from t where a = " + value;
+    }
+
+    private static final void execute(Connection c, String sql) throws SQLException {
+        try (PreparedStatement s = c.prepareStatement(sql)) {
+            s.executeQuery().close();
+        }
+    }
+
+    @Test
+    public void testSamplingRateZero() throws SQLException {
+        try (Connection c = DSL.using(configuration(new Settings().withDiagnosticsSamplingRate(0))).diagnosticsConnection()) {
+            for (int i = 0; i < 100; i++)
+                execute(c, sql("sampling_zero", 0, 1));
+        }
+
+        assertEquals(0, listener.repeated.get());
+        assertEquals(0, listener.duplicates.get());
+    }
+
+    @Test
+    public void testSamplingRateHundred() throws SQLException {
+        try (Connection c = DSL.using(configuration(new Settings().withDiagnosticsSamplingRate(100))).diagnosticsConnection()) {
+            for (int i = 0; i < 100; i++)
+                execute(c, sql("sampling_hundred", 0, 1));
+        }
+
+        assertEquals(99, listener.repeated.get());
+    }
+
+    @Test
+    public void testSamplingRatePartial() throws SQLException {
+        try (Connection c = DSL.using(configuration(new Settings().withDiagnosticsSamplingRate(50))).diagnosticsConnection()) {
+            for (int i = 0; i < 2000; i++)
+                execute(c, sql("sampling_partial", 0, 1));
+        }
+
+        // About half of the executions are analysed
+        int repeated = listener.repeated.get();
+        assertTrue("" + repeated, repeated > 700 && repeated < 1300);
+    }
+
+    @Test
+    public void testDuplicatesAcrossStripes() throws SQLException {
+        int n = 200;
+
+        try (Connection c = DSL.using(configuration(new Settings())).diagnosticsConnection()) {
+            for (int i = 0; i < n; i++) {
+                execute(c, sql("stripes", i, 1));
+                execute(c, sql("stripes", i, 2));
+            }
+        }
+
+        assertEquals(n, listener.duplicates.get());
+
+        Set<Integer> stripes = new HashSet<>();
+        for (String normalised : listener.normalised) {
+            int stripe = (normalised.hashCode() & Integer.MAX_VALUE) % DUP_STRIPES;
+            stripes.add(stripe);
+
+            synchronized (DUPLICATE_SQL[stripe]) {
+                assertEquals(2, DUPLICATE_SQL[stripe].get(normalised).size());
+            }
+        }
+
+        assertEquals(n, listener.normalised.size());
+        assertEquals(DUP_STRIPES, stripes.size());
+    }
+
+    @Test
+    public void testDuplicatesConcurrently() throws Exception {
+        int threads = 8;
+        int n = 100;
+        Configuration configuration = configuration(new Settings());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+
+                futures.add(executor.submit(() -> {
+                    try (Connection c = DSL.using(configuration).diagnosticsConnection()) {
+                        for (int i = 0; i < n; i++) {
+                            execute(c, sql("concurrent_" + thread, i, 1));
+                            execute(c, sql("concurrent_" + thread, i, 2));
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * n, listener.duplicates.get());
+    }
+
+    @Test
+    public void testAsynchronous() throws Exception {
+        listener.latch = new CountDownLatch(9);
+
+        try (Connection c = DSL.using(configuration(new Settings().withDiagnosticsAsynchronous(true))).diagnosticsConnection()) {
+            for (int i = 0; i < 10; i++)
+                execute(c, sql("asynchronous", 0, 1));
+
+            assertTrue(listener.latch.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(9, listener.repeated.get());
+        assertEquals(1, listener.threads.size());
+        assertTrue(listener.threads.contains("jooq-diagnostics-analyser"));
+    }
+
+    @Test
+    public void testBatchedStatement() throws SQLException {
+        assertEquals("select A from T where A in (1, 2, 3, 4)", batched("select a from t where a = ?", 1, 2, 3, 4));
+    }
+
+    @Test
+    public void testBatchedStatementWithBindValueOnLeftHandSide() throws SQLException {
+        assertEquals("select A from T where A in (1, 2, 3, 4)", batched("select a from t where ? = a", 1, 2, 3, 4));
+    }
+
+    @Test
+    public void testBatchedStatementWithDuplicateBindValues() throws SQLException {
+        assertEquals("select A from T where A in (1, 2)", batched("select a from t where a = ?", 1, 2, 1, 2));
+    }
+
+    @Test
+    public void testBatchedStatementWithDistinctAndOrderBy() throws SQLException {
+        assertEquals("select distinct A from T where A in (1, 2, 3, 4) order by A desc", batched("select distinct a from t where a = ? order by a desc", 1, 2, 3, 4));
+    }
+
+    @Test
+    public void testBatchedStatementNotDerivable() throws SQLException {
+        assertNull(batched("select a from t where a = ? and a > 0", 1, 2, 3, 4));
+        assertNull(batched("select a from t where a > ?", 1, 2, 3, 4));
+        assertNull(batched("select a from t where a = ? group by a", 1, 2, 3, 4));
+        assertNull(batched("select a from t where a = ? limit 1", 1, 2, 3, 4));
+        assertNull(batched("select count(*) from t where a = ?", 1, 2, 3, 4));
+        assertNull(batched("select count(*) + 1 as c from t where a = ?", 1, 2, 3, 4));
+        assertNull(batched("select count(*) over () from t where a = ?", 1, 2, 3, 4));
+        assertNull(batched("select row_number() over (order by a) from t where a = ?", 1, 2, 3, 4));
+        assertNull(batched("with u as (select a from t) select a from u where a = ?", 1, 2, 3, 4));
+        assertNull(batched("update t set a = a where a = ?", 1, 2, 3, 4));
+    }
+
+    /**
+     * Execute a statement once per bind value in a transaction, and return the
+     * batched statement of the reported N+1 problem.
+     */
+    private final String batched(String sql, int... values) throws SQLException {
+        listener.nPlusOne.clear();
+
+        try (Connection c = DSL.using(configuration(new Settings().withDiagnosticsNPlusOneThreshold(values.length - 1))).diagnosticsConnection()) {
+            c.setAutoCommit(false);
+
+            for (int value : values) {
+                try (PreparedStatement s = c.prepareStatement(sql)) {
+                    s.setInt(1, value);
+                    s.execute();
+                }
+            }
+
+            c.rollback();
+        }
+        finally {
+            connection.setAutoCommit(true);
+        }
+
+        assertEquals(1, listener.nPlusOne.size());
+        assertEquals(values.length, listener.nPlusOne.get(0).repeatedStatementBindValues().size());
+        return listener.nPlusOne.get(0).batchedStatement();
+    }
+
+    static class Listener extends DefaultDiagnosticsListener {
+        final AtomicInteger     repeated   = new AtomicInteger();
+        final AtomicInteger     duplicates = new AtomicInteger();
+        final List<String>      normalised = new ArrayList<>();
+        final Set<String>       threads    = new HashSet<>();
+        final List<DiagnosticsContext> nPlusOne = new ArrayList<>();
+        volatile CountDownLatch latch;
+
+        @Override
+        public void repeatedStatements(DiagnosticsContext ctx) {
+            repeated.incrementAndGet();
+
+            synchronized (threads) {
+                threads.add(Thread.currentThread().getName());
+            }
+
+            if (latch != null)
+                latch.countDown();
+        }
+
+        @Override
+        public void nPlusOneStatements(DiagnosticsContext ctx) {
+            nPlusOne.add(ctx);
+        }
+
+        @Override
+        public void duplicateStatements(DiagnosticsContext ctx) {
+            duplicates.incrementAndGet();
+
+            synchronized (normalised) {
+                normalised.add(ctx.normalisedStatement());
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.jooq.Meta;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class DiffTest {
+
+    private static final int N = 1000;
+
+    @Test(timeout = 60000)
+    public void testLargeDiff() {
+        DSLContext ctx = DSL.using(SQLDialect.H2);
+        StringBuilder s1 = new StringBuilder();
+        StringBuilder s2 = new StringBuilder();
+        int added = 0;
+
+        for (int i = 0; i < N; i++) {
+            s1.append("create table t").append(i).append(" (id int primary key, v int);");
+            s1.append("create table u").append(i).append(" (id int primary key, t_id int, constraint fk").append(i)
+              .append(" foreign key (t_id) references t").append(i).append(");");
+
+            // Every 10th referenced table is dropped, along with its FK
+            if (i % 10 == 0) {
+                s2.append("create table u").append(i).append(" (id int primary key, t_id int);");
+                s2.append("create table n").append(i).append(" (id int primary key);");
+            }
+            else {
+                if (i % 7 == 0)
+                    added++;
+
+                s2.append("create table t").append(i).append(" (id int primary key, v int")
+                  .append(i % 7 == 0 ? ", w int" : "").append(");");
+                s2.append("create table u").append(i).append(" (id int primary key, t_id int, constraint fk").append(i)
+                  .append(" foreign key (t_id) references t").append(i).append(");");
+            }
+        }
+
+        Meta m1 = ctx.meta(s1.toString());
+        Meta m2 = ctx.meta(s2.toString());
+        Queries migration = m1.migrateTo(m2);
+
+        Map<String, Integer> counts = new HashMap<>();
+        List<String> dropped = new ArrayList<>();
+
+        for (Query query : migration.queries()) {
+            String sql = ctx.render(query).toLowerCase();
+
+            if (sql.startsWith("drop table"))
+                dropped.add(sql);
+
+            String type =
+                  sql.startsWith("drop table") ? "drop table"
+                : sql.startsWith("create table") ? "create table"
+                : sql.contains("drop constraint") ? "drop constraint"
+                : sql.contains("add w") ? "add column"
+                : sql;
+
+            counts.merge(type, 1, Integer::sum);
+        }
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("drop table", N / 10);
+        expected.put("create table", N / 10);
+        expected.put("drop constraint", N / 10);
+        expected.put("add column", added);
+        assertEquals(expected, counts);
+
+        // Objects are processed in the order of their names
+        List<String> sorted = new ArrayList<>(dropped);
+        Collections.sort(sorted);
+        assertEquals(sorted, dropped);
+
+        // Applying the migration yields the target schema
+        assertEquals(0, m1.apply(migration).migrateTo(m2).queries().length);
+    }
+}
@@ -0,0 +1,508 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.jooq.Explain;
+import org.jooq.ExplainNode;
+import org.jooq.SQLDialect;
+
+import org.junit.Test;
+
+/**
+ * Tests parsing <code>EXPLAIN</code> output of the supported dialects,
+ * produced for the schema
+ * <p>
+ * <code><pre>
+ * create table author (id int primary key, last_name varchar(50));
+ * create table book (id int primary key, author_id int references author, title varchar(50));
+ * create index i_book_title on book (title);
+ * </pre></code>
+ *
+ * @author Lukas Eder
+ */
+public class ExplainParserTest {
+
+    // -------------------------------------------------------------------------
+    // H2
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testH2Index() {
+        ExplainNode root = ExplainParser.h2(
+            "SELECT\n"
+          + "    \"PUBLIC\".\"BOOK\".\"ID\",\n"
+          + "    \"PUBLIC\".\"BOOK\".\"AUTHOR_ID\",\n"
+          + "    \"PUBLIC\".\"BOOK\".\"TITLE\"\n"
+          + "FROM \"PUBLIC\".\"BOOK\"\n"
+          + "    /* PUBLIC.I_BOOK_TITLE: TITLE = 'x' */\n"
+          + "    /* scanCount: 1 */\n"
+          + "WHERE \"TITLE\" = 'x'\n"
+        );
+
+        assertEquals(ExplainParser.ROOT, root.operation());
+        assertEquals(1, root.children().size());
+        assertNode(root.children().get(0), "FROM", "PUBLIC.BOOK", "I_BOOK_TITLE", false, 1.0);
+    }
+
+    @Test
+    public void testH2Join() {
+        ExplainNode root = ExplainParser.h2(
+            "SELECT\n"
+          + "    \"A\".\"ID\",\n"
+          + "    \"A\".\"LAST_NAME\",\n"
+          + "    \"B\".\"ID\",\n"
+          + "    \"B\".\"AUTHOR_ID\",\n"
+          + "    \"B\".\"TITLE\"\n"
+          + "FROM \"PUBLIC\".\"BOOK\" \"B\"\n"
+          + "    /* PUBLIC.BOOK.tableScan */\n"
+          + "    /* scanCount: 4 */\n"
+          + "INNER JOIN \"PUBLIC\".\"AUTHOR\" \"A\"\n"
+          + "    /* PUBLIC.PRIMARY_KEY_7: ID = B.AUTHOR_ID */\n"
+          + "    ON 1=1\n"
+          + "    /* scanCount: 6 */\n"
+          + "WHERE (\"A\".\"LAST_NAME\" = 'Orwell')\n"
+          + "    AND (\"A\".\"ID\" = \"B\".\"AUTHOR_ID\")\n"
+        );
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "FROM", "PUBLIC.BOOK", null, true, 4.0);
+        assertNode(root.children().get(1), "INNER JOIN", "PUBLIC.AUTHOR", "PRIMARY_KEY_7", false, 6.0);
+    }
+
+    @Test
+    public void testH2Subquery() {
+        ExplainNode root = ExplainParser.h2(
+            "SELECT\n"
+          + "    \"PUBLIC\".\"AUTHOR\".\"ID\",\n"
+          + "    \"PUBLIC\".\"AUTHOR\".\"LAST_NAME\"\n"
+          + "FROM \"PUBLIC\".\"AUTHOR\"\n"
+          + "    /* PUBLIC.PRIMARY_KEY_7: ID IN(SELECT DISTINCT\n"
+          + "        AUTHOR_ID\n"
+          + "    FROM PUBLIC.BOOK\n"
+          + "        /* PUBLIC.CONSTRAINT_INDEX_1 */\n"
+          + "        /* scanCount: 4 */)\n"
+          + "     */\n"
+          + "    /* scanCount: 3 */\n"
+          + "WHERE \"ID\" IN(    SELECT DISTINCT\n"
+          + "        \"AUTHOR_ID\"\n"
+          + "    FROM \"PUBLIC\".\"BOOK\"\n"
+          + "        /* PUBLIC.CONSTRAINT_INDEX_1 */\n"
+          + "        /* scanCount: 4 */)\n"
+        );
+
+        assertEquals(1, root.children().size());
+        assertNode(root.children().get(0), "FROM", "PUBLIC.AUTHOR", "PRIMARY_KEY_7", false, 3.0);
+    }
+
+    @Test
+    public void testH2DerivedTable() {
+        ExplainNode root = ExplainParser.h2(
+            "SELECT\n"
+          + "    \"X\".\"C\",\n"
+          + "    \"A\".\"LAST_NAME\"\n"
+          + "FROM (\n"
+          + "    SELECT\n"
+          + "        \"AUTHOR_ID\",\n"
+          + "        COUNT(*) AS \"C\"\n"
+          + "    FROM \"PUBLIC\".\"BOOK\"\n"
+          + "    GROUP BY \"AUTHOR_ID\"\n"
+          + ") \"X\"\n"
+          + "    /* SELECT\n"
+          + "        AUTHOR_ID,\n"
+          + "        COUNT(*) AS C\n"
+          + "    FROM PUBLIC.BOOK\n"
+          + "        /* PUBLIC.CONSTRAINT_INDEX_1 */\n"
+          + "        /* scanCount: 4 */\n"
+          + "    GROUP BY AUTHOR_ID\n"
+          + "    /* group sorted */\n"
+          + "     */\n"
+          + "    /* scanCount: 3 */\n"
+          + "LEFT OUTER JOIN \"PUBLIC\".\"AUTHOR\" \"A\"\n"
+          + "    /* PUBLIC.PRIMARY_KEY_7: ID = X.AUTHOR_ID */\n"
+          + "    ON \"A\".\"ID\" = \"X\".\"AUTHOR_ID\"\n"
+          + "    /* scanCount: 4 */\n"
+        );
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "FROM", null, null, false, 3.0);
+        assertNode(root.children().get(1), "LEFT OUTER JOIN", "PUBLIC.AUTHOR", "PRIMARY_KEY_7", false, 4.0);
+    }
+
+    @Test
+    public void testH2Explain() throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:h2:mem:explainParserTest")) {
+            DSLContext ctx = DSL.using(c, SQLDialect.H2);
+
+            ctx.execute("create table author (id int primary key, last_name varchar(50))");
+            ctx.execute("create table book (id int primary key, author_id int references author, title varchar(50))");
+            ctx.execute("insert into author values (1, 'Orwell'), (2, 'Coelho')");
+            ctx.execute("insert into book values (1, 1, '1984'), (2, 1, 'Animal Farm'), (3, 2, 'O Alquimista')");
+
+            Explain explain = ctx.explain(ctx.parser().parseQuery(
+                "select * from book b join author a on a.id = b.author_id where a.last_name = 'Orwell'"));
+
+            assertEquals(2, explain.root().children().size());
+
+            for (ExplainNode node : explain.root().children())
+                assertTrue(node.toString(), "PUBLIC.BOOK".equals(node.table()) || "PUBLIC.AUTHOR".equals(node.table()));
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // HSQLDB
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testHSQLDBJoin() {
+        ExplainNode root = ExplainParser.hsqldb(
+            "isDistinctSelect=[false]\n"
+          + "isGrouped=[false]\n"
+          + "isAggregated=[false]\n"
+          + "columns=[  COLUMN: PUBLIC.BOOK.ID not nullable\n"
+          + "  COLUMN: PUBLIC.BOOK.TITLE nullable\n"
+          + "  COLUMN: PUBLIC.AUTHOR.LAST_NAME nullable\n"
+          + "\n"
+          + "]\n"
+          + "[range variable 1\n"
+          + "  join type=INNER\n"
+          + "  table=BOOK\n"
+          + "  alias=B\n"
+          + "  cardinality=3\n"
+          + "  access=FULL SCAN\n"
+          + "  join condition = [index=SYS_IDX_SYS_PK_10093\n"
+          + "  ]\n"
+          + "  ]\n"
+          + "[range variable 2\n"
+          + "  join type=INNER\n"
+          + "  table=AUTHOR\n"
+          + "  alias=A\n"
+          + "  cardinality=2\n"
+          + "  access=INDEX PRED\n"
+          + "  join condition = [index=SYS_IDX_SYS_PK_10092\n"
+          + "    start conditions=[\n"
+          + "    EQUAL arg_left=[ COLUMN: PUBLIC.AUTHOR.ID\n"
+          + "] arg_right=[ COLUMN: PUBLIC.BOOK.AUTHOR_ID\n"
+          + "]]\n"
+          + "    end condition=[\n"
+          + "    EQUAL arg_left=[ COLUMN: PUBLIC.AUTHOR.ID\n"
+          + "] arg_right=[ COLUMN: PUBLIC.BOOK.AUTHOR_ID\n"
+          + "]]\n"
+          + "  ]\n"
+          + "  ]]\n"
+          + "PARAMETERS=[]\n"
+          + "SUBQUERIES[]\n"
+        );
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "FULL SCAN", "BOOK", null, true, 3.0);
+        assertNode(root.children().get(1), "INDEX PRED", "AUTHOR", "SYS_IDX_SYS_PK_10092", false, 2.0);
+    }
+
+    // -------------------------------------------------------------------------
+    // PostgreSQL
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testPostgresText() {
+        ExplainNode root = ExplainParser.postgres(
+            "Hash Join  (cost=1.07..2.14 rows=1 width=190)\n"
+          + "  Hash Cond: (b.author_id = a.id)\n"
+          + "  ->  Seq Scan on book b  (cost=0.00..1.03 rows=3 width=72)\n"
+          + "  ->  Hash  (cost=1.06..1.06 rows=1 width=118)\n"
+          + "        ->  Seq Scan on author a  (cost=0.00..1.06 rows=1 width=118)\n"
+          + "              Filter: ((last_name)::text = 'Orwell'::text)\n"
+        );
+
+        assertNode(root, "Hash Join", null, null, false, 1.0);
+        assertEquals(2.14, root.cost(), 0.0);
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "Seq Scan", "book", null, true, 3.0);
+        assertNode(root.children().get(1), "Hash", null, null, false, 1.0);
+        assertEquals(1, root.children().get(1).children().size());
+        assertNode(root.children().get(1).children().get(0), "Seq Scan", "author", null, true, 1.0);
+    }
+
+    @Test
+    public void testPostgresTextIndex() {
+        ExplainNode root = ExplainParser.postgres(
+            "Index Scan using author_pkey on author  (cost=0.15..8.17 rows=1 width=122)\n"
+          + "  Index Cond: (id = 1)\n"
+        );
+
+        assertNode(root, "Index Scan", "author", "author_pkey", false, 1.0);
+        assertEquals(8.17, root.cost(), 0.0);
+        assertTrue(root.children().isEmpty());
+    }
+
+    @Test
+    public void testPostgresTextBitmap() {
+        ExplainNode root = ExplainParser.postgres(
+            "Bitmap Heap Scan on book  (cost=4.18..12.64 rows=4 width=126)\n"
+          + "  Recheck Cond: ((title)::text = 'x'::text)\n"
+          + "  ->  Bitmap Index Scan on i_book_title  (cost=0.00..4.18 rows=4 width=0)\n"
+          + "        Index Cond: ((title)::text = 'x'::text)\n"
+        );
+
+        assertNode(root, "Bitmap Heap Scan", "book", null, false, 4.0);
+        assertEquals(1, root.children().size());
+        assertNode(root.children().get(0), "Bitmap Index Scan", null, "i_book_title", false, 4.0);
+    }
+
+    @Test
+    public void testPostgresJSON() {
+        ExplainNode root = ExplainParser.postgres(
+            "[\n"
+          + "  {\n"
+          + "    \"Plan\": {\n"
+          + "      \"Node Type\": \"Hash Join\",\n"
+          + "      \"Parallel Aware\": false,\n"
+          + "      \"Async Capable\": false,\n"
+          + "      \"Join Type\": \"Inner\",\n"
+          + "      \"Startup Cost\": 1.07,\n"
+          + "      \"Total Cost\": 2.14,\n"
+          + "      \"Plan Rows\": 1,\n"
+          + "      \"Plan Width\": 190,\n"
+          + "      \"Inner Unique\": true,\n"
+          + "      \"Hash Cond\": \"(b.author_id = a.id)\",\n"
+          + "      \"Plans\": [\n"
+          + "        {\n"
+          + "          \"Node Type\": \"Seq Scan\",\n"
+          + "          \"Parent Relationship\": \"Outer\",\n"
+          + "          \"Parallel Aware\": false,\n"
+          + "          \"Async Capable\": false,\n"
+          + "          \"Relation Name\": \"book\",\n"
+          + "          \"Alias\": \"b\",\n"
+          + "          \"Startup Cost\": 0.00,\n"
+          + "          \"Total Cost\": 1.03,\n"
+          + "          \"Plan Rows\": 3,\n"
+          + "          \"Plan Width\": 72\n"
+          + "        },\n"
+          + "        {\n"
+          + "          \"Node Type\": \"Hash\",\n"
+          + "          \"Parent Relationship\": \"Inner\",\n"
+          + "          \"Parallel Aware\": false,\n"
+          + "          \"Async Capable\": false,\n"
+          + "          \"Startup Cost\": 1.06,\n"
+          + "          \"Total Cost\": 1.06,\n"
+          + "          \"Plan Rows\": 1,\n"
+          + "          \"Plan Width\": 118,\n"
+          + "          \"Plans\": [\n"
+          + "            {\n"
+          + "              \"Node Type\": \"Index Scan\",\n"
+          + "              \"Parent Relationship\": \"Outer\",\n"
+          + "              \"Parallel Aware\": false,\n"
+          + "              \"Async Capable\": false,\n"
+          + "              \"Scan Direction\": \"Forward\",\n"
+          + "              \"Index Name\": \"author_pkey\",\n"
+          + "              \"Relation Name\": \"author\",\n"
+          + "              \"Alias\": \"a\",\n"
+          + "              \"Startup Cost\": 0.15,\n"
+          + "              \"Total Cost\": 1.06,\n"
+          + "              \"Plan Rows\": 1,\n"
+          + "              \"Plan Width\": 118,\n"
+          + "              \"Index Cond\": \"(id = 1)\"\n"
+          + "            }\n"
+          + "          ]\n"
+          + "        }\n"
+          + "      ]\n"
+          + "    }\n"
+          + "  }\n"
+          + "]\n"
+        );
+
+        assertNode(root, "Hash Join", null, null, false, 1.0);
+        assertEquals(2.14, root.cost(), 0.0);
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "Seq Scan", "book", null, true, 3.0);
+        assertNode(root.children().get(1), "Hash", null, null, false, 1.0);
+        assertNode(root.children().get(1).children().get(0), "Index Scan", "author", "author_pkey", false, 1.0);
+    }
+
+    // -------------------------------------------------------------------------
+    // MySQL
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testMySQLJoin() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(mysql(1L, "SIMPLE", "a", "ALL", "PRIMARY", null, null, null, 2L, 50.0, "Using where"));
+        rows.add(mysql(1L, "SIMPLE", "b", "ref", "author_id", "author_id", "5", "test.a.id", 1L, 100.0, null));
+
+        ExplainNode root = ExplainParser.mysql(rows);
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "ALL", "a", null, true, 2.0);
+        assertNode(root.children().get(1), "ref", "b", "author_id", false, 1.0);
+    }
+
+    @Test
+    public void testMySQLConst() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(mysql(1L, "SIMPLE", "author", "const", "PRIMARY", "PRIMARY", "4", "const", 1L, 100.0, null));
+
+        ExplainNode root = ExplainParser.mysql(rows);
+
+        assertEquals(1, root.children().size());
+        assertNode(root.children().get(0), "const", "author", "PRIMARY", false, 1.0);
+    }
+
+    // -------------------------------------------------------------------------
+    // SQLite
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testSQLiteJoin() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(sqlite(3, 0, "SCAN b"));
+        rows.add(sqlite(5, 0, "SEARCH a USING INTEGER PRIMARY KEY (rowid=?)"));
+
+        ExplainNode root = ExplainParser.sqlite(rows);
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "SCAN", "b", null, true, Double.NaN);
+        assertNode(root.children().get(1), "SEARCH", "a", "INTEGER PRIMARY KEY", false, Double.NaN);
+    }
+
+    @Test
+    public void testSQLiteLegacyFormat() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(sqliteLegacy(0, 0, 0, "SEARCH TABLE book AS b USING COVERING INDEX i_book_title (title=?)"));
+        rows.add(sqliteLegacy(0, 1, 1, "SCAN TABLE author AS a"));
+
+        ExplainNode root = ExplainParser.sqlite(rows);
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "SEARCH", "book", "i_book_title", false, Double.NaN);
+        assertNode(root.children().get(1), "SCAN", "author", null, true, Double.NaN);
+    }
+
+    @Test
+    public void testSQLiteSubquery() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(sqlite(2, 0, "SEARCH author USING INTEGER PRIMARY KEY (rowid=?)"));
+        rows.add(sqlite(4, 0, "LIST SUBQUERY 1"));
+        rows.add(sqlite(6, 4, "SCAN book"));
+
+        ExplainNode root = ExplainParser.sqlite(rows);
+
+        assertEquals(2, root.children().size());
+        assertNode(root.children().get(0), "SEARCH", "author", "INTEGER PRIMARY KEY", false, Double.NaN);
+        assertEquals("LIST SUBQUERY 1", root.children().get(1).operation());
+        assertEquals(1, root.children().get(1).children().size());
+        assertNode(root.children().get(1).children().get(0), "SCAN", "book", null, true, Double.NaN);
+    }
+
+    // -------------------------------------------------------------------------
+    // Unparseable plans
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testUnparseable() {
+        assertTrue(ExplainParser.h2("").children().isEmpty());
+        assertTrue(ExplainParser.hsqldb("garbage").children().isEmpty());
+        assertEquals(ExplainParser.ROOT, ExplainParser.postgres("[ { \"Plan\": ").operation());
+        assertTrue(ExplainParser.postgres("garbage").children().isEmpty());
+    }
+
+    private static final void assertNode(ExplainNode node, String operation, String table, String index, boolean fullScan, double rows) {
+        assertEquals(node.toString(), operation, node.operation());
+        assertEquals(node.toString(), table, node.table());
+        assertEquals(node.toString(), index, node.index());
+        assertEquals(node.toString(), fullScan, node.fullScan());
+        assertEquals(node.toString(), rows, node.rows(), 0.0);
+    }
+
+    private static final Map<String, Object> mysql(
+        Long id,
+        String selectType,
+        String table,
+        String type,
+        String possibleKeys,
+        String key,
+        String keyLen,
+        String ref,
+        Long rows,
+        Double filtered,
+        String extra
+    ) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("select_type", selectType);
+        result.put("table", table);
+        result.put("partitions", null);
+        result.put("type", type);
+        result.put("possible_keys", possibleKeys);
+        result.put("key", key);
+        result.put("key_len", keyLen);
+        result.put("ref", ref);
+        result.put("rows", rows);
+        result.put("filtered", filtered);
+        result.put("Extra", extra);
+        return result;
+    }
+
+    private static final Map<String, Object> sqlite(int id, int parent, String detail) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("parent", parent);
+        result.put("notused", 0);
+        result.put("detail", detail);
+        return result;
+    }
+
+    private static final Map<String, Object> sqliteLegacy(int selectId, int order, int from, String detail) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("selectid", selectId);
+        result.put("order", order);
+        result.put("from", from);
+        result.put("detail", detail);
+        return result;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.falseCondition;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Page;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class FetchPageTest {
+
+    private static final Table<Record>   BOOK      = table(name("BOOK"));
+    private static final Field<Integer>  ID        = field(name("BOOK", "ID"), int.class);
+    private static final Field<Integer>  AUTHOR_ID = field(name("BOOK", "AUTHOR_ID"), int.class);
+    private static final Field<String>   TITLE     = field(name("BOOK", "TITLE"), String.class);
+
+    private Connection                   connection;
+    private DSLContext                   ctx;
+    private List<String>                 executed;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:fetchPageTest");
+        executed = new ArrayList<>();
+        ctx = DSL.using(new DefaultConfiguration()
+            .set(connection)
+            .set(SQLDialect.H2)
+            .set(ExecuteListener.onExecuteStart(c -> executed.add(c.sql()))));
+
+        ctx.execute("create table book (id int primary key, author_id int, title varchar(50))");
+        ctx.execute("insert into book values (1, 1, '1984'), (2, 1, 'Animal Farm'), (3, 2, 'O Alquimista'), (4, 2, 'Brida'), (5, 3, 'Faust')");
+        executed.clear();
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        ctx.execute("drop table book");
+        connection.close();
+    }
+
+    @Test
+    public void testWindowCount() {
+        Page<Record2<Integer, String>> page = ctx.fetchPage(
+            ctx.select(ID, TITLE).from(BOOK).orderBy(ID).limit(2).offset(1));
+
+        assertEquals(5, page.totalCount());
+        assertEquals(2, page.result().fields().length);
+        assertEquals(Arrays.asList(2, 3), page.result().getValues(ID));
+        assertEquals(Arrays.asList("Animal Farm", "O Alquimista"), page.result().getValues(TITLE));
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testDistinct() {
+        Page<Record1<Integer>> page = ctx.fetchPage(
+            ctx.selectDistinct(AUTHOR_ID).from(BOOK).orderBy(AUTHOR_ID).limit(2));
+
+        // COUNT(*) OVER () would report the 5 rows before DISTINCT
+        assertEquals(3, page.totalCount());
+        assertEquals(1, page.result().fields().length);
+        assertEquals(Arrays.asList(1, 2), page.result().getValues(AUTHOR_ID));
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testGroupBy() {
+        Field<Integer> books = count().as("books");
+        Page<Record2<Integer, Integer>> page = ctx.fetchPage(
+            ctx.select(AUTHOR_ID, books).from(BOOK).groupBy(AUTHOR_ID).orderBy(AUTHOR_ID).limit(2).offset(1));
+
+        assertEquals(3, page.totalCount());
+        assertEquals(2, page.result().fields().length);
+        assertEquals(Arrays.asList(2, 3), page.result().getValues(AUTHOR_ID));
+        assertEquals(Arrays.asList(2, 1), page.result().getValues(books));
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testUnknownProjection() {
+        Page<Record> page = ctx.fetchPage(ctx.selectFrom(BOOK).orderBy(ID).limit(2));
+
+        assertEquals(5, page.totalCount());
+        assertEquals(3, page.result().fields().length);
+        assertEquals(Arrays.asList(1, 2), page.result().getValues(ID));
+    }
+
+    @Test
+    public void testLastPage() {
+        Page<Record2<Integer, String>> page = ctx.fetchPage(
+            ctx.select(ID, TITLE).from(BOOK).orderBy(ID).limit(2).offset(4));
+
+        assertEquals(5, page.totalCount());
+        assertEquals(Arrays.asList(5), page.result().getValues(ID));
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testEmptyPageBeyondLastPage() {
+        Page<Record2<Integer, String>> page = ctx.fetchPage(
+            ctx.select(ID, TITLE).from(BOOK).orderBy(ID).limit(2).offset(6));
+
+        assertEquals(5, page.totalCount());
+        assertEquals(0, page.result().size());
+        assertEquals(2, page.result().fields().length);
+        assertEquals(2, executed.size());
+    }
+
+    @Test
+    public void testEmptyFirstPage() {
+        Page<Record2<Integer, String>> page = ctx.fetchPage(
+            ctx.select(ID, TITLE).from(BOOK).where(falseCondition()).orderBy(ID).limit(2));
+
+        assertEquals(0, page.totalCount());
+        assertEquals(0, page.result().size());
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testNoLimit() {
+        Page<Record2<Integer, String>> page = ctx.fetchPage(
+            ctx.select(ID, TITLE).from(BOOK).where(AUTHOR_ID.eq(1)));
+
+        assertEquals(2, page.totalCount());
+        assertEquals(2, page.result().size());
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testUnion() {
+        Page<Record1<Integer>> page = ctx.fetchPage(
+            ctx.select(AUTHOR_ID).from(BOOK).union(ctx.select(ID).from(BOOK)).orderBy(1).limit(2));
+
+        assertEquals(5, page.totalCount());
+        assertEquals(Arrays.asList(1, 2), page.result().getValues(0, int.class));
+        assertEquals(2, executed.size());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.jooq.SQLDialect;
+import org.jooq.exception.IOException;
+import org.jooq.util.xml.jaxb.InformationSchema;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class InformationSchemaBinaryTest {
+
+    private InformationSchema schema;
+    private byte[]            bytes;
+
+    @Before
+    public void setup() {
+        schema = DSL.using(SQLDialect.H2).meta(
+            "create schema s;"
+          + "create domain s.d as int check (value > 0);"
+          + "create sequence s.q start with 1 increment by 2;"
+          + "create table s.t (id int primary key, d s.d, v varchar(10) default 'x' unique, n numeric(10, 2), check (id > 0));"
+          + "create table s.u (id int primary key, t_id int references s.t on delete cascade);"
+          + "create index i on s.u (t_id desc);"
+          + "create view s.v as select id from s.t;"
+          + "comment on table s.t is 'a table';"
+          + "comment on column s.t.v is 'a column';"
+        ).informationSchema();
+
+        bytes = write(schema);
+    }
+
+    private static byte[] write(InformationSchema schema) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InformationSchemaBinary.write(schema, out);
+        return out.toByteArray();
+    }
+
+    private static InformationSchema read(byte[] bytes) {
+        return InformationSchemaBinary.read(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        assertTrue(schema.getTables().size() > 0);
+        assertTrue(schema.getColumns().size() > 0);
+        assertEquals(schema, read(bytes));
+    }
+
+    @Test
+    public void testRoundTripEmpty() {
+        byte[] empty = write(new InformationSchema());
+        InformationSchema result = read(empty);
+
+        assertTrue(result.getCatalogs().isEmpty());
+        assertTrue(result.getTables().isEmpty());
+        assertTrue(Arrays.equals(empty, write(result)));
+    }
+
+    @Test
+    public void testRoundTripIsStable() {
+        assertTrue(Arrays.equals(bytes, write(read(bytes))));
+    }
+
+    @Test
+    public void testInvalidMagic() {
+        byte[] b = bytes.clone();
+        b[0] = 'x';
+        assertCannotRead(b);
+    }
+
+    @Test
+    public void testInvalidVersion() {
+        byte[] b = bytes.clone();
+        b[5] = 99;
+        assertCannotRead(b);
+    }
+
+    @Test
+    public void testTruncated() {
+        for (int i = 0; i < bytes.length; i++)
+            assertCannotRead(Arrays.copyOf(bytes, i));
+    }
+
+    @Test
+    public void testCorrupt() {
+
+        // Corrupt content may still be readable by chance, but it must not
+        // produce any exception other than the documented one
+        for (int i = 6; i < bytes.length; i++) {
+            for (byte value : new byte[] { 0, 1, 2, 0x7F, (byte) 0x80, (byte) 0xFF }) {
+                byte[] b = bytes.clone();
+                b[i] = value;
+
+                try {
+                    read(b);
+                }
+                catch (IOException expected) {}
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidStringReference() {
+
+        // Magic, version, a list of one catalog, whose name refers to a
+        // string that hasn't been read yet
+        assertCannotRead(new byte[] { 'j', 'O', 'O', 'Q', 'M', 1, 1, 5 });
+    }
+
+    @Test
+    public void testHugeLength() {
+
+        // Magic, version, a list of one catalog, whose name is a new string
+        // with a length of Integer.MAX_VALUE bytes, which aren't there
+        assertCannotRead(new byte[] { 'j', 'O', 'O', 'Q', 'M', 1, 1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 });
+    }
+
+    @Test
+    public void testNegativeLength() {
+        assertCannotRead(new byte[] { 'j', 'O', 'O', 'Q', 'M', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F });
+    }
+
+    private static void assertCannotRead(byte[] b) {
+        try {
+            read(b);
+            fail();
+        }
+        catch (IOException expected) {}
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.KeysetScan;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class KeysetScanImplTest {
+
+    private static final String         URL   = "jdbc:h2:mem:keysetScanImplTest;DB_CLOSE_DELAY=-1";
+    private static final Table<Record>  BOOK  = table(name("BOOK"));
+    private static final Field<Integer> ID    = field(name("BOOK", "ID"), int.class);
+    private static final Field<String>  TITLE = field(name("BOOK", "TITLE"), String.class);
+
+    private DSLContext                  ctx;
+    private List<String>                executed;
+    private List<Runnable>              tasks;
+
+    @Before
+    public void setup() {
+        executed = new ArrayList<>();
+        tasks = new ArrayList<>();
+
+        // Prefetching requires a connection per query
+        ctx = DSL.using(new DefaultConfiguration()
+            .set(new ConnectionProvider() {
+                @Override
+                public Connection acquire() throws DataAccessException {
+                    try {
+                        return DriverManager.getConnection(URL);
+                    }
+                    catch (SQLException e) {
+                        throw new DataAccessException("Could not connect", e);
+                    }
+                }
+
+                @Override
+                public void release(Connection c) throws DataAccessException {
+                    try {
+                        c.close();
+                    }
+                    catch (SQLException e) {
+                        throw new DataAccessException("Could not close", e);
+                    }
+                }
+            })
+            .set(SQLDialect.H2)
+            .set((Executor) r -> tasks.add(r))
+            .set(ExecuteListener.onExecuteStart(c -> executed.add(c.sql()))));
+
+        ctx.execute("create table book (id int primary key, title varchar(50))");
+        ctx.execute("insert into book values (1, '1984'), (2, 'Animal Farm'), (3, 'O Alquimista'), (4, 'Brida'), (5, 'Faust')");
+        executed.clear();
+    }
+
+    @After
+    public void teardown() {
+        ctx.execute("drop table book");
+    }
+
+    @Test
+    public void testChunks() {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        for (Result<Record2<Integer, String>> chunk : ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2))
+            chunks.add(chunk.getValues(ID));
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), chunks);
+
+        // The partial last chunk needs no further query
+        assertEquals(3, executed.size());
+    }
+
+    @Test
+    public void testChunksWithoutPartialLastChunk() {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        for (Result<Record2<Integer, String>> chunk : ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 5))
+            chunks.add(chunk.getValues(ID));
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3, 4, 5)), chunks);
+        assertEquals(2, executed.size());
+    }
+
+    @Test
+    public void testCheckpoint() {
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2);
+        assertNull(scan.checkpoint());
+
+        Iterator<Result<Record2<Integer, String>>> it = scan.iterator();
+        it.next();
+        assertArrayEquals(new Object[] { 2 }, scan.checkpoint());
+
+        // The checkpoint is a copy
+        scan.checkpoint()[0] = 42;
+        assertArrayEquals(new Object[] { 2 }, scan.checkpoint());
+
+        it.next();
+        assertArrayEquals(new Object[] { 4 }, scan.checkpoint());
+    }
+
+    @Test
+    public void testResume() {
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2);
+        scan.iterator().next();
+        Object[] checkpoint = scan.checkpoint();
+        scan.close();
+
+        List<Integer> ids = new ArrayList<>();
+        KeysetScan<Record2<Integer, String>> resumed = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2).after(checkpoint);
+        assertArrayEquals(new Object[] { 2 }, resumed.checkpoint());
+
+        for (Result<Record2<Integer, String>> chunk : resumed)
+            ids.addAll(chunk.getValues(ID));
+
+        assertEquals(Arrays.asList(3, 4, 5), ids);
+        assertArrayEquals(new Object[] { 5 }, resumed.checkpoint());
+    }
+
+    @Test
+    public void testResumeDescending() {
+        List<Integer> ids = new ArrayList<>();
+
+        for (Result<Record2<Integer, String>> chunk : ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID.desc()), 2).after(4))
+            ids.addAll(chunk.getValues(ID));
+
+        assertEquals(Arrays.asList(3, 2, 1), ids);
+    }
+
+    @Test
+    public void testPrefetch() {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2).prefetch(true);
+        Iterator<Result<Record2<Integer, String>>> it = scan.iterator();
+
+        // The second chunk is prefetched along with the first one
+        chunks.add(it.next().getValues(ID));
+        assertEquals(1, executed.size());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(2, executed.size());
+
+        chunks.add(it.next().getValues(ID));
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+
+        // The partial last chunk is not followed by another prefetch
+        chunks.add(it.next().getValues(ID));
+        assertFalse(it.hasNext());
+        assertEquals(0, tasks.size());
+        assertEquals(3, executed.size());
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), chunks);
+    }
+
+    @Test
+    public void testClose() {
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2).prefetch(true);
+        Iterator<Result<Record2<Integer, String>>> it = scan.iterator();
+
+        assertEquals(Arrays.asList(1, 2), it.next().getValues(ID));
+        assertEquals(1, tasks.size());
+
+        // The pending prefetch is discarded without being run
+        scan.close();
+        assertFalse(it.hasNext());
+        assertEquals(1, executed.size());
+        assertArrayEquals(new Object[] { 2 }, scan.checkpoint());
+    }
+
+    @Test
+    public void testCloseBeforeIteration() {
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2);
+        scan.close();
+
+        assertFalse(scan.iterator().hasNext());
+        assertEquals(0, executed.size());
+    }
+
+    @Test
+    public void testStreamClose() {
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2);
+
+        try (Stream<Result<Record2<Integer, String>>> stream = scan.stream()) {
+            assertEquals(Arrays.asList(1, 2), stream.findFirst().get().getValues(ID));
+        }
+
+        assertFalse(scan.iterator().hasNext());
+        assertEquals(1, executed.size());
+    }
+
+    @Test
+    public void testAfterWhileIterating() {
+        KeysetScan<Record2<Integer, String>> scan = ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2);
+        scan.iterator();
+
+        try {
+            scan.after(2);
+            fail();
+        }
+        catch (IllegalStateException expected) {}
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        try {
+            ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 2).after(1, 2);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        try {
+            ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID), 0);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        try {
+            ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK), 2);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        try {
+            ctx.fetchKeyset(ctx.select(ID, TITLE).from(BOOK).orderBy(ID).limit(10), 2);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+    }
+}
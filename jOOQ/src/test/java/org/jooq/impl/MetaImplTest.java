@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.Index;
+import org.jooq.Meta;
+import org.jooq.SQLDialect;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class MetaImplTest {
+
+    private Connection connection;
+
+    @Before
+    public void setup() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:metaImplTest");
+
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2);
+        ctx.execute("create schema a_b");
+        ctx.execute("create schema axb");
+        ctx.execute("create table a_b.t (id int primary key, x int)");
+        ctx.execute("create table a_b.u (id int primary key, t_id int references a_b.t)");
+        ctx.execute("create index a_b_i on a_b.t (x)");
+        ctx.execute("create table axb.t (id int, y int, z int, constraint axb_pk primary key (id, y))");
+        ctx.execute("create table axb.u (id int primary key, t_id int, t_y int, foreign key (t_id, t_y) references axb.t)");
+        ctx.execute("create index axb_i on axb.t (z)");
+    }
+
+    @After
+    public void teardown() {
+        JDBCUtils.safeClose(connection);
+    }
+
+    private Meta meta(boolean bulk) {
+        return DSL.using(connection, SQLDialect.H2, new Settings().withMetaBulkLoading(bulk)).meta();
+    }
+
+    private static List<String> names(Field<?>[] fields) {
+        List<String> result = new ArrayList<>();
+
+        for (Field<?> field : fields)
+            result.add(field.getName());
+
+        return result;
+    }
+
+    private static String summary(Schema schema) {
+        List<String> result = new ArrayList<>();
+
+        for (String name : asList("T", "U")) {
+            Table<?> table = schema.getTable(name);
+            assertNotNull(table);
+
+            List<String> indexes = new ArrayList<>();
+            for (Index index : table.getIndexes())
+                indexes.add(index.getName());
+
+            List<String> fks = new ArrayList<>();
+            for (ForeignKey<?, ?> fk : table.getReferences())
+                fks.add(fk.getFields().toString());
+
+            result.add(name + names(table.fields()) + table.getPrimaryKey().getFields() + fks + indexes);
+        }
+
+        return result.toString();
+    }
+
+    @Test
+    public void testBulkLoadingDoesNotMergeSchemasMatchingAsPattern() {
+        Meta meta = meta(true);
+
+        Schema ab = meta.getSchemas("A_B").get(0);
+        Schema axb = meta.getSchemas("AXB").get(0);
+
+        assertEquals(asList("ID", "X"), names(ab.getTable("T").fields()));
+        assertEquals(asList("ID", "Y", "Z"), names(axb.getTable("T").fields()));
+        assertEquals(1, ab.getTable("T").getPrimaryKey().getFields().size());
+        assertEquals(2, axb.getTable("T").getPrimaryKey().getFields().size());
+        assertEquals(1, ab.getTable("U").getReferences().size());
+        assertEquals(1, axb.getTable("U").getReferences().size());
+    }
+
+    @Test
+    public void testBulkLoadingMatchesLoadingPerTable() {
+        Meta bulk = meta(true);
+        Meta perTable = meta(false);
+
+        for (String schema : asList("A_B", "AXB"))
+            assertEquals(
+                summary(perTable.getSchemas(schema).get(0)),
+                summary(bulk.getSchemas(schema).get(0))
+            );
+    }
+
+    @Test
+    public void testInvalidate() {
+        Meta meta = meta(true);
+        int size = meta.getSchemas("AXB").get(0).getTables().size();
+
+        DSL.using(connection, SQLDialect.H2).execute("create table axb.v (id int)");
+        assertEquals(size, meta.getSchemas("AXB").get(0).getTables().size());
+
+        meta.invalidate();
+        assertEquals(size + 1, meta.getSchemas("AXB").get(0).getTables().size());
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParseNameCase;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class ParserCacheTest {
+
+    private DSLContext ctx;
+
+    @Before
+    public void setup() {
+        ctx = DSL.using(SQLDialect.H2, new Settings().withCacheParser(true));
+    }
+
+    private static Query template(Query query) {
+        if (query instanceof ParserCacheValue.CachedResultQuery)
+            return (Query) ((ParserCacheValue.CachedResultQuery) query).template;
+        else if (query instanceof ParserCacheValue.CachedQuery)
+            return ((ParserCacheValue.CachedQuery) query).template;
+        else
+            return null;
+    }
+
+    @Test
+    public void testCacheHit() {
+        Query q1 = ctx.parser().parseQuery("select a from t");
+        Query q2 = ctx.parser().parseQuery("select a from t");
+
+        assertNotSame(q1, q2);
+        assertSame(template(q1), template(q2));
+        assertEquals("select a from t", q2.getSQL().toLowerCase());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        DSLContext c = DSL.using(SQLDialect.H2);
+        assertTrue(c.parser().parseQuery("select a from t") instanceof SelectQueryImpl);
+    }
+
+    @Test
+    public void testCacheKeyContainsSQL() {
+        assertNotSame(template(ctx.parser().parseQuery("select a from t")), template(ctx.parser().parseQuery("select b from t")));
+    }
+
+    @Test
+    public void testCacheKeyContainsParserMethod() {
+        Query query = ctx.parser().parseQuery("select a from t");
+
+        assertNotSame(template(query), template(ctx.parser().parseResultQuery("select a from t")));
+        assertSame(template(query), template(ctx.parser().parseQuery("select a from t")));
+    }
+
+    @Test
+    public void testCacheKeyContainsSettings() {
+        ParseNameCase nameCase = ctx.settings().getParseNameCase();
+        Query q1 = template(ctx.parser().parseQuery("select a from t"));
+
+        ctx.settings().setParseNameCase(ParseNameCase.LOWER);
+        Query q2 = template(ctx.parser().parseQuery("select a from t"));
+        assertNotSame(q1, q2);
+        assertSame(q2, template(ctx.parser().parseQuery("select a from t")));
+
+        ctx.settings().setParseNameCase(nameCase);
+        assertSame(q1, template(ctx.parser().parseQuery("select a from t")));
+    }
+
+    @Test
+    public void testCacheKeyContainsConfiguration() {
+        DSLContext derived = DSL.using(ctx.configuration().derive());
+
+        Query q1 = ctx.parser().parseQuery("select a from t");
+        Query q2 = derived.parser().parseQuery("select a from t");
+
+        assertNotSame(template(q1), template(q2));
+        assertSame(ctx.configuration(), q1.configuration());
+        assertSame(derived.configuration(), q2.configuration());
+    }
+
+    @Test
+    public void testCacheKeyContainsBindValueTypes() {
+        Query q1 = ctx.parser().parseQuery("select a from t where a = ?", 1);
+        Query q2 = ctx.parser().parseQuery("select a from t where a = ?", 2);
+        Query q3 = ctx.parser().parseQuery("select a from t where a = ?", "3");
+
+        assertSame(template(q1), template(q2));
+        assertNotSame(template(q1), template(q3));
+    }
+
+    @Test
+    public void testBindValuesAreSubstituted() {
+        Query q1 = ctx.parser().parseQuery("select a from t where a = ? and b = ?", 1, "x");
+        Query q2 = ctx.parser().parseQuery("select a from t where a = ? and b = ?", 2, "y");
+
+        assertSame(template(q1), template(q2));
+        assertEquals(List.of(1, "x"), q1.getBindValues());
+        assertEquals(List.of(2, "y"), q2.getBindValues());
+        assertEquals("select a from t where (a = 2 and b = 'y')", ctx.renderInlined(q2).toLowerCase());
+    }
+
+    @Test
+    public void testNamedBindValuesAreSubstituted() {
+        Query q1 = ctx.parser().parseQuery("select a from t where a = :x or b = :x", 1, 2);
+        Query q2 = ctx.parser().parseQuery("select a from t where a = :x or b = :x", 3, 4);
+
+        assertSame(template(q1), template(q2));
+        assertEquals(List.of(3, 4), q2.getBindValues());
+    }
+
+    @Test
+    public void testParamsAreNotShared() {
+        Query q1 = ctx.parser().parseQuery("select a from t where a = ?");
+        Query q2 = ctx.parser().parseQuery("select a from t where a = ?");
+        assertSame(template(q1), template(q2));
+
+        q1.bind(1, 42);
+        assertEquals(42, q1.getBindValues().get(0));
+        assertNull(q2.getBindValues().get(0));
+        assertNull(ctx.parser().parseQuery("select a from t where a = ?").getBindValues().get(0));
+    }
+
+    @Test
+    public void testLiteralsAreNotShared() {
+        Query q1 = ctx.parser().parseQuery("select a from t where a = 1");
+        Query q2 = ctx.parser().parseQuery("select a from t where a = 1");
+        assertSame(template(q1), template(q2));
+
+        q1.bind(1, 42);
+        assertEquals("select a from t where a = 42", ctx.renderInlined(q1).toLowerCase());
+        assertEquals("select a from t where a = 1", ctx.renderInlined(q2).toLowerCase());
+    }
+
+    @Test
+    public void testQueryModelsAreNotCached() {
+        assertTrue(ctx.parser().parseQuery("create table t (a int)") instanceof CreateTableImpl);
+        assertTrue(ctx.parser().parseQuery("create table t (a int)") instanceof CreateTableImpl);
+        assertTrue(ctx.parser().parseQuery("insert into t (a) values (1) returning a") instanceof DMLQueryAsResultQuery);
+        assertTrue(ctx.parser().parseQuery("insert into t (a) values (1) returning a") instanceof DMLQueryAsResultQuery);
+        assertTrue(ctx.parser().parse("select a from t").queries()[0] instanceof SelectQueryImpl);
+    }
+
+    @Test
+    public void testConcurrentExecution() throws Exception {
+        // Each execution gets its own connection
+        DSLContext c = DSL.using(new ConnectionProvider() {
+            @Override
+            public Connection acquire() {
+                try {
+                    return DriverManager.getConnection("jdbc:h2:mem:parserCacheTest;DB_CLOSE_DELAY=-1");
+                }
+                catch (SQLException e) {
+                    throw new DataAccessException("Cannot connect", e);
+                }
+            }
+
+            @Override
+            public void release(Connection connection) {
+                JDBCUtils.safeClose(connection);
+            }
+        }, SQLDialect.H2, new Settings().withCacheParser(true));
+        c.execute("create table t (a int primary key, b varchar(10))");
+
+        int threads = 8;
+        int iterations = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        int a = thread * iterations + i;
+
+                        assertEquals(1, c.parser().parseQuery("insert into t (a, b) values (?, ?)", a, "b" + a).execute());
+                        Result<?> result = c.parser().parseResultQuery("select a, b from t where a = ?", a).fetch();
+
+                        assertEquals(1, result.size());
+                        assertEquals(a, result.get(0).get(0, int.class).intValue());
+                        assertEquals("b" + a, result.get(0).get(1, String.class));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+
+            assertEquals(threads * iterations, c.parser().parseResultQuery("select count(*) from t").fetchOne(0, int.class).intValue());
+        }
+        finally {
+            executor.shutdown();
+            c.execute("drop table t");
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+
+import org.junit.Test;
+
+/**
+ * Tests for keyword peeking in the parser, in particular after the parser has
+ * backtracked to an earlier position, or has been reset for a new statement.
+ *
+ * @author Lukas Eder
+ */
+public class ParserKeywordTest {
+
+    private final DSLContext ctx    = DSL.using(SQLDialect.H2);
+    private final Parser     parser = ctx.parser();
+
+    private void assertParse(String expected, String sql) {
+        assertEquals(expected, ctx.render(parser.parseQuery(sql)));
+    }
+
+    private void assertParseSame(String expected, String sql) {
+        assertEquals(ctx.render(parser.parseQuery(expected)), ctx.render(parser.parseQuery(sql)));
+    }
+
+    private List<String> render(Queries queries) {
+        List<String> result = new ArrayList<>();
+
+        for (Query query : queries)
+            result.add(ctx.render(query));
+
+        return result;
+    }
+
+    @Test
+    public void testIdentifiersStartingWithKeywords() {
+        assertParse("select FROMX from T", "select fromx from t");
+        assertParse("select SELECTED from T where WHEREVER = 1", "select selected from t where wherever = 1");
+        assertParse("select A ORDERS from T", "select a orders from t");
+        assertParse("select current_date, CURRENT_DATE_X from T", "select current_date, current_date_x from t");
+    }
+
+    @Test
+    public void testQuotedAndQualifiedKeywords() {
+        assertParse("select A \"from\" from T", "select a \"from\" from t");
+        assertParse("select T.FROM from T", "select t.from from t");
+    }
+
+    @Test
+    public void testFunctionsAndIdentifiersWithTheSameName() {
+        assertParse("select left('abc', 1), LEFT from T", "select left('abc', 1), left from t");
+    }
+
+    @Test
+    public void testWhitespaceAndCommentsBetweenKeywords() {
+        assertParseSame(
+            "select a from t where a is not distinct from b order by a",
+            "select a from t where a is /* x */ not\ndistinct -- y\nfrom b order\n\tby a"
+        );
+        assertParseSame(
+            "select a from t fetch first 1 rows only",
+            "select a from t fetch /* x */ first 1 rows\nonly"
+        );
+    }
+
+    @Test
+    public void testBacktrackingIntoParentheses() {
+        assertParseSame("select a from t union select b from u", "(select a from t) union (select b from u)");
+        assertParseSame("select a from t union all select b from u", "((select a from t)) union all (select b from u)");
+        assertParseSame("select a from t where (a, b) in ((1, 2), (3, 4))", "select a from t where (a, b) in ((1, 2), (3, 4))");
+        assertParseSame("select a from t where a = 1", "select a from t where (a) = 1");
+        assertParseSame("select a from t where a = (select b from u)", "select a from t where (a) = ((select b from u))");
+        assertParseSame(
+            "select * from t join u on t.a = u.a left join v on u.b = v.b",
+            "select * from (t join u on t.a = u.a) left join v on u.b = v.b"
+        );
+    }
+
+    @Test
+    public void testMultipleStatements() {
+        assertEquals(
+            List.of("select A from T", "select FROMX from U", "select B from V"),
+            render(parser.parse("select a from t; select fromx from u; select b from v"))
+        );
+    }
+
+    @Test
+    public void testMultipleStatementsWithDelimiterChange() {
+        assertEquals(
+            List.of("select A from T", "select B from U", "select FROMX from V", "select C from W"),
+            render(parser.parse("select a from t;\ndelimiter !\nselect b from u!\nselect fromx from v!\ndelimiter ;\nselect c from w;"))
+        );
+    }
+
+    @Test
+    public void testRepeatedParsing() {
+        for (int i = 0; i < 3; i++) {
+            assertParse("select FROMX from T", "select fromx from t");
+            assertParse("select A from T", "select a from t");
+        }
+    }
+}
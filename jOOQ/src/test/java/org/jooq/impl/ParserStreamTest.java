@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class ParserStreamTest {
+
+    /**
+     * The size of the initial window of {@link DefaultParseContext}.
+     */
+    private static final int WINDOW = 65536;
+
+    private DSLContext ctx;
+
+    @Before
+    public void setup() {
+        ctx = DSL.using(SQLDialect.H2);
+    }
+
+    @Test
+    public void testEmptyScript() {
+        assertEquivalent("");
+        assertEquivalent("  \n ");
+        assertEquivalent(";;");
+    }
+
+    @Test
+    public void testSmallScript() {
+        assertEquivalent("select 1; select 2 from t; create table t (i int); insert into t values (1)");
+        assertEquivalent("select 1;\n/* comment */\nselect 2;\n-- comment\n");
+    }
+
+    @Test
+    public void testQueryStraddlingWindow() {
+        for (int shift = -20; shift <= 20; shift++) {
+            StringBuilder sb = filler(WINDOW + shift - 30);
+            sb.append("select a, ?, 'abc', 12345, ? from t where b = ?;\n");
+            sb.append("select ? from u;");
+            assertEquivalent(sb.toString());
+        }
+    }
+
+    @Test
+    public void testLiteralStraddlingWindow() {
+        StringBuilder sb = filler(WINDOW - 100);
+        sb.append("select ?, '");
+        for (int i = 0; i < 1000; i++)
+            sb.append('x');
+        sb.append("' from t;\nselect ?;");
+        assertEquivalent(sb.toString());
+    }
+
+    @Test
+    public void testQueryLargerThanWindow() {
+        StringBuilder sb = new StringBuilder("select 1 from t where a in (?");
+        while (sb.length() < 3 * WINDOW)
+            sb.append(", ?");
+        sb.append(");\nselect ?;");
+        assertEquivalent(sb.toString());
+    }
+
+    @Test
+    public void testUnterminatedLiteral() {
+        assertEquivalentError("select 1;\nselect 'abc");
+        assertEquivalentError(filler(WINDOW - 5) + "select 'abc");
+        assertEquivalentError(filler(2 * WINDOW) + "select 'abc");
+    }
+
+    @Test
+    public void testDelimiter() {
+        assertEquivalent("DELIMITER @\nselect 1@\nselect 2@\nDELIMITER ;\nselect 3;");
+
+        for (int shift = -10; shift <= 10; shift++)
+            assertEquivalent(filler(WINDOW + shift) + "DELIMITER @\nselect 1@\nselect 2@\nDELIMITER ;\nselect 3;");
+    }
+
+    @Test
+    public void testErrorPositionAfterWindowShift() {
+        ParserException e = assertEquivalentError(filler(3 * WINDOW) + "select 1;\nselect 1 +;\nselect 2;");
+        assertTrue(e.position() > 3 * WINDOW);
+        assertTrue(e.line() > 1);
+    }
+
+    /**
+     * Lines of short queries of a total length of about <code>length</code>.
+     */
+    private static final StringBuilder filler(int length) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; sb.length() < length; i++)
+            sb.append("select ").append(i).append(";\n");
+
+        return sb;
+    }
+
+    private final List<Query> stream(String script) {
+        try (Stream<Query> stream = ctx.parser().parseStream(new StringReader(script))) {
+            return stream.collect(toList());
+        }
+    }
+
+    private final void assertEquivalent(String script) {
+        List<Query> expected = asList(ctx.parser().parse(script).queries());
+        List<Query> actual = stream(script);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertEquals(expected.get(i).getParams().keySet(), actual.get(i).getParams().keySet());
+        }
+    }
+
+    private final ParserException assertEquivalentError(String script) {
+        ParserException expected = null;
+        ParserException actual = null;
+
+        try {
+            ctx.parser().parse(script);
+            fail();
+        }
+        catch (ParserException e) {
+            expected = e;
+        }
+
+        try {
+            stream(script);
+            fail();
+        }
+        catch (ParserException e) {
+            actual = e;
+        }
+
+        assertEquals(expected.position(), actual.position());
+        assertEquals(expected.line(), actual.line());
+        assertEquals(expected.column(), actual.column());
+        return actual;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.SlowQueryListener.SlowQuery;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class SlowQueryListenerTest {
+
+    private static final String       URL = "jdbc:h2:mem:slowQueryListenerTest;DB_CLOSE_DELAY=-1";
+
+    private Connection                connection;
+    private DSLContext                explain;
+    private BlockingQueue<SlowQuery>  explained;
+
+    @Before
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(URL);
+        explained = new LinkedBlockingQueue<>();
+        explain = DSL.using(new ConnectionProvider() {
+            @Override
+            public Connection acquire() {
+                try {
+                    return DriverManager.getConnection(URL);
+                }
+                catch (SQLException e) {
+                    throw new DataAccessException("Cannot connect", e);
+                }
+            }
+
+            @Override
+            public void release(Connection c) {
+                JDBCUtils.safeClose(c);
+            }
+        }, SQLDialect.H2);
+
+        dsl(new SlowQueryListener(explain.configuration(), 0L)).execute("create table t (i int)");
+    }
+
+    @After
+    public void teardown() throws SQLException {
+        try {
+            DSL.using(connection, SQLDialect.H2).execute("drop all objects");
+        }
+        finally {
+            connection.close();
+        }
+    }
+
+    private DSLContext dsl(SlowQueryListener listener) {
+        return DSL.using(new DefaultConfiguration()
+            .set(connection)
+            .set(SQLDialect.H2)
+            .set(new DefaultExecuteListenerProvider(listener)));
+    }
+
+    private SlowQueryListener listener(long thresholdMillis, int maxExplainsPerMinute, Consumer<? super SlowQuery> consumer) {
+        return new SlowQueryListener(explain.configuration(), thresholdMillis, TimeUnit.MILLISECONDS, maxExplainsPerMinute, consumer);
+    }
+
+    private SlowQuery poll() throws InterruptedException {
+        return explained.poll(5, TimeUnit.SECONDS);
+    }
+
+    private SlowQuery pollNone() throws InterruptedException {
+        return explained.poll(200, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testThreshold() throws InterruptedException {
+        dsl(listener(TimeUnit.HOURS.toMillis(1), 10, explained::add)).selectOne().fetch();
+        assertNull(pollNone());
+
+        dsl(listener(0, 10, explained::add)).select(field(name("I"))).from(table(name("T"))).where(field(name("I")).eq(1)).fetch();
+        SlowQuery query = poll();
+
+        assertNotNull(query);
+        assertEquals("select \"I\" from \"T\" where \"I\" = 1", query.inlinedSQL());
+        assertTrue(query.sql().contains("?"));
+        assertNotNull(query.explain());
+    }
+
+    @Test
+    public void testRateLimit() throws InterruptedException {
+        DSLContext ctx = dsl(listener(0, 2, explained::add));
+
+        for (int i = 0; i < 5; i++)
+            ctx.selectOne().fetch();
+
+        assertNotNull(poll());
+        assertNotNull(poll());
+        assertNull(pollNone());
+    }
+
+    @Test
+    public void testSelectOnly() throws InterruptedException {
+        DSLContext ctx = dsl(listener(0, 10, explained::add));
+
+        ctx.insertInto(table(name("T"))).values(1).execute();
+        ctx.update(table(name("T"))).set(field(name("I")), 2).execute();
+        ctx.deleteFrom(table(name("T"))).where(field(name("I")).eq(3)).execute();
+        ctx.resultQuery("select 1").fetch();
+        ctx.execute("select 1");
+        assertNull(pollNone());
+
+        ctx.selectOne().fetch();
+        assertNotNull(poll());
+        assertNull(pollNone());
+    }
+
+    @Test
+    public void testDroppedQueriesDontCountTowardsRateLimit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+
+        // 1 running and 16 pending explains, with 3 more being dropped, and
+        // 1 explain to spare
+        DSLContext ctx = dsl(listener(0, 18, q -> {
+            started.countDown();
+
+            try {
+                blocked.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            explained.add(q);
+        }));
+
+        ctx.selectOne().fetch();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 16 + 3; i++)
+            ctx.selectOne().fetch();
+
+        blocked.countDown();
+        for (int i = 0; i < 17; i++)
+            assertNotNull(poll());
+
+        assertNull(pollNone());
+
+        ctx.selectOne().fetch();
+        assertNotNull(poll());
+
+        ctx.selectOne().fetch();
+        assertNull(pollNone());
+    }
+
+    @Test
+    public void testConsumerExceptionsAreCaught() throws InterruptedException {
+        CountDownLatch called = new CountDownLatch(2);
+        DSLContext ctx = dsl(listener(0, 10, q -> {
+            called.countDown();
+            throw new IllegalStateException("Expected");
+        }));
+
+        ctx.selectOne().fetch();
+        ctx.selectOne().fetch();
+        assertTrue(called.await(5, TimeUnit.SECONDS));
+    }
+}